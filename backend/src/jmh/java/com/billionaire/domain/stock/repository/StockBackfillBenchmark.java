@@ -0,0 +1,127 @@
+package com.billionaire.domain.stock.repository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.billionaire.domain.stock.entity.Stock;
+import com.billionaire.global.constants.TradingConstants;
+
+/**
+ * 2008-01-02부터 오늘까지의 일봉을 빈 테이블에 처음 저장(콜드 백필)할 때의 초당 저장 행 수를 측정합니다.
+ * 결과의 rows 보조 지표가 rows/s 입니다.
+ *
+ * 사전 조건: 애플리케이션을 한 번 실행하여 stock 테이블이 생성된 PostgreSQL (docker-compose의 db)
+ * 실행: DB_URL=jdbc:postgresql://localhost:5432/billionaire_db DB_PASSWORD=1234 \
+ *       ./gradlew :backend:jmh -PjmhIncludes=StockBackfillBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StockBackfillBenchmark {
+	private static final String TICKER = "JMH_BACKFILL";
+	private static final String SINGLE_INSERT_SQL = "INSERT INTO stock (ticker, date, price) VALUES (?, ?, ?)";
+
+	private SingleConnectionDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+	private StockBulkRepositoryImpl bulkRepository;
+	private List<Stock> backfill;
+
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class RowCounter {
+		public long rows;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		String url = env("DB_URL", "jdbc:postgresql://localhost:5432/billionaire_db");
+		dataSource = new SingleConnectionDataSource(
+			url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+			env("DB_USERNAME", "user"),
+			env("DB_PASSWORD", "1234"),
+			true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		bulkRepository = new StockBulkRepositoryImpl(jdbcTemplate);
+		backfill = createColdBackfill();
+	}
+
+	@Setup(Level.Invocation)
+	public void clearTicker() {
+		jdbcTemplate.update("DELETE FROM stock WHERE ticker = ?", TICKER);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		clearTicker();
+		dataSource.destroy();
+	}
+
+	// 기존 경로: IDENTITY 전략의 saveAll과 같이 한 행씩 INSERT 후 생성 키를 돌려받음
+	@Benchmark
+	public void rowByRowInsert(RowCounter counter) {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (Stock stock : backfill) {
+				jdbcTemplate.update(connection -> {
+					var ps = connection.prepareStatement(SINGLE_INSERT_SQL, new String[] {"id"});
+					ps.setString(1, stock.getTicker());
+					ps.setObject(2, stock.getDate());
+					ps.setDouble(3, stock.getPrice());
+					return ps;
+				}, new GeneratedKeyHolder());
+			}
+		});
+		counter.rows += backfill.size();
+	}
+
+	// 신규 경로: 배치 INSERT ... ON CONFLICT DO NOTHING
+	@Benchmark
+	public void bulkInsert(RowCounter counter) {
+		transactionTemplate.executeWithoutResult(status -> bulkRepository.insertAllIgnoringDuplicates(backfill));
+		counter.rows += backfill.size();
+	}
+
+	private static List<Stock> createColdBackfill() {
+		List<Stock> stocks = new ArrayList<>();
+		double price = 100.0;
+		for (LocalDate date = TradingConstants.History.START_DATE; date.isBefore(LocalDate.now()); date = date.plusDays(1)) {
+			if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+				continue;
+			}
+			price *= 1.0 + (Math.sin(date.toEpochDay()) * 0.01);
+			stocks.add(Stock.builder().ticker(TICKER).date(date).price(price).build());
+		}
+		return stocks;
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
@@ -0,0 +1,183 @@
+package com.billionaire.domain.strategy.custom.scheduler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.billionaire.BackendApplication;
+import com.billionaire.simulator.BrokerSimulator;
+import com.billionaire.simulator.SimulatorOptions;
+
+/**
+ * 로컬 브로커 시뮬레이터에 연결한 애플리케이션 전체를 띄워 종단 간 지연 시간을 측정합니다. (외부 네트워크 접근 없음)
+ * - schedulerExecute: CustomScheduler.execute 1회 (시가총액 → 매수 후보 → 일봉 동기화 → 공황 판단 → 잔고 → 매도/체결 대기 → 매수)
+ * - 나머지: REST 엔드포인트를 8개 스레드로 동시에 호출할 때의 응답 시간 분포
+ *   (previewRebalance는 거래일 캐시 적중, previewRebalanceRefresh는 refresh=true로 매번 재계산)
+ * 2008년부터의 일봉을 처음 채우는 콜드 백필은 측정 전에 한 번 실행해 두므로, 결과는 매일 장 전 실행과 같은 증분 동기화 기준입니다.
+ * 시뮬레이터의 지연/오류 주입은 -Dsim.* 시스템 속성으로 바꿉니다 (SimulatorOptions 참고).
+ *
+ * 사전 조건: 시세 이력이 실제 데이터와 섞이지 않도록 별도 데이터베이스 (테이블은 애플리케이션이 생성)
+ *   docker compose exec db createdb -U user billionaire_sim
+ * 실행: SIM_DB_URL=jdbc:postgresql://localhost:5432/billionaire_sim DB_PASSWORD=1234 \
+ *       ./gradlew :backend:jmh -PjmhIncludes=RebalanceEndToEndBenchmark
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dsim.latency-millis=30", "-Dsim.jitter-millis=20"})
+public class RebalanceEndToEndBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(RebalanceEndToEndBenchmark.class);
+
+	private BrokerSimulator simulator;
+	private ConfigurableApplicationContext context;
+	private CustomScheduler customScheduler;
+	private HttpClient httpClient;
+	private String appBaseUrl;
+
+	// 리밸런싱마다 모의 계좌를 처음 상태로 되돌림 (REST 측정에는 영향 없음)
+	@State(Scope.Thread)
+	public static class AccountReset {
+		@Setup(Level.Invocation)
+		public void reset(RebalanceEndToEndBenchmark benchmark) {
+			benchmark.simulator.market().reset();
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		simulator = BrokerSimulator.start(SimulatorOptions.fromSystemProperties(), 0);
+
+		// 명령행 인자는 application.properties보다 우선하므로 증권사 호출이 실제 서버로 나가지 않음
+		context = new SpringApplicationBuilder(BackendApplication.class).run(List.of(
+			"--ks.base-url=" + simulator.baseUrl(),
+			"--ks.app-key=simulator",
+			"--ks.app-secret=simulator",
+			"--ks.account-number=00000000",
+			"--ks.account-product-code=01",
+			"--spring.datasource.url=" + env("SIM_DB_URL", "jdbc:postgresql://localhost:5432/billionaire_sim"),
+			"--spring.datasource.username=" + env("DB_USERNAME", "user"),
+			"--spring.datasource.password=" + env("DB_PASSWORD", "1234"),
+			"--server.port=0",
+			"--app.market-cap.providers=file",
+			"--app.rebalance.warm-up.cron=-"
+		).toArray(String[]::new));
+		if (!simulator.baseUrl().equals(context.getEnvironment().getProperty("ks.base-url"))) {
+			throw new IllegalStateException("ks.base-url이 시뮬레이터를 가리키지 않습니다");
+		}
+
+		customScheduler = context.getBean(CustomScheduler.class);
+		appBaseUrl = "http://127.0.0.1:" + ((WebServerApplicationContext)context).getWebServer().getPort();
+		httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+		customScheduler.execute();
+		simulator.market().reset();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		log.info("시뮬레이터 요청 수: {}, 오류 주입: {}", simulator.getRequestCounts(), simulator.getInjectedErrorCount());
+		context.close();
+		simulator.close();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2)
+	@Measurement(iterations = 10)
+	@Threads(1)
+	public void schedulerExecute(AccountReset accountReset) throws IOException {
+		customScheduler.execute();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2, time = 5)
+	@Measurement(iterations = 5, time = 5)
+	@Threads(8)
+	public int getAccount() throws IOException, InterruptedException {
+		return get("/api/account");
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2, time = 5)
+	@Measurement(iterations = 5, time = 5)
+	@Threads(8)
+	public int getStockHistory() throws IOException, InterruptedException {
+		return get("/api/stocks/AAPL?limit=250");
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2, time = 5)
+	@Measurement(iterations = 5, time = 5)
+	@Threads(8)
+	public int getNasdaqIndex() throws IOException, InterruptedException {
+		return get("/api/indices/nasdaq?limit=250");
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2, time = 5)
+	@Measurement(iterations = 5, time = 5)
+	@Threads(8)
+	public int previewRebalance() throws IOException, InterruptedException {
+		return get("/api/scheduler/preview");
+	}
+
+	// 캐시를 거치지 않고 매번 미리보기를 다시 계산 (잔고/시세 조회와 판단 단계 전체)
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2, time = 5)
+	@Measurement(iterations = 5, time = 5)
+	@Threads(8)
+	public int previewRebalanceRefresh() throws IOException, InterruptedException {
+		return get("/api/scheduler/preview?refresh=true");
+	}
+
+	// 응답 본문 길이를 반환 (JMH가 결과를 버리지 않도록)
+	private int get(String path) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(appBaseUrl + path))
+			.timeout(Duration.ofSeconds(30))
+			.GET()
+			.build();
+		HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		if (response.statusCode() >= 400) {
+			throw new IllegalStateException(path + " 응답 " + response.statusCode());
+		}
+		return response.body().length;
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
@@ -0,0 +1,166 @@
+package com.billionaire.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.billionaire.global.config.HttpClientConfig;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+/**
+ * 로컬 HTTPS 스텁 서버에 대한 호출 1회당 지연 시간을 비교합니다.
+ * - simpleFactory: 기존 ApiUtils와 같은 new RestTemplate() (SimpleClientHttpRequestFactory)
+ * - pooledClient: HttpClientConfig의 커넥션 풀 클라이언트
+ * closeConnection=true이면 스텁이 매 응답마다 연결을 끊어(Connection: close) 호출마다 TCP/TLS 핸드셰이크 비용이 들고,
+ * false이면 두 클라이언트의 연결 재사용 차이가 드러납니다.
+ *
+ * 사전 조건: 없음 (자체 서명 인증서는 JDK keytool로 임시 생성)
+ * 실행: ./gradlew :backend:jmh -PjmhIncludes=BrokerHttpClientBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class BrokerHttpClientBenchmark {
+	private static final String STORE_PASSWORD = "changeit";
+	private static final byte[] BODY = "{\"rt_cd\":\"0\",\"msg_cd\":\"MCA00000\",\"msg1\":\"정상처리 되었습니다.\"}"
+		.getBytes(StandardCharsets.UTF_8);
+
+	@Param({"false", "true"})
+	public boolean closeConnection;
+
+	private Path keyStorePath;
+	private HttpsServer server;
+	private ExecutorService serverExecutor;
+	private String url;
+	private RestTemplate simpleRestTemplate;
+	private RestTemplate pooledRestTemplate;
+	private CloseableHttpClient pooledHttpClient;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		keyStorePath = Files.createTempFile("broker-stub", ".p12");
+		Files.delete(keyStorePath);
+		generateKeyStore(keyStorePath);
+		SSLContext sslContext = sslContext(keyStorePath);
+
+		server = HttpsServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+		server.createContext("/uapi", exchange -> {
+			try (InputStream ignored = exchange.getRequestBody()) {
+				if (closeConnection) {
+					exchange.getResponseHeaders().add("Connection", "close");
+				}
+				exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+				exchange.sendResponseHeaders(200, BODY.length);
+				try (OutputStream outputStream = exchange.getResponseBody()) {
+					outputStream.write(BODY);
+				}
+			}
+		});
+		serverExecutor = Executors.newFixedThreadPool(8);
+		server.setExecutor(serverExecutor);
+		server.start();
+		url = "https://localhost:" + server.getAddress().getPort() + "/uapi/overseas-price/v1/quotations/price";
+
+		simpleRestTemplate = new RestTemplate(new SimpleClientHttpRequestFactory() {
+			@Override
+			protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+				super.prepareConnection(connection, httpMethod);
+				if (connection instanceof HttpsURLConnection httpsConnection) {
+					httpsConnection.setSSLSocketFactory(sslContext.getSocketFactory());
+				}
+			}
+		});
+
+		PoolingHttpClientConnectionManager connectionManager =
+			HttpClientConfig.connectionManager(20, 10, 3_000, 10_000, sslContext);
+		pooledHttpClient = HttpClientConfig.httpClient(connectionManager, 3_000, 30);
+		pooledRestTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(pooledHttpClient));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		pooledHttpClient.close();
+		server.stop(0);
+		serverExecutor.shutdownNow();
+		Files.deleteIfExists(keyStorePath);
+	}
+
+	@Benchmark
+	public String simpleFactory() {
+		return simpleRestTemplate.getForObject(url, String.class);
+	}
+
+	@Benchmark
+	public String pooledClient() {
+		return pooledRestTemplate.getForObject(url, String.class);
+	}
+
+	// localhost용 자체 서명 인증서 (서버 키와 클라이언트 신뢰 저장소로 함께 사용)
+	private static void generateKeyStore(Path path) throws IOException, InterruptedException {
+		String keytool = Path.of(System.getProperty("java.home"), "bin", "keytool").toString();
+		Process process = new ProcessBuilder(keytool, "-genkeypair", "-alias", "broker-stub", "-keyalg", "RSA",
+			"-keysize", "2048", "-storetype", "PKCS12", "-keystore", path.toString(), "-storepass", STORE_PASSWORD,
+			"-dname", "CN=localhost", "-validity", "1", "-ext", "SAN=dns:localhost,ip:127.0.0.1")
+			.redirectErrorStream(true)
+			.start();
+		process.getInputStream().transferTo(OutputStream.nullOutputStream());
+		if (process.waitFor() != 0) {
+			throw new IllegalStateException("keytool 실행 실패");
+		}
+	}
+
+	private static SSLContext sslContext(Path path) throws Exception {
+		KeyStore keyStore = KeyStore.getInstance("PKCS12");
+		try (InputStream inputStream = Files.newInputStream(path)) {
+			keyStore.load(inputStream, STORE_PASSWORD.toCharArray());
+		}
+		KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keyManagerFactory.init(keyStore, STORE_PASSWORD.toCharArray());
+		TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		trustManagerFactory.init(keyStore);
+
+		SSLContext sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
+		return sslContext;
+	}
+}
@@ -0,0 +1,107 @@
+package com.billionaire.global.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.billionaire.domain.stock.entity.Stock;
+import com.billionaire.global.dto.internal.MarketPriceDetailedInfoRes;
+import com.billionaire.global.dto.internal.MarketPriceRes;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 일봉 응답 한 페이지(100봉, 날짜 내림차순, 사용하지 않는 필드 포함)를 Stock 목록으로 바꾸는 비용을 비교합니다.
+ * - objectMapperDto: 기존 방식 (MarketPriceRes 바인딩 → 문자열 날짜 파싱/정렬 → Double.valueOf)
+ * - streamingParser: ChartResponseParser로 재사용 버퍼에 채운 뒤 Stock 생성
+ * 할당량 비교는 -prof gc 옵션으로 확인합니다 (gc.alloc.rate.norm).
+ *
+ * 사전 조건: 없음
+ * 실행: ./gradlew :backend:jmh -PjmhIncludes=ChartResponseParserBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChartResponseParserBenchmark {
+	private static final String TICKER = "AAPL";
+	private static final int ROWS = 100;
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	private final ChartBarBuffer buffer = new ChartBarBuffer();
+	private byte[] body;
+
+	@Setup
+	public void setUp() {
+		StringBuilder json = new StringBuilder(ROWS * 200);
+		json.append("{\"rt_cd\":\"0\",\"msg_cd\":\"MCA00000\",\"msg1\":\"정상처리 되었습니다.\",")
+			.append("\"output1\":{\"ovrs_nmix_prdy_vrss\":\"1.2300\",\"prdy_vrss_sign\":\"2\",\"hts_kor_isnm\":\"애플\"},")
+			.append("\"output2\":[");
+		LocalDate date = LocalDate.of(2024, 12, 31);
+		double price = 250.0;
+		for (int i = 0; i < ROWS; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"stck_bsop_date\":\"").append(DateUtils.format(date)).append('"')
+				.append(",\"ovrs_nmix_prpr\":\"").append(String.format(Locale.ROOT, "%.4f", price)).append('"')
+				.append(",\"ovrs_nmix_oprc\":\"").append(String.format(Locale.ROOT, "%.4f", price - 1.5)).append('"')
+				.append(",\"ovrs_nmix_hgpr\":\"").append(String.format(Locale.ROOT, "%.4f", price + 2.25)).append('"')
+				.append(",\"ovrs_nmix_lwpr\":\"").append(String.format(Locale.ROOT, "%.4f", price - 3.75)).append('"')
+				.append(",\"acml_vol\":\"").append(40_000_000 + i * 1_234).append('"')
+				.append(",\"mod_yn\":\"N\"}");
+			date = date.minusDays(1);
+			price -= 0.37;
+		}
+		json.append("]}");
+		body = json.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public List<Stock> objectMapperDto() throws IOException {
+		MarketPriceRes response = objectMapper.readValue(body, MarketPriceRes.class);
+		return response.output2().stream()
+			.filter(d -> d.stckBsopDate() != null && !d.stckBsopDate().isBlank())
+			.sorted(Comparator.comparing((MarketPriceDetailedInfoRes d) -> DateUtils.parse(d.stckBsopDate())))
+			.map(data -> Stock.builder()
+				.ticker(TICKER)
+				.date(DateUtils.parse(data.stckBsopDate()))
+				.price(Double.valueOf(data.ovrsNmixPrpr()))
+				.build())
+			.toList();
+	}
+
+	@Benchmark
+	public List<Stock> streamingParser() throws IOException {
+		ChartResponseParser.parse(new ByteArrayInputStream(body), buffer);
+		List<Stock> stocks = new ArrayList<>(buffer.size());
+		for (int i = 0; i < buffer.size(); i++) {
+			stocks.add(Stock.builder()
+				.ticker(TICKER)
+				.date(buffer.dateAt(i))
+				.price(buffer.priceAt(i))
+				.build());
+		}
+		return stocks;
+	}
+}
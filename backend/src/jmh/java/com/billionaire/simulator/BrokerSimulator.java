@@ -0,0 +1,396 @@
+package com.billionaire.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.billionaire.global.util.DateUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 프로젝트가 호출하는 한국투자증권 API를 흉내 내는 로컬 HTTP 서버 (네트워크 접근 없음)
+ * tokenP, inquire-daily-chartprice, inquire-search, inquire-balance, foreign-margin, order, inquire-nccs, inquire-ccnl을 제공하며,
+ * 응답 필드 이름과 형식(문자열 숫자, yyyyMMdd 날짜, 내림차순 일봉)은 실제 응답과 같습니다.
+ * 애플리케이션의 ks.base-url을 baseUrl()로 지정하면 모든 증권사 호출이 시뮬레이터로 갑니다.
+ *
+ * 단독 실행: ./gradlew :backend:jmhJar 후
+ *   java -Dsim.latency-millis=30 -Dsim.error-rate=0.01 -cp backend/build/libs/backend-0.0.1-SNAPSHOT-jmh.jar \
+ *     com.billionaire.simulator.BrokerSimulator 18080
+ *   KS_BASE_URL=http://127.0.0.1:18080 ./gradlew :backend:bootRun
+ */
+public class BrokerSimulator implements AutoCloseable {
+	private static final Logger log = LoggerFactory.getLogger(BrokerSimulator.class);
+	private static final String TOKEN_PATH = "/oauth2/tokenP";
+	private static final String CHART_PATH = "/uapi/overseas-price/v1/quotations/inquire-daily-chartprice";
+	private static final String SEARCH_PATH = "/uapi/overseas-price/v1/quotations/inquire-search";
+	private static final String BALANCE_PATH = "/uapi/overseas-stock/v1/trading/inquire-balance";
+	private static final String MARGIN_PATH = "/uapi/overseas-stock/v1/trading/foreign-margin";
+	private static final String ORDER_PATH = "/uapi/overseas-stock/v1/trading/order";
+	private static final String NCCS_PATH = "/uapi/overseas-stock/v1/trading/inquire-nccs";
+	private static final String CCNL_PATH = "/uapi/overseas-stock/v1/trading/inquire-ccnl";
+	private static final String SELL_TR_ID = "TTTT1006U";
+	// 일봉 조회 한 번에 돌려주는 최대 봉 수
+	private static final int CHART_PAGE_SIZE = 100;
+	private static final DateTimeFormatter TOKEN_EXPIRY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	private final SimulatorOptions options;
+	private final SimulatedMarket market;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final AtomicLong requestSequence = new AtomicLong();
+	private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+	private final LongAdder injectedErrors = new LongAdder();
+
+	private BrokerSimulator(SimulatorOptions options, int port) throws IOException {
+		this.options = options;
+		this.market = new SimulatedMarket(options.seed(), options.fillDelayMillis());
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+		this.executor = Executors.newFixedThreadPool(64, new SimulatorThreadFactory());
+		server.setExecutor(executor);
+
+		route(TOKEN_PATH, false, this::issueToken);
+		route(CHART_PATH, true, this::dailyChart);
+		route(SEARCH_PATH, true, this::search);
+		route(BALANCE_PATH, true, this::stockBalance);
+		route(MARGIN_PATH, true, this::cashBalance);
+		route(ORDER_PATH, true, this::order);
+		route(NCCS_PATH, true, this::pendingOrders);
+		route(CCNL_PATH, true, this::executedOrders);
+	}
+
+	// port가 0이면 빈 포트를 사용
+	public static BrokerSimulator start(SimulatorOptions options, int port) throws IOException {
+		BrokerSimulator simulator = new BrokerSimulator(options, port);
+		simulator.server.start();
+		return simulator;
+	}
+
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+		BrokerSimulator simulator = start(SimulatorOptions.fromSystemProperties(), port);
+		log.info("브로커 시뮬레이터 실행 중: {} {}", simulator.baseUrl(), simulator.options);
+	}
+
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	public SimulatedMarket market() {
+		return market;
+	}
+
+	// 경로별 요청 수 (오류 주입 포함)
+	public Map<String, Long> getRequestCounts() {
+		Map<String, Long> counts = new TreeMap<>();
+		requestCounts.forEach((path, count) -> counts.put(path, count.sum()));
+		return counts;
+	}
+
+	public long getInjectedErrorCount() {
+		return injectedErrors.sum();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	@FunctionalInterface
+	private interface Endpoint {
+		Object respond(HttpExchange exchange, Map<String, String> params) throws IOException;
+	}
+
+	private void route(String path, boolean injectErrors, Endpoint endpoint) {
+		requestCounts.put(path, new LongAdder());
+		server.createContext(path, handler(path, injectErrors, endpoint));
+	}
+
+	private HttpHandler handler(String path, boolean injectErrors, Endpoint endpoint) {
+		return exchange -> {
+			try {
+				requestCounts.get(path).increment();
+				SplittableRandom random = new SplittableRandom(options.seed() ^ requestSequence.incrementAndGet());
+				sleep(options.latencyMillis() + (options.jitterMillis() > 0 ? random.nextLong(options.jitterMillis() + 1) : 0));
+
+				Map<String, String> params = readParams(exchange);
+				if (injectErrors) {
+					double draw = random.nextDouble();
+					if (draw < options.errorRate()) {
+						injectedErrors.increment();
+						write(exchange, 500, failure("EGW00500", "시뮬레이터 오류 주입"));
+						return;
+					}
+					if (draw < options.errorRate() + options.throttleRate()) {
+						injectedErrors.increment();
+						write(exchange, 429, failure("EGW00201", "초당 거래건수를 초과하였습니다."));
+						return;
+					}
+				}
+				write(exchange, 200, endpoint.respond(exchange, params));
+			} catch (RuntimeException e) {
+				write(exchange, 500, failure("EGW00500", String.valueOf(e.getMessage())));
+			} finally {
+				exchange.close();
+			}
+		};
+	}
+
+	private Object issueToken(HttpExchange exchange, Map<String, String> params) {
+		return Map.of(
+			"access_token", "SIMULATED-" + Long.toHexString(options.seed()),
+			"token_type", "Bearer",
+			"expires_in", 86_400,
+			"access_token_token_expired", LocalDateTime.now().plusDays(1).format(TOKEN_EXPIRY_FORMAT));
+	}
+
+	private Object dailyChart(HttpExchange exchange, Map<String, String> params) {
+		String ticker = params.getOrDefault("FID_INPUT_ISCD", "").toUpperCase(Locale.ROOT);
+		LocalDate from = DateUtils.parse(params.get("FID_INPUT_DATE_1"));
+		LocalDate to = DateUtils.parse(params.get("FID_INPUT_DATE_2"));
+
+		List<Map<String, String>> rows = new ArrayList<>();
+		for (LocalDate date : market.tradingDaysDescending(from, to, CHART_PAGE_SIZE)) {
+			double close = market.closeOf(ticker, date);
+			double previous = market.closeOf(ticker, date.minusDays(1));
+			Map<String, String> row = new LinkedHashMap<>();
+			row.put("stck_bsop_date", DateUtils.format(date));
+			row.put("ovrs_nmix_prpr", price(close));
+			row.put("ovrs_nmix_oprc", price(previous));
+			row.put("ovrs_nmix_hgpr", price(Math.max(close, previous) * 1.004));
+			row.put("ovrs_nmix_lwpr", price(Math.min(close, previous) * 0.996));
+			row.put("acml_vol", String.valueOf(Math.abs((ticker.hashCode() * 31L + date.toEpochDay()) % 90_000_000L)));
+			row.put("mod_yn", "N");
+			rows.add(row);
+		}
+
+		Map<String, Object> output1 = new LinkedHashMap<>();
+		output1.put("ovrs_nmix_prdy_vrss", "0.0000");
+		output1.put("hts_kor_isnm", ticker);
+		return success(Map.of("output1", output1, "output2", rows));
+	}
+
+	private Object search(HttpExchange exchange, Map<String, String> params) {
+		long min = Long.parseLong(params.getOrDefault("CO_ST_VALX", "0"));
+		long max = Long.parseLong(params.getOrDefault("CO_EN_VALX", String.valueOf(Long.MAX_VALUE)));
+		List<SimulatedMarket.Listing> listings = market.listingsBetween(min, max);
+		LocalDate today = LocalDate.now();
+
+		List<Map<String, String>> rows = new ArrayList<>();
+		for (int i = 0; i < listings.size(); i++) {
+			SimulatedMarket.Listing listing = listings.get(i);
+			Map<String, String> row = new LinkedHashMap<>();
+			row.put("rsym", "DNAS" + listing.symbol());
+			row.put("excd", "NAS");
+			row.put("symb", listing.symbol());
+			row.put("name", listing.name());
+			row.put("last", price(market.closeOf(listing.symbol(), today)));
+			row.put("valx", String.valueOf(listing.marketCap()));
+			row.put("rank", String.valueOf(i + 1));
+			row.put("ename", listing.name());
+			row.put("e_ordyn", "○");
+			rows.add(row);
+		}
+
+		Map<String, String> output1 = Map.of("zdiv", "4", "stat", "", "crec", String.valueOf(rows.size()),
+			"trec", String.valueOf(rows.size()), "nrec", String.valueOf(rows.size()));
+		return success(Map.of("output1", output1, "output2", rows));
+	}
+
+	private Object stockBalance(HttpExchange exchange, Map<String, String> params) {
+		LocalDate today = LocalDate.now();
+		List<Map<String, String>> rows = new ArrayList<>();
+		double purchaseTotal = 0.0;
+		double evaluationTotal = 0.0;
+		for (SimulatedMarket.Holding holding : market.holdings()) {
+			double now = market.closeOf(holding.ticker(), today);
+			double purchase = market.closeOf(holding.ticker(), today.minusYears(1)) * holding.quantity();
+			double evaluation = now * holding.quantity();
+			purchaseTotal += purchase;
+			evaluationTotal += evaluation;
+
+			Map<String, String> row = new LinkedHashMap<>();
+			row.put("ovrs_pdno", holding.ticker());
+			row.put("ovrs_item_name", holding.ticker());
+			row.put("ord_psbl_qty", String.valueOf(holding.orderableQuantity()));
+			row.put("ovrs_cblc_qty", String.valueOf(holding.quantity()));
+			row.put("frcr_pchs_amt1", price(purchase));
+			row.put("ovrs_stck_evlu_amt", price(evaluation));
+			row.put("now_pric2", price(now));
+			rows.add(row);
+		}
+
+		Map<String, String> output2 = Map.of(
+			"frcr_pchs_amt1", price(purchaseTotal),
+			"tot_evlu_pfls_amt", price(evaluationTotal - purchaseTotal));
+		return success(Map.of("output1", rows, "output2", output2));
+	}
+
+	private Object cashBalance(HttpExchange exchange, Map<String, String> params) {
+		Map<String, String> usd = new LinkedHashMap<>();
+		usd.put("natn_name", "미국");
+		usd.put("crcy_cd", "USD");
+		usd.put("frcr_dncl_amt1", price(market.cash()));
+		return success(Map.of("output", List.of(usd)));
+	}
+
+	private Object order(HttpExchange exchange, Map<String, String> params) {
+		boolean sell = SELL_TR_ID.equals(exchange.getRequestHeaders().getFirst("tr_id"));
+		String orderNumber = market.place(
+			params.getOrDefault("PDNO", "").toUpperCase(Locale.ROOT),
+			sell,
+			(int)Double.parseDouble(params.getOrDefault("ORD_QTY", "0")),
+			Double.parseDouble(params.getOrDefault("OVRS_ORD_UNPR", "0")));
+		if (orderNumber == null) {
+			return failure("APBK0986", sell ? "주문가능수량을 초과했습니다." : "주문가능금액을 초과했습니다.");
+		}
+
+		Map<String, String> output = Map.of(
+			"KRX_FWDG_ORD_ORGNO", "01790",
+			"ODNO", orderNumber,
+			"ORD_TMD", LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss")));
+		return success(Map.of("output", output));
+	}
+
+	private Object pendingOrders(HttpExchange exchange, Map<String, String> params) {
+		List<Map<String, String>> rows = new ArrayList<>();
+		for (SimulatedMarket.Order order : market.pendingOrders()) {
+			Map<String, String> row = new LinkedHashMap<>();
+			row.put("odno", order.orderNumber());
+			row.put("pdno", order.ticker());
+			row.put("prdt_name", order.ticker());
+			row.put("sll_buy_dvsn_cd", order.sell() ? "01" : "02");
+			row.put("ft_ord_qty", String.valueOf(order.quantity()));
+			row.put("ft_ccld_qty", "0");
+			row.put("nccs_qty", String.valueOf(order.quantity()));
+			rows.add(row);
+		}
+		return success(Map.of("output", rows));
+	}
+
+	// 체결된 주문과 미체결 주문을 함께 돌려줌 (최근 주문부터)
+	private Object executedOrders(HttpExchange exchange, Map<String, String> params) {
+		List<Map<String, String>> rows = new ArrayList<>();
+		for (SimulatedMarket.Order order : market.pendingOrders()) {
+			rows.add(executionRow(order, 0));
+		}
+		List<SimulatedMarket.Order> filledOrders = market.filledOrders();
+		for (int i = filledOrders.size() - 1; i >= 0; i--) {
+			rows.add(executionRow(filledOrders.get(i), filledOrders.get(i).quantity()));
+		}
+		return success(Map.of("output", rows));
+	}
+
+	private static Map<String, String> executionRow(SimulatedMarket.Order order, int filledQuantity) {
+		Map<String, String> row = new LinkedHashMap<>();
+		row.put("odno", order.orderNumber());
+		row.put("pdno", order.ticker());
+		row.put("sll_buy_dvsn_cd", order.sell() ? "01" : "02");
+		row.put("ft_ord_qty", String.valueOf(order.quantity()));
+		row.put("ft_ccld_qty", String.valueOf(filledQuantity));
+		row.put("nccs_qty", String.valueOf(order.quantity() - filledQuantity));
+		return row;
+	}
+
+	private static Map<String, Object> success(Map<String, ?> outputs) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("rt_cd", "0");
+		body.put("msg_cd", "MCA00000");
+		body.put("msg1", "정상처리 되었습니다.");
+		body.putAll(outputs);
+		return body;
+	}
+
+	private static Map<String, Object> failure(String code, String message) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("rt_cd", "1");
+		body.put("msg_cd", code);
+		body.put("msg1", message);
+		return body;
+	}
+
+	private static String price(double value) {
+		return String.format(Locale.ROOT, "%.4f", value);
+	}
+
+	// 조회는 쿼리 문자열, 토큰 발급은 JSON 본문 (주문은 애플리케이션이 쿼리 문자열로 보냄)
+	@SuppressWarnings("unchecked")
+	private Map<String, String> readParams(HttpExchange exchange) throws IOException {
+		Map<String, String> params = new HashMap<>();
+		String query = exchange.getRequestURI().getRawQuery();
+		if (query != null) {
+			for (String pair : query.split("&")) {
+				int separator = pair.indexOf('=');
+				String key = separator < 0 ? pair : pair.substring(0, separator);
+				String value = separator < 0 ? "" : pair.substring(separator + 1);
+				params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+			}
+		}
+		try (InputStream body = exchange.getRequestBody()) {
+			byte[] bytes = body.readAllBytes();
+			if (bytes.length > 0) {
+				objectMapper.readValue(bytes, Map.class).forEach((key, value) -> params.put(String.valueOf(key), String.valueOf(value)));
+			}
+		}
+		return params;
+	}
+
+	private void write(HttpExchange exchange, int status, Object body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(bytes);
+		}
+	}
+
+	private static void sleep(long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class SimulatorThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "broker-simulator-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.billionaire.simulator;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.billionaire.global.constants.TradingConstants;
+
+/**
+ * 시뮬레이터가 돌려주는 결정적 시세와 모의 계좌
+ * 종목/지수마다 시드로 고정된 일간 수익률(정규분포)로 2008-01-02부터의 종가를 만들며, 평일과 오늘을 거래일로 봅니다.
+ * 주문은 fillDelayMillis 동안 미체결로 남았다가 주문 가격으로 전량 체결됩니다.
+ */
+public class SimulatedMarket {
+	private static final LocalDate START_DATE = TradingConstants.History.START_DATE;
+	private static final double INITIAL_CASH = 50_000.0;
+	private static final Map<String, Integer> INITIAL_HOLDINGS = Map.of("AAPL", 40, "MSFT", 25);
+
+	// 시가총액 단위는 조건검색(inquire-search) 응답과 같은 천 달러
+	private static final List<Listing> LISTINGS = List.of(
+		new Listing("AAPL", "APPLE INC", 4_100_000_000L),
+		new Listing("MSFT", "MICROSOFT CORP", 3_900_000_000L),
+		new Listing("NVDA", "NVIDIA CORP", 3_800_000_000L),
+		new Listing("GOOGL", "ALPHABET INC-A", 2_300_000_000L),
+		new Listing("AMZN", "AMAZON.COM INC", 2_200_000_000L),
+		new Listing("META", "META PLATFORMS INC", 1_500_000_000L),
+		new Listing("AVGO", "BROADCOM INC", 900_000_000L),
+		new Listing("TSLA", "TESLA INC", 800_000_000L),
+		new Listing("COST", "COSTCO WHOLESALE CORP", 420_000_000L),
+		new Listing("NFLX", "NETFLIX INC", 310_000_000L),
+		new Listing("AMD", "ADVANCED MICRO DEVICES", 260_000_000L),
+		new Listing("PEP", "PEPSICO INC", 210_000_000L)
+	);
+	private static final Map<String, Double> INDEX_START_PRICES = Map.of(
+		"COMP", 2_600.0,
+		".DJI", 13_000.0,
+		"SPX", 1_450.0,
+		"FX@KRW", 940.0
+	);
+
+	public record Listing(String symbol, String name, long marketCap) {
+	}
+
+	public record Order(String orderNumber, String ticker, boolean sell, int quantity, double price, long placedAtNanos) {
+	}
+
+	public record Holding(String ticker, int quantity, int orderableQuantity) {
+	}
+
+	private final long seed;
+	private final long fillDelayNanos;
+	private final long startEpochDay = START_DATE.toEpochDay();
+	private final Map<String, double[]> closes = new ConcurrentHashMap<>();
+
+	private final Map<String, Integer> holdings = new LinkedHashMap<>();
+	private final List<Order> pendingOrders = new ArrayList<>();
+	private final List<Order> filledOrders = new ArrayList<>();
+	private double cash;
+	private long orderSequence;
+
+	public SimulatedMarket(long seed, long fillDelayMillis) {
+		this.seed = seed;
+		this.fillDelayNanos = TimeUnit.MILLISECONDS.toNanos(fillDelayMillis);
+		reset();
+	}
+
+	// 계좌를 처음 상태(현금 + 기본 보유 종목, 미체결 없음)로 되돌림. 시세는 그대로
+	public synchronized void reset() {
+		holdings.clear();
+		holdings.putAll(INITIAL_HOLDINGS);
+		pendingOrders.clear();
+		filledOrders.clear();
+		cash = INITIAL_CASH;
+	}
+
+	// from ~ to (오늘 이후 제외) 사이의 거래일, 최근 날짜부터
+	public List<LocalDate> tradingDaysDescending(LocalDate from, LocalDate to, int limit) {
+		LocalDate today = LocalDate.now();
+		LocalDate last = to.isAfter(today) ? today : to;
+		List<LocalDate> days = new ArrayList<>();
+		for (LocalDate date = last; !date.isBefore(from) && days.size() < limit; date = date.minusDays(1)) {
+			if (isTradingDay(date, today)) {
+				days.add(date);
+			}
+		}
+		return days;
+	}
+
+	public double closeOf(String ticker, LocalDate date) {
+		double[] series = closes.computeIfAbsent(ticker, this::generate);
+		int index = (int)(date.toEpochDay() - startEpochDay);
+		return series[Math.max(0, Math.min(series.length - 1, index))];
+	}
+
+	public List<Listing> listingsBetween(long minMarketCap, long maxMarketCap) {
+		return LISTINGS.stream()
+			.filter(listing -> listing.marketCap() >= minMarketCap && listing.marketCap() <= maxMarketCap)
+			.toList();
+	}
+
+	public synchronized double cash() {
+		settle();
+		return cash;
+	}
+
+	public synchronized List<Holding> holdings() {
+		settle();
+		return holdings.entrySet().stream()
+			.filter(entry -> entry.getValue() > 0)
+			.map(entry -> new Holding(entry.getKey(), entry.getValue(),
+				entry.getValue() - pendingQuantity(entry.getKey(), true)))
+			.toList();
+	}
+
+	public synchronized List<Order> pendingOrders() {
+		settle();
+		return List.copyOf(pendingOrders);
+	}
+
+	// 마지막 reset 이후 전량 체결된 주문 (체결 순)
+	public synchronized List<Order> filledOrders() {
+		settle();
+		return List.copyOf(filledOrders);
+	}
+
+	// 접수되면 주문번호, 수량/금액이 부족하면 null
+	public synchronized String place(String ticker, boolean sell, int quantity, double price) {
+		settle();
+		if (quantity <= 0) {
+			return null;
+		}
+		if (sell && holdings.getOrDefault(ticker, 0) - pendingQuantity(ticker, true) < quantity) {
+			return null;
+		}
+		if (!sell && cash - pendingBuyAmount() < quantity * price) {
+			return null;
+		}
+		String orderNumber = String.format("%010d", ++orderSequence);
+		pendingOrders.add(new Order(orderNumber, ticker, sell, quantity, price, System.nanoTime()));
+		return orderNumber;
+	}
+
+	private void settle() {
+		long now = System.nanoTime();
+		Iterator<Order> iterator = pendingOrders.iterator();
+		while (iterator.hasNext()) {
+			Order order = iterator.next();
+			if (now - order.placedAtNanos() < fillDelayNanos) {
+				continue;
+			}
+			int signedQuantity = order.sell() ? -order.quantity() : order.quantity();
+			holdings.merge(order.ticker(), signedQuantity, Integer::sum);
+			cash -= signedQuantity * order.price();
+			filledOrders.add(order);
+			iterator.remove();
+		}
+	}
+
+	private int pendingQuantity(String ticker, boolean sell) {
+		return pendingOrders.stream()
+			.filter(order -> order.sell() == sell && order.ticker().equals(ticker))
+			.mapToInt(Order::quantity)
+			.sum();
+	}
+
+	private double pendingBuyAmount() {
+		return pendingOrders.stream()
+			.filter(order -> !order.sell())
+			.mapToDouble(order -> order.quantity() * order.price())
+			.sum();
+	}
+
+	// 지수는 변동성을 낮게, 종목은 높게. 주말은 직전 거래일 종가를 그대로 둠
+	private double[] generate(String ticker) {
+		boolean index = INDEX_START_PRICES.containsKey(ticker);
+		double drift = index ? 0.0004 : 0.0007;
+		double volatility = index ? 0.013 : 0.02;
+		Random random = new Random(seed * 31 + ticker.hashCode());
+
+		LocalDate today = LocalDate.now();
+		double[] series = new double[(int)(today.toEpochDay() - startEpochDay) + 1];
+		double price = index ? INDEX_START_PRICES.get(ticker) : 20.0 + random.nextInt(80);
+		for (int i = 0; i < series.length; i++) {
+			LocalDate date = START_DATE.plusDays(i);
+			if (i > 0 && isTradingDay(date, today)) {
+				price *= Math.exp(drift + volatility * random.nextGaussian());
+			}
+			series[i] = Math.round(price * 10_000.0) / 10_000.0;
+		}
+		return series;
+	}
+
+	// 평일, 그리고 주말이라도 오늘은 거래일로 봄 (벤치마크를 요일과 관계없이 돌리기 위함)
+	private static boolean isTradingDay(LocalDate date, LocalDate today) {
+		DayOfWeek dayOfWeek = date.getDayOfWeek();
+		return date.isEqual(today) || (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY);
+	}
+}
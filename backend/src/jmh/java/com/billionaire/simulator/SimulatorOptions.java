@@ -0,0 +1,43 @@
+package com.billionaire.simulator;
+
+/**
+ * 브로커 시뮬레이터 설정
+ * latencyMillis + [0, jitterMillis] 만큼 지연한 뒤 응답하고, errorRate 비율로 500, throttleRate 비율로 429를 돌려줍니다.
+ * 시세와 오류 주입은 seed로 결정되므로 같은 설정이면 같은 데이터가 나옵니다.
+ *
+ * @param latencyMillis   모든 응답의 기본 지연
+ * @param jitterMillis    기본 지연에 더하는 무작위 지연의 최댓값
+ * @param errorRate       500 응답 비율 (0 ~ 1)
+ * @param throttleRate    429 응답 비율 (0 ~ 1)
+ * @param fillDelayMillis 주문이 미체결 목록에 남아 있다가 전량 체결되기까지의 시간
+ * @param seed            시세/오류 주입 난수 시드
+ */
+public record SimulatorOptions(
+	long latencyMillis,
+	long jitterMillis,
+	double errorRate,
+	double throttleRate,
+	long fillDelayMillis,
+	long seed
+) {
+	public static SimulatorOptions defaults() {
+		return new SimulatorOptions(30, 20, 0.0, 0.0, 300, 42L);
+	}
+
+	// -Dsim.latency-millis=30 -Dsim.jitter-millis=20 -Dsim.error-rate=0.01 -Dsim.throttle-rate=0.01 -Dsim.fill-delay-millis=300 -Dsim.seed=42
+	public static SimulatorOptions fromSystemProperties() {
+		SimulatorOptions defaults = defaults();
+		return new SimulatorOptions(
+			Long.getLong("sim.latency-millis", defaults.latencyMillis()),
+			Long.getLong("sim.jitter-millis", defaults.jitterMillis()),
+			doubleProperty("sim.error-rate", defaults.errorRate()),
+			doubleProperty("sim.throttle-rate", defaults.throttleRate()),
+			Long.getLong("sim.fill-delay-millis", defaults.fillDelayMillis()),
+			Long.getLong("sim.seed", defaults.seed()));
+	}
+
+	private static double doubleProperty(String name, double defaultValue) {
+		String value = System.getProperty(name);
+		return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+	}
+}
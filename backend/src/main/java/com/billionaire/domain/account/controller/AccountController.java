@@ -1,5 +1,7 @@
 package com.billionaire.domain.account.controller;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,14 +18,18 @@ import lombok.RequiredArgsConstructor;
 public class AccountController {
 	private final AccountService accountService;
 
+	// ETag는 HttpCacheConfig의 필터가 응답 본문 해시로 붙이며, 바뀌지 않았으면 304 반환
 	@GetMapping("/account")
-	public AccountRes requestAccount() {
+	public ResponseEntity<AccountRes> requestAccount() {
 		AccountBalanceDto accountBalance = accountService.getAccountBalance();
 
-		return AccountRes.builder()
+		AccountRes accountRes = AccountRes.builder()
 			.stockBalanceRes(accountBalance.stockBalanceRes())
 			.cashBalanceRes(accountBalance.cashBalanceRes())
 			.build();
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.body(accountRes);
 	}
 
 }
@@ -13,6 +13,8 @@ public record DetailedStockBalanceData1Res(
 	String ovrsItemName,
 	@NotBlank(message = "주문 가능 수량은 필수입니다")
 	String ordPsblQty,
+	// 해외 잔고 수량 (미체결 매도 주문에 묶인 수량 포함)
+	String ovrsCblcQty,
 	@NotBlank(message = "외화 매입 금액은 필수입니다.")
 	String frcrPchsAmt1,
 	@NotBlank(message = "주식 평가 금액은 필수입니다")
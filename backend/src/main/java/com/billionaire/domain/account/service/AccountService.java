@@ -2,6 +2,7 @@ package com.billionaire.domain.account.service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +13,7 @@ import com.billionaire.domain.account.dto.response.CashBalanceRes;
 import com.billionaire.domain.account.dto.response.StockBalanceRes;
 import com.billionaire.domain.account.exception.AccountNotFoundException;
 import com.billionaire.global.util.ApiUtils;
+import com.billionaire.global.util.FutureUtils;
 import com.billionaire.global.util.TokenUtils;
 
 import jakarta.transaction.Transactional;
@@ -21,7 +23,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Transactional
 public class AccountService {
+	private static final String STOCK_BALANCE_PATH = "/uapi/overseas-stock/v1/trading/inquire-balance";
+	private static final String CASH_BALANCE_PATH = "/uapi/overseas-stock/v1/trading/foreign-margin";
 
+	@Value("${ks.base-url}")
+	private String baseUrl;
 	@Value("${ks.account-number}")
 	private String accountNumber;
 	@Value("${ks.account-product-code}")
@@ -30,59 +36,59 @@ public class AccountService {
 	private final TokenUtils tokenUtils;
 	private final ApiUtils apiUtils;
 
+	// 주식 잔고와 현금 잔고를 동시에 조회하므로 응답 시간은 두 조회 중 느린 쪽과 같음
 	public AccountBalanceDto getAccountBalance() {
+		return FutureUtils.join(getAccountBalanceAsync());
+	}
 
-		StockBalanceRes stockBalance = getStockBalance();
-		CashBalanceRes cashBalance = getCashBalance();
+	public CompletableFuture<AccountBalanceDto> getAccountBalanceAsync() {
+		CompletableFuture<StockBalanceRes> stockBalance = getStockBalanceAsync();
+		CompletableFuture<CashBalanceRes> cashBalance = getCashBalanceAsync();
 
-		return AccountBalanceDto.builder()
-			.stockBalanceRes(stockBalance)
-			.cashBalanceRes(cashBalance)
-			.build();
+		return stockBalance.thenCombine(cashBalance, (stockBalanceRes, cashBalanceRes) -> AccountBalanceDto.builder()
+			.stockBalanceRes(stockBalanceRes)
+			.cashBalanceRes(cashBalanceRes)
+			.build());
 	}
 
-	private StockBalanceRes getStockBalance() {
+	private CompletableFuture<StockBalanceRes> getStockBalanceAsync() {
 		try {
 			Map<String, String> params = createStockBalanceParams();
 
 			// 해외 주식 잔고 조회
-			ResponseEntity<StockBalanceRes> response = apiUtils.getRequest(
+			return apiUtils.getRequestAsync(
 				tokenUtils.createAuthorizationHeaders("TTTS3012R"),
-				"https://openapi.koreainvestment.com:9443/uapi/overseas-stock/v1/trading/inquire-balance",
+				baseUrl + STOCK_BALANCE_PATH,
 				params,
 				StockBalanceRes.class
-			);
-
-			if (response.getBody() == null) {
-				throw new AccountNotFoundException();
-			}
-
-			return response.getBody();
+			).handle(AccountService::bodyOrThrow);
 		} catch (Exception e) {
-			throw new AccountNotFoundException();
+			return CompletableFuture.failedFuture(new AccountNotFoundException());
 		}
 	}
 
-	private CashBalanceRes getCashBalance() {
+	private CompletableFuture<CashBalanceRes> getCashBalanceAsync() {
 		try {
 			Map<String, String> params = createStockBalanceParams();
 
 			// 해외 증거금(현금 잔고) 조회
-			ResponseEntity<CashBalanceRes> response = apiUtils.getRequest(
+			return apiUtils.getRequestAsync(
 				tokenUtils.createAuthorizationHeaders("TTTC2101R", "P"),
-				"https://openapi.koreainvestment.com:9443/uapi/overseas-stock/v1/trading/foreign-margin",
+				baseUrl + CASH_BALANCE_PATH,
 				params,
 				CashBalanceRes.class
-			);
-
-			if (response.getBody() == null) {
-				throw new AccountNotFoundException();
-			}
-
-			return response.getBody();
+			).handle(AccountService::bodyOrThrow);
 		} catch (Exception e) {
+			return CompletableFuture.failedFuture(new AccountNotFoundException());
+		}
+	}
+
+	// 호출 실패나 빈 응답은 모두 계좌 조회 실패로 처리
+	private static <T> T bodyOrThrow(ResponseEntity<T> response, Throwable failure) {
+		if (failure != null || response == null || response.getBody() == null) {
 			throw new AccountNotFoundException();
 		}
+		return response.getBody();
 	}
 
 	private Map<String, String> createStockBalanceParams() {
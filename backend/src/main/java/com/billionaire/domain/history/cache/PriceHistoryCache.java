@@ -0,0 +1,87 @@
+package com.billionaire.domain.history.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.billionaire.domain.history.type.HistoryType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목(지수)별 일봉 이력을 PriceSeries로 보관하는 read-through 캐시
+ * 최대 보관 종목 수를 넘으면 가장 오래 조회되지 않은 종목부터 제거합니다(LRU).
+ */
+@Slf4j
+@Component
+public class PriceHistoryCache {
+	private final int maxEntries;
+	private final Map<Key, PriceSeries> entries;
+	// append/evict 마다 증가하는 종목별 버전. 로딩 중에 갱신된 경우 오래된 로딩 결과를 캐시하지 않기 위해 사용
+	private final Map<Key, Long> versions = new HashMap<>();
+
+	private record Key(HistoryType type, String ticker) {
+	}
+
+	public PriceHistoryCache(@Value("${app.cache.price-history.max-entries:256}") int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, PriceSeries> eldest) {
+				return size() > PriceHistoryCache.this.maxEntries;
+			}
+		};
+	}
+
+	public PriceSeries get(HistoryType type, String ticker, Supplier<PriceSeries> loader) {
+		Key key = new Key(type, ticker);
+		long version;
+		synchronized (this) {
+			PriceSeries cached = entries.get(key);
+			if (cached != null) {
+				return cached;
+			}
+			version = versions.getOrDefault(key, 0L);
+		}
+
+		PriceSeries loaded = loader.get();
+
+		synchronized (this) {
+			PriceSeries cached = entries.get(key);
+			if (cached != null) {
+				return cached;
+			}
+			if (versions.getOrDefault(key, 0L) == version) {
+				entries.put(key, loaded);
+			}
+			return loaded;
+		}
+	}
+
+	// 동기화로 저장된 새 일봉을 캐시된 이력 뒤에 이어 붙임 (캐시에 없으면 다음 조회 시 DB에서 로딩)
+	public synchronized void append(HistoryType type, String ticker, PriceSeries bars) {
+		if (bars.isEmpty()) {
+			return;
+		}
+		Key key = new Key(type, ticker);
+		versions.merge(key, 1L, Long::sum);
+		PriceSeries cached = entries.get(key);
+		if (cached != null) {
+			entries.put(key, cached.append(bars));
+		}
+	}
+
+	public synchronized void evict(HistoryType type, String ticker) {
+		Key key = new Key(type, ticker);
+		versions.merge(key, 1L, Long::sum);
+		entries.remove(key);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+}
@@ -0,0 +1,257 @@
+package com.billionaire.domain.history.cache;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 일봉 이력을 epoch-day(int[])와 가격(double[]) 병렬 배열로 보관하는 불변 스냅샷
+ * 지수는 변동률(double[])을 함께 보관하고, 주식은 변동률 배열이 없습니다.
+ *
+ * 배열은 여유 용량을 두고 할당되며, 가장 최신 스냅샷에 한해 append 시 배열을 복사하지 않고
+ * 여유 공간에 이어 씁니다. 이전 스냅샷은 자신의 길이까지만 읽으므로 영향을 받지 않습니다.
+ * 저장되지 않은 당일 시세는 배열에 쓰지 않고 tail 봉으로만 붙입니다.
+ */
+public final class PriceSeries {
+	private static final int MIN_CAPACITY = 16;
+
+	private final Columns columns;
+	private final int length;
+	private final boolean hasTail;
+	private final int tailEpochDay;
+	private final double tailPrice;
+	private final double tailRate;
+
+	// 스냅샷들이 공유하는 컬럼 배열. used는 실제로 쓰여진 길이
+	private static final class Columns {
+		private final int[] epochDays;
+		private final double[] prices;
+		private final double[] rates;
+		private int used;
+
+		private Columns(int capacity, boolean withRates) {
+			this.epochDays = new int[capacity];
+			this.prices = new double[capacity];
+			this.rates = withRates ? new double[capacity] : null;
+		}
+
+		private int capacity() {
+			return epochDays.length;
+		}
+	}
+
+	private PriceSeries(Columns columns, int length) {
+		this(columns, length, false, 0, 0.0, 0.0);
+	}
+
+	private PriceSeries(Columns columns, int length, boolean hasTail, int tailEpochDay, double tailPrice, double tailRate) {
+		this.columns = columns;
+		this.length = length;
+		this.hasTail = hasTail;
+		this.tailEpochDay = tailEpochDay;
+		this.tailPrice = tailPrice;
+		this.tailRate = tailRate;
+	}
+
+	public static PriceSeries empty(boolean withRates) {
+		return new PriceSeries(new Columns(0, withRates), 0);
+	}
+
+	public static Builder builder(boolean withRates) {
+		return new Builder(withRates);
+	}
+
+	public int size() {
+		return hasTail ? length + 1 : length;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public boolean hasRates() {
+		return columns.rates != null;
+	}
+
+	// 저장된 일봉 수 (당일 tail 봉 제외)
+	public int storedSize() {
+		return length;
+	}
+
+	public boolean hasTail() {
+		return hasTail;
+	}
+
+	/**
+	 * 스냅샷의 내용을 식별하는 키 (저장된 봉 수, 마지막 봉의 날짜/가격, 당일 tail 여부)
+	 * 이력은 뒤에만 이어 붙으므로 키가 같으면 내용도 같습니다. 조건부 응답(ETag) 계산에 사용합니다.
+	 */
+	public String versionKey() {
+		if (isEmpty()) {
+			return "0";
+		}
+		return length + ":" + epochDayAt(size() - 1) + ":" + Long.toHexString(Double.doubleToLongBits(lastPrice()))
+			+ (hasTail ? ":t" : "");
+	}
+
+	public int epochDayAt(int index) {
+		return isTail(index) ? tailEpochDay : columns.epochDays[checkIndex(index)];
+	}
+
+	public LocalDate dateAt(int index) {
+		return LocalDate.ofEpochDay(epochDayAt(index));
+	}
+
+	public double priceAt(int index) {
+		return isTail(index) ? tailPrice : columns.prices[checkIndex(index)];
+	}
+
+	public double rateAt(int index) {
+		if (columns.rates == null) {
+			throw new IllegalStateException("변동률을 보관하지 않는 시세 이력입니다");
+		}
+		return isTail(index) ? tailRate : columns.rates[checkIndex(index)];
+	}
+
+	public double lastPrice() {
+		return priceAt(size() - 1);
+	}
+
+	public LocalDate lastDate() {
+		return dateAt(size() - 1);
+	}
+
+	// date 이하인 마지막 봉의 인덱스 (as-of 조회), 없으면 -1
+	public int indexAtOrBefore(LocalDate date) {
+		return indexAtOrAfter(date.plusDays(1)) - 1;
+	}
+
+	// date 이상인 첫 봉의 인덱스 (범위 조회 시작점), 없으면 size()
+	public int indexAtOrAfter(LocalDate date) {
+		long target = date.toEpochDay();
+		int low = 0;
+		int high = length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (columns.epochDays[mid] < target) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		if (low == length && hasTail && tailEpochDay < target) {
+			return size();
+		}
+		return low;
+	}
+
+	// 저장되지 않은 당일 시세를 마지막 봉으로 붙인 스냅샷 (배열은 공유)
+	public PriceSeries withTail(LocalDate date, double price, double rate) {
+		int epochDay = (int)date.toEpochDay();
+		if (length > 0 && epochDay <= columns.epochDays[length - 1]) {
+			return hasTail ? new PriceSeries(columns, length) : this;
+		}
+		return new PriceSeries(columns, length, true, epochDay, price, rate);
+	}
+
+	/**
+	 * 저장된 일봉 뒤에 새 일봉을 이어 붙인 스냅샷을 반환합니다.
+	 * 이미 포함된 날짜 이하의 봉은 건너뛰므로 같은 봉을 여러 번 append 해도 결과가 같습니다.
+	 */
+	public PriceSeries append(PriceSeries bars) {
+		int lastEpochDay = length == 0 ? Integer.MIN_VALUE : columns.epochDays[length - 1];
+		int from = 0;
+		while (from < bars.length && bars.columns.epochDays[from] <= lastEpochDay) {
+			from++;
+		}
+		int count = bars.length - from;
+		if (count == 0) {
+			return hasTail ? new PriceSeries(columns, length) : this;
+		}
+
+		synchronized (columns) {
+			if (columns.used == length && columns.capacity() >= length + count) {
+				copyColumns(bars.columns, from, columns, length, count);
+				columns.used = length + count;
+				return new PriceSeries(columns, length + count);
+			}
+		}
+
+		Columns grown = new Columns(grow(length + count), columns.rates != null);
+		copyColumns(columns, 0, grown, 0, length);
+		copyColumns(bars.columns, from, grown, length, count);
+		grown.used = length + count;
+		return new PriceSeries(grown, length + count);
+	}
+
+	private static void copyColumns(Columns source, int sourceFrom, Columns target, int targetFrom, int count) {
+		System.arraycopy(source.epochDays, sourceFrom, target.epochDays, targetFrom, count);
+		System.arraycopy(source.prices, sourceFrom, target.prices, targetFrom, count);
+		if (target.rates != null) {
+			if (source.rates != null) {
+				System.arraycopy(source.rates, sourceFrom, target.rates, targetFrom, count);
+			} else {
+				Arrays.fill(target.rates, targetFrom, targetFrom + count, 0.0);
+			}
+		}
+	}
+
+	private static int grow(int required) {
+		return Math.max(MIN_CAPACITY, required + (required >> 1));
+	}
+
+	private boolean isTail(int index) {
+		return hasTail && index == length;
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+		}
+		return index;
+	}
+
+	/**
+	 * 날짜 오름차순으로 일봉을 추가하여 PriceSeries를 만드는 빌더
+	 */
+	public static final class Builder {
+		private Columns columns;
+		private int length;
+
+		private Builder(boolean withRates) {
+			this.columns = new Columns(MIN_CAPACITY, withRates);
+		}
+
+		public Builder add(int epochDay, double price) {
+			return add(epochDay, price, 0.0);
+		}
+
+		public Builder add(LocalDate date, double price, double rate) {
+			return add((int)date.toEpochDay(), price, rate);
+		}
+
+		public Builder add(int epochDay, double price, double rate) {
+			if (length > 0 && epochDay <= columns.epochDays[length - 1]) {
+				return this;
+			}
+			if (length == columns.capacity()) {
+				Columns grown = new Columns(grow(length + 1), columns.rates != null);
+				copyColumns(columns, 0, grown, 0, length);
+				columns = grown;
+			}
+			columns.epochDays[length] = epochDay;
+			columns.prices[length] = price;
+			if (columns.rates != null) {
+				columns.rates[length] = rate;
+			}
+			length++;
+			return this;
+		}
+
+		public PriceSeries build() {
+			columns.used = length;
+			PriceSeries series = new PriceSeries(columns, length);
+			columns = null;
+			return series;
+		}
+	}
+}
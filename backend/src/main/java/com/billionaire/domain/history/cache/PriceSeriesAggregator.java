@@ -0,0 +1,102 @@
+package com.billionaire.domain.history.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.billionaire.domain.history.dto.internal.HistoryPage;
+import com.billionaire.domain.history.dto.internal.HistoryQuery;
+import com.billionaire.domain.history.dto.internal.PriceBar;
+import com.billionaire.domain.history.type.HistoryResolution;
+
+/**
+ * 캐시된 PriceSeries에서 구간/단위/커서 조건에 맞는 봉만 잘라내고 합치는 유틸리티
+ * 구간 경계는 이진 탐색으로 찾으므로, 전체 이력을 순회하지 않고 요청한 구간만 읽습니다.
+ */
+public final class PriceSeriesAggregator {
+	private PriceSeriesAggregator() {
+		throw new AssertionError("유틸리티 클래스 - 인스턴스화하지 마십시오");
+	}
+
+	public static HistoryPage<PriceBar> query(PriceSeries series, HistoryQuery query) {
+		List<PriceBar> bars = new ArrayList<>();
+		LocalDate nextCursor = scan(series, query, bars::add);
+		return new HistoryPage<>(bars, nextCursor);
+	}
+
+	// 봉 목록을 만들지 않고 하나씩 visitor에 넘김 (스트리밍 응답용). 다음 페이지 커서를 반환
+	public static LocalDate forEach(PriceSeries series, HistoryQuery query, Consumer<PriceBar> visitor) {
+		return scan(series, query, visitor);
+	}
+
+	// 봉을 만들지 않고 다음 페이지 커서만 계산 (스트리밍 응답 헤더용)
+	public static LocalDate nextCursor(PriceSeries series, HistoryQuery query) {
+		return scan(series, query, null);
+	}
+
+	private static LocalDate scan(PriceSeries series, HistoryQuery query, Consumer<PriceBar> visitor) {
+		int start = query.from() == null ? 0 : series.indexAtOrAfter(query.from());
+		int end = query.to() == null ? series.size() : series.indexAtOrBefore(query.to()) + 1;
+		if (query.cursor() != null) {
+			start = Math.max(start, series.indexAtOrAfter(query.cursor().plusDays(1)));
+		}
+		int limit = query.limit() == null ? Integer.MAX_VALUE : query.limit();
+		HistoryResolution resolution = query.resolution();
+
+		int count = 0;
+		int lastEmitted = -1;
+		int index = start;
+		while (index < end && count < limit) {
+			int last = lastIndexOfBucket(series, resolution, index, end);
+			if (visitor != null) {
+				visitor.accept(toBar(series, resolution, index, last));
+			}
+			lastEmitted = last;
+			count++;
+			index = last + 1;
+		}
+
+		return (index < end && lastEmitted >= 0) ? series.dateAt(lastEmitted) : null;
+	}
+
+	private static int lastIndexOfBucket(PriceSeries series, HistoryResolution resolution, int first, int end) {
+		if (resolution == HistoryResolution.DAILY) {
+			return first;
+		}
+		long bucket = resolution.bucketOf(series.epochDayAt(first));
+		int last = first;
+		while (last + 1 < end && resolution.bucketOf(series.epochDayAt(last + 1)) == bucket) {
+			last++;
+		}
+		return last;
+	}
+
+	private static PriceBar toBar(PriceSeries series, HistoryResolution resolution, int first, int last) {
+		double open = series.priceAt(first);
+		double high = open;
+		double low = open;
+		for (int i = first + 1; i <= last; i++) {
+			double price = series.priceAt(i);
+			high = Math.max(high, price);
+			low = Math.min(low, price);
+		}
+		double close = series.priceAt(last);
+		return new PriceBar(series.dateAt(last), open, high, low, close, rateOf(series, resolution, first, close));
+	}
+
+	// 일봉은 저장된 변동률을 그대로 쓰고, 주봉/월봉은 직전 봉 종가 대비 구간 종가의 변동률을 계산
+	private static double rateOf(PriceSeries series, HistoryResolution resolution, int first, double close) {
+		if (!series.hasRates()) {
+			return 0.0;
+		}
+		if (resolution == HistoryResolution.DAILY) {
+			return series.rateAt(first);
+		}
+		if (first == 0) {
+			return 0.0;
+		}
+		double previousClose = series.priceAt(first - 1);
+		return ((close - previousClose) / previousClose) * 100.0;
+	}
+}
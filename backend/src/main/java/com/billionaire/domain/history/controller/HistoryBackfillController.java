@@ -0,0 +1,33 @@
+package com.billionaire.domain.history.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.billionaire.domain.history.dto.request.BackfillReq;
+import com.billionaire.domain.history.dto.response.BackfillStatusRes;
+import com.billionaire.domain.history.service.HistoryBackfillService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/history")
+@RequiredArgsConstructor
+public class HistoryBackfillController {
+	private final HistoryBackfillService historyBackfillService;
+
+	@PostMapping("/backfill")
+	public ResponseEntity<BackfillStatusRes> requestBackfill(@RequestBody BackfillReq backfillReq) {
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(historyBackfillService.enqueue(backfillReq));
+	}
+
+	@GetMapping("/backfill")
+	public BackfillStatusRes requestBackfillStatus() {
+		return historyBackfillService.getStatus();
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.billionaire.domain.history.dto.internal;
+
+import java.time.LocalDate;
+
+/**
+ * 특정 시점의 고점/고점 이후 저점/현재가 집계
+ * 이력이 없으면 highestPrice가, 고점 이후 봉이 없으면 lowestPriceAfterHighest가 null
+ */
+public record DrawdownSnapshot(
+	String ticker,
+	Double highestPrice,
+	LocalDate highestDate,
+	Double lowestPriceAfterHighest,
+	LocalDate lowestDate,
+	Double currentPrice,
+	LocalDate currentDate
+) {
+	// 고점 대비 현재가 하락률 (0.0 ~ 1.0)
+	public double drawdownRate() {
+		if (highestPrice == null || currentPrice == null || highestPrice == 0.0) {
+			return 0.0;
+		}
+		return (highestPrice - currentPrice) / highestPrice;
+	}
+}
@@ -0,0 +1,19 @@
+package com.billionaire.domain.history.dto.internal;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 시세 이력 한 페이지. 다음 페이지가 없으면 nextCursor는 null
+ */
+public record HistoryPage<T>(
+	List<T> items,
+	LocalDate nextCursor
+) {
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	public <R> HistoryPage<R> map(Function<T, R> mapper) {
+		return new HistoryPage<>(items.stream().map(mapper).toList(), nextCursor);
+	}
+}
@@ -0,0 +1,45 @@
+package com.billionaire.domain.history.dto.internal;
+
+import java.time.LocalDate;
+
+import com.billionaire.domain.history.exception.InvalidHistoryRangeException;
+import com.billionaire.domain.history.type.HistoryResolution;
+
+import lombok.Builder;
+
+/**
+ * 시세 이력 조회 조건
+ * from/to: 조회 구간(포함), cursor: 이전 페이지의 마지막 봉 날짜(제외), limit: 최대 봉 개수
+ * 지정하지 않은 값은 전체 구간, 일봉, 제한 없음으로 처리합니다.
+ */
+@Builder
+public record HistoryQuery(
+	LocalDate from,
+	LocalDate to,
+	HistoryResolution resolution,
+	LocalDate cursor,
+	Integer limit
+) {
+	public HistoryQuery {
+		if (from != null && to != null && from.isAfter(to)) {
+			throw new InvalidHistoryRangeException();
+		}
+		if (resolution == null) {
+			resolution = HistoryResolution.DAILY;
+		}
+	}
+
+	// 조건부 응답(ETag) 계산용 조회 조건 키
+	public String cacheKey() {
+		return String.join("|",
+			from == null ? "" : from.toString(),
+			to == null ? "" : to.toString(),
+			resolution.name(),
+			cursor == null ? "" : cursor.toString(),
+			limit == null ? "" : limit.toString());
+	}
+
+	public static HistoryQuery all() {
+		return HistoryQuery.builder().build();
+	}
+}
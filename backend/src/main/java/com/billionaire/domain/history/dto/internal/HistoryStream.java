@@ -0,0 +1,17 @@
+package com.billionaire.domain.history.dto.internal;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * 목록을 만들지 않고 행을 하나씩 흘려보내는 시세 이력 응답. 다음 페이지가 없으면 nextCursor는 null
+ * source는 받은 Consumer에 조건에 맞는 행을 순서대로 넘깁니다.
+ */
+public record HistoryStream<T>(
+	LocalDate nextCursor,
+	Consumer<Consumer<T>> source
+) {
+	public void forEach(Consumer<T> action) {
+		source.accept(action);
+	}
+}
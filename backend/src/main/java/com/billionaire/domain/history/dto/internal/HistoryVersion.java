@@ -0,0 +1,28 @@
+package com.billionaire.domain.history.dto.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+
+import org.springframework.util.DigestUtils;
+
+import com.billionaire.domain.history.cache.PriceSeries;
+
+/**
+ * 시세 이력 응답의 조건부 요청(If-None-Match / If-Modified-Since) 검증 값
+ * lastModified가 -1이면 Last-Modified를 내보내지 않습니다.
+ */
+public record HistoryVersion(
+	String etag,
+	long lastModified
+) {
+	public static HistoryVersion of(String ticker, PriceSeries series, HistoryQuery query, String representation) {
+		String key = String.join("|", ticker, series.versionKey(), query.cacheKey(), representation);
+		String etag = "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+		// 당일 시세(tail)는 저장되지 않은 채 계속 바뀌므로, tail이 없을 때만 마지막 저장 봉 날짜를 Last-Modified로 사용
+		long lastModified = (series.storedSize() == 0 || series.hasTail())
+			? -1L
+			: series.dateAt(series.storedSize() - 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+		return new HistoryVersion(etag, lastModified);
+	}
+}
@@ -0,0 +1,17 @@
+package com.billionaire.domain.history.dto.internal;
+
+import java.time.LocalDate;
+
+/**
+ * 조회 단위로 합쳐진 봉
+ * date는 구간의 마지막 거래일이며, open/high/low/close는 구간 내 종가들로 계산합니다.
+ */
+public record PriceBar(
+	LocalDate date,
+	double open,
+	double high,
+	double low,
+	double close,
+	double rate
+) {
+}
@@ -0,0 +1,14 @@
+package com.billionaire.domain.history.dto.request;
+
+import java.util.List;
+
+import com.billionaire.domain.history.type.BackfillUniverse;
+
+/**
+ * tickers와 universe 중 하나 이상을 지정합니다. 둘 다 지정하면 합쳐서 백필합니다.
+ */
+public record BackfillReq(
+	List<String> tickers,
+	BackfillUniverse universe
+) {
+}
@@ -0,0 +1,38 @@
+package com.billionaire.domain.history.dto.request;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.billionaire.domain.history.dto.internal.HistoryQuery;
+import com.billionaire.domain.history.type.HistoryResolution;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 시세 이력 조회 쿼리 파라미터
+ * from/to/cursor는 yyyy-MM-dd, resolution은 daily/weekly/monthly (기본 daily)
+ */
+public record HistoryReq(
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	LocalDate from,
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	LocalDate to,
+	String resolution,
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	LocalDate cursor,
+	@Positive(message = "limit은 1 이상이어야 합니다")
+	@Max(value = 5000, message = "limit은 5000 이하여야 합니다")
+	Integer limit
+) {
+	public HistoryQuery toQuery() {
+		return HistoryQuery.builder()
+			.from(from)
+			.to(to)
+			.resolution(resolution == null ? HistoryResolution.DAILY : HistoryResolution.from(resolution))
+			.cursor(cursor)
+			.limit(limit)
+			.build();
+	}
+}
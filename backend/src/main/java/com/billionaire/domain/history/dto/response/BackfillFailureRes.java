@@ -0,0 +1,18 @@
+package com.billionaire.domain.history.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record BackfillFailureRes(
+	String ticker,
+	int attempts,
+	String errorMessage,
+	LocalDateTime failedAt
+) {
+}
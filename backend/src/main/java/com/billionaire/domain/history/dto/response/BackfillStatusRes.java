@@ -0,0 +1,19 @@
+package com.billionaire.domain.history.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record BackfillStatusRes(
+	long pendingCount,
+	long runningCount,
+	long completedCount,
+	long failedCount,
+	List<BackfillFailureRes> recentFailures
+) {
+}
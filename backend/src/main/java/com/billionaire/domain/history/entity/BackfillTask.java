@@ -0,0 +1,74 @@
+package com.billionaire.domain.history.entity;
+
+import java.time.LocalDateTime;
+
+import com.billionaire.domain.history.type.BackfillStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종목별 시세 이력 백필 진행 상태
+ * 재시작 시 PENDING/RUNNING 상태인 종목을 다시 작업 큐에 넣어 이어서 진행합니다.
+ * 종목 내부의 진행 위치는 SyncState 워터마크가 기록합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"ticker"}))
+public class BackfillTask {
+
+	private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private String ticker;
+	@Enumerated(EnumType.STRING)
+	private BackfillStatus status;
+	private int attempts;
+	@Column(length = MAX_ERROR_MESSAGE_LENGTH)
+	private String errorMessage;
+	private LocalDateTime updatedAt;
+
+	public static BackfillTask pending(String ticker) {
+		return BackfillTask.builder()
+			.ticker(ticker)
+			.status(BackfillStatus.PENDING)
+			.updatedAt(LocalDateTime.now())
+			.build();
+	}
+
+	public void start() {
+		this.status = BackfillStatus.RUNNING;
+		this.attempts++;
+		this.errorMessage = null;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public void complete() {
+		this.status = BackfillStatus.COMPLETED;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public void fail(String message) {
+		this.status = BackfillStatus.FAILED;
+		this.errorMessage = (message != null && message.length() > MAX_ERROR_MESSAGE_LENGTH)
+			? message.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+			: message;
+		this.updatedAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,91 @@
+package com.billionaire.domain.history.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.billionaire.domain.history.dto.internal.DrawdownSnapshot;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종목별 고점/고점 이후 저점/마지막 가격 집계
+ * 새 일봉이 저장될 때마다 apply로 O(1) 갱신하므로, 리밸런싱 분석에서 전체 이력을 다시 읽지 않습니다.
+ * 고점은 가장 먼저 도달한 최고가이며, 고점 이후 저점은 고점 다음 봉부터의 최저가입니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"ticker"}))
+public class DrawdownState {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private String ticker;
+	private Double highestPrice;
+	private LocalDate highestDate;
+	// 고점 이후 봉이 없으면 null
+	private Double lowestPriceAfterHighest;
+	private LocalDate lowestDate;
+	private Double lastPrice;
+	private LocalDate lastDate;
+	private LocalDateTime updatedAt;
+
+	public static DrawdownState empty(String ticker) {
+		return DrawdownState.builder()
+			.ticker(ticker)
+			.build();
+	}
+
+	public boolean isEmpty() {
+		return lastDate == null;
+	}
+
+	// 마지막으로 반영한 날짜 이하의 봉은 무시하므로 같은 봉을 여러 번 반영해도 결과가 같음
+	public void apply(LocalDate date, double price) {
+		if (lastDate != null && !date.isAfter(lastDate)) {
+			return;
+		}
+		if (highestPrice == null || price > highestPrice) {
+			this.highestPrice = price;
+			this.highestDate = date;
+			this.lowestPriceAfterHighest = null;
+			this.lowestDate = null;
+		} else if (lowestPriceAfterHighest == null || price < lowestPriceAfterHighest) {
+			this.lowestPriceAfterHighest = price;
+			this.lowestDate = date;
+		}
+		this.lastPrice = price;
+		this.lastDate = date;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public DrawdownSnapshot snapshot() {
+		return new DrawdownSnapshot(ticker, highestPrice, highestDate, lowestPriceAfterHighest, lowestDate, lastPrice, lastDate);
+	}
+
+	// 저장되지 않은 당일 시세를 반영한 집계 (상태는 바꾸지 않음)
+	public DrawdownSnapshot snapshotWith(LocalDate date, double price) {
+		if (lastDate != null && !date.isAfter(lastDate)) {
+			return snapshot();
+		}
+		if (highestPrice == null || price > highestPrice) {
+			return new DrawdownSnapshot(ticker, price, date, null, null, price, date);
+		}
+		if (lowestPriceAfterHighest == null || price < lowestPriceAfterHighest) {
+			return new DrawdownSnapshot(ticker, highestPrice, highestDate, price, date, price, date);
+		}
+		return new DrawdownSnapshot(ticker, highestPrice, highestDate, lowestPriceAfterHighest, lowestDate, price, date);
+	}
+}
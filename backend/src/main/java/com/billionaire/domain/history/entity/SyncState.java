@@ -0,0 +1,59 @@
+package com.billionaire.domain.history.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.billionaire.domain.history.type.HistoryType;
+import com.billionaire.global.constants.TradingConstants;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종목(지수)별 시세 동기화 상태
+ * 마지막으로 저장된 일봉의 날짜를 워터마크로 기록하여, 이후 호출에서는 새로운 일봉만 조회/저장합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"ticker", "type"}))
+public class SyncState {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private String ticker;
+	@Enumerated(EnumType.STRING)
+	private HistoryType type;
+	// 마지막으로 저장된 일봉의 날짜
+	private LocalDate lastSyncedDate;
+	// 마지막으로 저장된 일봉의 가격 (지수 변동률 계산에 사용)
+	private Double lastPrice;
+	private LocalDateTime updatedAt;
+
+	public boolean isSynced(LocalDate date) {
+		return lastSyncedDate != null && !date.isAfter(lastSyncedDate);
+	}
+
+	public LocalDate getNextSyncDate() {
+		return lastSyncedDate == null ? TradingConstants.History.START_DATE : lastSyncedDate.plusDays(1);
+	}
+
+	public void advance(LocalDate date, Double price) {
+		this.lastSyncedDate = date;
+		this.lastPrice = price;
+		this.updatedAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,15 @@
+package com.billionaire.domain.history.event;
+
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.history.type.HistoryType;
+
+/**
+ * 새 일봉이 저장되었을 때 발행되는 이벤트
+ * 일봉을 저장한 트랜잭션 안에서 동기적으로 전달되므로, 리스너의 저장도 같은 트랜잭션에 포함됩니다.
+ */
+public record HistoryAppendedEvent(
+	HistoryType type,
+	String ticker,
+	PriceSeries bars
+) {
+}
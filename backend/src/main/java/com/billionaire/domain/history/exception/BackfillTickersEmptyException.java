@@ -0,0 +1,11 @@
+package com.billionaire.domain.history.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class BackfillTickersEmptyException extends BusinessException {
+
+	public BackfillTickersEmptyException() {
+		super(ErrorCode.BACKFILL_TICKERS_EMPTY);
+	}
+}
@@ -0,0 +1,11 @@
+package com.billionaire.domain.history.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class BackfillUniverseLoadFailedException extends BusinessException {
+
+	public BackfillUniverseLoadFailedException(Throwable cause) {
+		super(ErrorCode.BACKFILL_UNIVERSE_LOAD_FAILED, cause);
+	}
+}
@@ -0,0 +1,11 @@
+package com.billionaire.domain.history.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class InvalidHistoryRangeException extends BusinessException {
+
+	public InvalidHistoryRangeException() {
+		super(ErrorCode.INVALID_HISTORY_RANGE);
+	}
+}
@@ -0,0 +1,11 @@
+package com.billionaire.domain.history.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class InvalidHistoryResolutionException extends BusinessException {
+
+	public InvalidHistoryResolutionException() {
+		super(ErrorCode.INVALID_HISTORY_RESOLUTION);
+	}
+}
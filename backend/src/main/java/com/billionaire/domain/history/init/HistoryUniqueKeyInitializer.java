@@ -0,0 +1,51 @@
+package com.billionaire.domain.history.init;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 이력 테이블(stock, index)의 (ticker, date) 유니크 키 보장
+ * 유니크 키가 없던 때 만들어진 데이터베이스에는 같은 날짜의 행이 중복으로 있을 수 있고, 그러면 ddl-auto가 제약 조건을 추가하지 못합니다.
+ * 그 상태에서는 대량 저장의 ON CONFLICT DO NOTHING이 중복을 막지 못하므로, 시작 시 중복 행을 지우고(가장 먼저 저장된 행을 남김) 키를 만듭니다.
+ * 스키마 갱신(entityManagerFactory) 후, 이력을 읽고 쓰는 작업(백필 재개, 스케줄러)이 시작되기 전에 실행되며 키를 만들지 못하면 시작을 중단합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class HistoryUniqueKeyInitializer {
+	private static final String INDEX_EXISTS_SQL =
+		"SELECT COUNT(*) FROM pg_indexes WHERE schemaname = current_schema() AND tablename = ? AND indexname = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	@PostConstruct
+	public void ensureUniqueKeys() {
+		ensureUniqueKey("stock", "stock", "uk_stock_ticker_date");
+		ensureUniqueKey("index", "\"index\"", "uk_index_ticker_date");
+	}
+
+	private void ensureUniqueKey(String tableName, String quotedTableName, String constraintName) {
+		Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, tableName, constraintName);
+		if (count != null && count > 0) {
+			return;
+		}
+
+		log.warn("⚠️ {} 테이블에 (ticker, date) 유니크 키가 없어 중복 행을 정리하고 키를 추가합니다", tableName);
+		Integer deleted = transactionTemplate.execute(status -> {
+			int rows = jdbcTemplate.update("DELETE FROM " + quotedTableName + " a USING " + quotedTableName + " b"
+				+ " WHERE a.ticker = b.ticker AND a.date = b.date AND a.id > b.id");
+			jdbcTemplate.execute("ALTER TABLE " + quotedTableName + " ADD CONSTRAINT " + constraintName
+				+ " UNIQUE (ticker, date)");
+			return rows;
+		});
+		log.info("✅ {} 테이블 유니크 키 추가 완료 (중복 행 {}개 삭제)", tableName, deleted);
+	}
+}
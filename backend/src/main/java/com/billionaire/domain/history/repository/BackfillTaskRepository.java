@@ -0,0 +1,38 @@
+package com.billionaire.domain.history.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.billionaire.domain.history.entity.BackfillTask;
+import com.billionaire.domain.history.type.BackfillStatus;
+
+public interface BackfillTaskRepository extends JpaRepository<BackfillTask, Long> {
+
+	Optional<BackfillTask> findByTicker(String ticker);
+
+	List<BackfillTask> findAllByTickerIn(Collection<String> tickers);
+
+	List<BackfillTask> findAllByStatusIn(Collection<BackfillStatus> statuses);
+
+	List<BackfillTask> findTop100ByStatusOrderByUpdatedAtDesc(BackfillStatus status);
+
+	long countByStatus(BackfillStatus status);
+
+	boolean existsByTickerAndStatus(String ticker, BackfillStatus status);
+
+	// 끝난(COMPLETED/FAILED) 작업만 PENDING으로 되돌림. 실행 중인 작업의 상태를 오래된 값으로 덮어쓰지 않도록 엔티티 저장 대신 조건부 갱신
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE BackfillTask t SET t.status = :pending, t.updatedAt = :now "
+		+ "WHERE t.ticker IN :tickers AND t.status IN :finished")
+	int requeueFinished(@Param("tickers") Collection<String> tickers, @Param("finished") Collection<BackfillStatus> finished,
+		@Param("pending") BackfillStatus pending, @Param("now") LocalDateTime now);
+}
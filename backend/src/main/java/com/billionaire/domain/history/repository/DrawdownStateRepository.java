@@ -0,0 +1,12 @@
+package com.billionaire.domain.history.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.billionaire.domain.history.entity.DrawdownState;
+
+public interface DrawdownStateRepository extends JpaRepository<DrawdownState, Long> {
+
+	Optional<DrawdownState> findByTicker(String ticker);
+}
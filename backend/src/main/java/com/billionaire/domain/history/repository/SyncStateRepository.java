@@ -0,0 +1,14 @@
+package com.billionaire.domain.history.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.billionaire.domain.history.entity.SyncState;
+import com.billionaire.domain.history.type.HistoryType;
+
+@Repository
+public interface SyncStateRepository extends JpaRepository<SyncState, Long> {
+	Optional<SyncState> findByTickerAndType(String ticker, HistoryType type);
+}
@@ -0,0 +1,207 @@
+package com.billionaire.domain.history.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.history.dto.request.BackfillReq;
+import com.billionaire.domain.history.dto.response.BackfillFailureRes;
+import com.billionaire.domain.history.dto.response.BackfillStatusRes;
+import com.billionaire.domain.history.entity.BackfillTask;
+import com.billionaire.domain.history.exception.BackfillTickersEmptyException;
+import com.billionaire.domain.history.exception.BackfillUniverseLoadFailedException;
+import com.billionaire.domain.history.repository.BackfillTaskRepository;
+import com.billionaire.domain.history.type.BackfillStatus;
+import com.billionaire.domain.history.type.BackfillUniverse;
+import com.billionaire.domain.stock.entity.ListingInfo;
+import com.billionaire.domain.stock.repository.ListingInfoRepository;
+import com.billionaire.domain.stock.service.StockService;
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDataRes;
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDetailedData2Res;
+import com.billionaire.domain.strategy.custom.service.MarketCapScraperService;
+import com.billionaire.domain.strategy.custom.service.StockVerificationService;
+import com.billionaire.global.util.DaemonThreadFactory;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 종목의 시세 이력을 제한된 개수의 작업 스레드로 병렬 백필
+ * 각 종목의 증권사 API 호출은 BACKFILL 우선순위로 호출 제한기를 거치므로, 주문 등 다른 호출을 밀어내지 않습니다.
+ */
+@Slf4j
+@Service
+public class HistoryBackfillService {
+	private static final List<BackfillStatus> FINISHED_STATUSES = List.of(BackfillStatus.COMPLETED, BackfillStatus.FAILED);
+
+	private final BackfillTaskRepository backfillTaskRepository;
+	private final ListingInfoRepository listingInfoRepository;
+	private final StockService stockService;
+	private final MarketCapScraperService marketCapScraperService;
+	private final StockVerificationService stockVerificationService;
+	private final ExecutorService executor;
+	// 작업 큐에 들어가 있거나 실행 중인 종목 (중복 투입 방지)
+	private final Set<String> queuedTickers = ConcurrentHashMap.newKeySet();
+
+	public HistoryBackfillService(
+		BackfillTaskRepository backfillTaskRepository,
+		ListingInfoRepository listingInfoRepository,
+		StockService stockService,
+		MarketCapScraperService marketCapScraperService,
+		StockVerificationService stockVerificationService,
+		@Value("${app.history.backfill.concurrency:4}") int concurrency) {
+		this.backfillTaskRepository = backfillTaskRepository;
+		this.listingInfoRepository = listingInfoRepository;
+		this.stockService = stockService;
+		this.marketCapScraperService = marketCapScraperService;
+		this.stockVerificationService = stockVerificationService;
+		this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), new DaemonThreadFactory("history-backfill-"));
+	}
+
+	public BackfillStatusRes enqueue(BackfillReq backfillReq) {
+		Set<String> tickers = resolveTickers(backfillReq);
+		if (tickers.isEmpty()) {
+			throw new BackfillTickersEmptyException();
+		}
+
+		// 이미 있는 작업은 끝난 것만 조건부 갱신으로 다시 대기시키고, 처음 요청된 종목만 새로 저장
+		Set<String> existingTickers = backfillTaskRepository.findAllByTickerIn(tickers).stream()
+			.map(BackfillTask::getTicker)
+			.collect(Collectors.toSet());
+		if (!existingTickers.isEmpty()) {
+			backfillTaskRepository.requeueFinished(existingTickers, FINISHED_STATUSES, BackfillStatus.PENDING,
+				LocalDateTime.now());
+		}
+		backfillTaskRepository.saveAll(tickers.stream()
+			.filter(ticker -> !existingTickers.contains(ticker))
+			.map(BackfillTask::pending)
+			.toList());
+
+		log.info("시세 이력 백필 등록: {}개 종목", tickers.size());
+		tickers.forEach(this::dispatch);
+		return getStatus();
+	}
+
+	public BackfillStatusRes getStatus() {
+		List<BackfillFailureRes> recentFailures = backfillTaskRepository
+			.findTop100ByStatusOrderByUpdatedAtDesc(BackfillStatus.FAILED).stream()
+			.map(task -> BackfillFailureRes.builder()
+				.ticker(task.getTicker())
+				.attempts(task.getAttempts())
+				.errorMessage(task.getErrorMessage())
+				.failedAt(task.getUpdatedAt())
+				.build())
+			.toList();
+
+		return BackfillStatusRes.builder()
+			.pendingCount(backfillTaskRepository.countByStatus(BackfillStatus.PENDING))
+			.runningCount(backfillTaskRepository.countByStatus(BackfillStatus.RUNNING))
+			.completedCount(backfillTaskRepository.countByStatus(BackfillStatus.COMPLETED))
+			.failedCount(backfillTaskRepository.countByStatus(BackfillStatus.FAILED))
+			.recentFailures(recentFailures)
+			.build();
+	}
+
+	// 재시작 전에 끝나지 못한 종목을 다시 작업 큐에 넣음
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeUnfinishedTasks() {
+		List<BackfillTask> unfinishedTasks = backfillTaskRepository.findAllByStatusIn(
+			List.of(BackfillStatus.PENDING, BackfillStatus.RUNNING));
+		if (unfinishedTasks.isEmpty()) {
+			return;
+		}
+
+		log.info("중단된 시세 이력 백필 재개: {}개 종목", unfinishedTasks.size());
+		unfinishedTasks.forEach(task -> dispatch(task.getTicker()));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private Set<String> resolveTickers(BackfillReq backfillReq) {
+		Set<String> tickers = new LinkedHashSet<>();
+		if (backfillReq.tickers() != null) {
+			addTickers(tickers, backfillReq.tickers());
+		}
+		if (backfillReq.universe() == BackfillUniverse.LISTING) {
+			addTickers(tickers, listingInfoRepository.findAll().stream().map(ListingInfo::getSymbol).toList());
+		}
+		if (backfillReq.universe() == BackfillUniverse.STRATEGY) {
+			addTickers(tickers, loadStrategyUniverse());
+		}
+		return tickers;
+	}
+
+	private void addTickers(Set<String> tickers, Collection<String> candidates) {
+		candidates.stream()
+			.filter(ticker -> ticker != null && !ticker.isBlank())
+			.map(ticker -> ticker.trim().toUpperCase())
+			.forEach(tickers::add);
+	}
+
+	// 리밸런싱 스케줄러와 같은 기준(최대 시가총액 ~ 10배 구간, 상위 90%)으로 매수 후보 종목을 조회
+	private List<String> loadStrategyUniverse() {
+		try {
+			Long minMarketCap = marketCapScraperService.getLargestMarketCap();
+			VerifiedDataRes verifiedDataRes = stockVerificationService.verifyData(minMarketCap, minMarketCap * 10);
+			if (verifiedDataRes == null || verifiedDataRes.output2().isEmpty()) {
+				return List.of();
+			}
+			return stockVerificationService.filterStocksByMarketCap(verifiedDataRes.output2()).stream()
+				.map(VerifiedDetailedData2Res::symb)
+				.toList();
+		} catch (IOException e) {
+			throw new BackfillUniverseLoadFailedException(e);
+		}
+	}
+
+	private void dispatch(String ticker) {
+		if (queuedTickers.add(ticker)) {
+			executor.execute(() -> runTask(ticker));
+		}
+	}
+
+	private void runTask(String ticker) {
+		try {
+			BackfillTask task = backfillTaskRepository.findByTicker(ticker).orElseGet(() -> BackfillTask.pending(ticker));
+			task.start();
+			backfillTaskRepository.save(task);
+
+			try {
+				stockService.syncHistory(ticker);
+				task.complete();
+				log.debug("시세 이력 백필 완료: {}", ticker);
+			} catch (RuntimeException e) {
+				task.fail(e.getMessage());
+				log.warn("시세 이력 백필 실패: {} - {}", ticker, e.getMessage());
+			}
+			backfillTaskRepository.save(task);
+		} catch (RuntimeException e) {
+			log.error("시세 이력 백필 상태 저장 실패: {}", ticker, e);
+		} finally {
+			queuedTickers.remove(ticker);
+		}
+		// 끝난 상태를 저장한 뒤 큐에서 빠지기 전에 다시 등록된 요청은 dispatch가 건너뛰었으므로 여기서 이어서 실행
+		try {
+			if (backfillTaskRepository.existsByTickerAndStatus(ticker, BackfillStatus.PENDING)) {
+				dispatch(ticker);
+			}
+		} catch (RuntimeException e) {
+			log.error("시세 이력 백필 재등록 확인 실패: {}", ticker, e);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.billionaire.domain.history.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.billionaire.domain.history.dto.internal.HistoryPage;
+import com.billionaire.domain.history.dto.internal.HistoryStream;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시세 이력을 목록으로 모으지 않고 응답 스트림에 바로 쓰는 writer
+ * JSON 배열(기본) 또는 NDJSON(Accept: application/x-ndjson)으로 쓰며, 요청당 메모리는 이력 길이와 무관하게 일정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HistoryStreamWriter {
+	public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	private final ObjectMapper objectMapper;
+
+	public <T> ResponseEntity<StreamingResponseBody> write(HistoryStream<T> stream, Class<T> type, String accept) {
+		boolean ndjson = prefersNdjson(accept);
+		// 행마다 flush하지 않고 버퍼가 찰 때마다 청크로 내보냄
+		ObjectWriter writer = objectMapper.writerFor(type)
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+			.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+		StreamingResponseBody body = outputStream -> {
+			if (ndjson) {
+				writeNdjson(stream, writer, outputStream);
+			} else {
+				writeJsonArray(stream, writer, outputStream);
+			}
+		};
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.contentType(ndjson ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON);
+		if (stream.nextCursor() != null) {
+			response.header(HistoryPage.NEXT_CURSOR_HEADER, stream.nextCursor().toString());
+		}
+		return response.body(body);
+	}
+
+	private <T> void writeJsonArray(HistoryStream<T> stream, ObjectWriter writer, OutputStream outputStream) throws IOException {
+		try (SequenceWriter sequenceWriter = writer.writeValuesAsArray(outputStream)) {
+			writeAll(stream, sequenceWriter);
+		}
+	}
+
+	private <T> void writeNdjson(HistoryStream<T> stream, ObjectWriter writer, OutputStream outputStream) throws IOException {
+		try (SequenceWriter sequenceWriter = writer.withRootValueSeparator("\n").writeValues(outputStream)) {
+			writeAll(stream, sequenceWriter);
+		}
+		outputStream.write('\n');
+	}
+
+	private <T> void writeAll(HistoryStream<T> stream, SequenceWriter sequenceWriter) throws IOException {
+		try {
+			stream.forEach(item -> {
+				try {
+					sequenceWriter.write(item);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	// 조건부 응답(ETag) 계산에 쓰는 응답 형식 이름
+	public String representationOf(String accept) {
+		return prefersNdjson(accept) ? "ndjson" : "json";
+	}
+
+	// Accept에 application/x-ndjson을 명시한 경우에만 NDJSON으로 응답 (와일드카드는 JSON 배열)
+	private boolean prefersNdjson(String accept) {
+		if (accept == null || accept.isBlank()) {
+			return false;
+		}
+		return MediaType.parseMediaTypes(accept).stream()
+			.anyMatch(mediaType -> !mediaType.isWildcardType() && !mediaType.isWildcardSubtype()
+				&& mediaType.isCompatibleWith(APPLICATION_NDJSON));
+	}
+}
@@ -0,0 +1,8 @@
+package com.billionaire.domain.history.type;
+
+public enum BackfillStatus {
+	PENDING,
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
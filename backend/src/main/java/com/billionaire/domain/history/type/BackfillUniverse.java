@@ -0,0 +1,10 @@
+package com.billionaire.domain.history.type;
+
+/**
+ * 백필 대상 종목군
+ * LISTING: 상장 종목 전체(ListingInfo), STRATEGY: 현재 리밸런싱 전략의 매수 후보 종목
+ */
+public enum BackfillUniverse {
+	LISTING,
+	STRATEGY
+}
@@ -0,0 +1,33 @@
+package com.billionaire.domain.history.type;
+
+import java.time.LocalDate;
+
+import com.billionaire.domain.history.exception.InvalidHistoryResolutionException;
+
+public enum HistoryResolution {
+	DAILY,
+	WEEKLY,
+	MONTHLY;
+
+	// epoch-day가 속하는 구간 번호. 같은 구간의 일봉은 하나의 봉으로 합쳐짐
+	public long bucketOf(int epochDay) {
+		return switch (this) {
+			case DAILY -> epochDay;
+			// 1970-01-01(목요일) 기준으로 월요일에 시작하는 주 번호
+			case WEEKLY -> Math.floorDiv(epochDay + 3, 7);
+			case MONTHLY -> {
+				LocalDate date = LocalDate.ofEpochDay(epochDay);
+				yield date.getYear() * 12L + date.getMonthValue();
+			}
+		};
+	}
+
+	public static HistoryResolution from(String value) {
+		return switch (value.toLowerCase()) {
+			case "daily", "1d" -> DAILY;
+			case "weekly", "1w" -> WEEKLY;
+			case "monthly", "1m" -> MONTHLY;
+			default -> throw new InvalidHistoryResolutionException();
+		};
+	}
+}
@@ -0,0 +1,6 @@
+package com.billionaire.domain.history.type;
+
+public enum HistoryType {
+	STOCK,
+	INDEX
+}
@@ -2,16 +2,29 @@ package com.billionaire.domain.index.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.history.dto.internal.HistoryPage;
+import com.billionaire.domain.history.dto.internal.HistoryQuery;
+import com.billionaire.domain.history.dto.internal.HistoryVersion;
+import com.billionaire.domain.history.dto.request.HistoryReq;
+import com.billionaire.domain.history.service.HistoryStreamWriter;
 import com.billionaire.domain.index.dto.response.IndexRes;
 import com.billionaire.domain.index.service.IndexService;
 import com.billionaire.domain.index.type.MarketIndex;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 
@@ -21,13 +34,52 @@ import lombok.RequiredArgsConstructor;
 @Validated
 public class IndexController {
 	private final IndexService indexService;
+	private final HistoryStreamWriter historyStreamWriter;
 
+	// 다음 페이지가 있으면 X-Next-Cursor 헤더에 cursor로 넘길 날짜를 담아 반환
+	// 이력이 바뀌지 않았으면(If-None-Match / If-Modified-Since) 본문 없이 304 반환
 	@GetMapping("/indices/{name}")
-	public List<IndexRes> searchIndex(
+	public ResponseEntity<List<IndexRes>> searchIndex(
 		@PathVariable
 		@NotBlank(message = "지수 이름은 필수입니다")
-		String name) {
+		String name,
+		@Valid HistoryReq historyReq,
+		WebRequest webRequest) {
 		MarketIndex marketIndex = MarketIndex.fromPath(name);
-		return indexService.getIndexData(marketIndex.getTicker(), marketIndex.getMarket());
+		HistoryQuery query = historyReq.toQuery();
+		PriceSeries series = indexService.getPriceSeries(marketIndex.getTicker(), marketIndex.getMarket());
+		HistoryVersion version = HistoryVersion.of(marketIndex.getTicker(), series, query, "json");
+		if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+			return null;
+		}
+
+		HistoryPage<IndexRes> page = indexService.getIndexData(marketIndex.getTicker(), series, query);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+		if (page.nextCursor() != null) {
+			response.header(HistoryPage.NEXT_CURSOR_HEADER, page.nextCursor().toString());
+		}
+		return response.body(page.items());
+	}
+
+	// stream=true: 목록을 만들지 않고 JSON 배열(또는 Accept가 application/x-ndjson이면 NDJSON)로 바로 씀
+	@GetMapping(value = "/indices/{name}", params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamIndex(
+		@PathVariable
+		@NotBlank(message = "지수 이름은 필수입니다")
+		String name,
+		@Valid HistoryReq historyReq,
+		@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+		WebRequest webRequest) {
+		MarketIndex marketIndex = MarketIndex.fromPath(name);
+		HistoryQuery query = historyReq.toQuery();
+		PriceSeries series = indexService.getPriceSeries(marketIndex.getTicker(), marketIndex.getMarket());
+		HistoryVersion version = HistoryVersion.of(
+			marketIndex.getTicker(), series, query, historyStreamWriter.representationOf(accept));
+		if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+			return null;
+		}
+
+		return historyStreamWriter.write(
+			indexService.streamIndexData(marketIndex.getTicker(), series, query), IndexRes.class, accept);
 	}
 }
@@ -0,0 +1,14 @@
+package com.billionaire.domain.index.repository;
+
+import java.util.List;
+
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.index.entity.Index;
+
+public interface IndexBulkRepository {
+	// (ticker, date)가 이미 존재하는 행은 무시하고 배치로 저장
+	void insertAllIgnoringDuplicates(List<Index> indexes);
+
+	// 엔티티를 만들지 않고 날짜 오름차순 일봉을 컬럼 배열로 바로 읽음
+	PriceSeries loadPriceSeries(String ticker);
+}
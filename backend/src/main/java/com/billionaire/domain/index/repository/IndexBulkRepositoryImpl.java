@@ -0,0 +1,47 @@
+package com.billionaire.domain.index.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.index.entity.Index;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * IDENTITY 전략에서는 Hibernate JDBC 배치가 비활성화되므로,
+ * 대량 저장은 JdbcTemplate 배치 INSERT ... ON CONFLICT DO NOTHING 으로 처리합니다.
+ */
+@RequiredArgsConstructor
+public class IndexBulkRepositoryImpl implements IndexBulkRepository {
+	private static final String INSERT_SQL =
+		"INSERT INTO \"index\" (ticker, date, price, rate) VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING";
+	private static final String SELECT_SERIES_SQL =
+		"SELECT (date - DATE '1970-01-01') AS epoch_day, price, rate FROM \"index\" WHERE ticker = ? ORDER BY date";
+	private static final int BATCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void insertAllIgnoringDuplicates(List<Index> indexes) {
+		if (indexes.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, indexes, BATCH_SIZE, (ps, index) -> {
+			ps.setString(1, index.getTicker());
+			ps.setObject(2, index.getDate());
+			ps.setDouble(3, index.getPrice());
+			ps.setDouble(4, index.getRate());
+		});
+	}
+
+	@Override
+	public PriceSeries loadPriceSeries(String ticker) {
+		PriceSeries.Builder builder = PriceSeries.builder(true);
+		jdbcTemplate.query(SELECT_SERIES_SQL, rs -> {
+			builder.add(rs.getInt(1), rs.getDouble(2), rs.getDouble(3));
+		}, ticker);
+		return builder.build();
+	}
+}
@@ -11,17 +11,17 @@ import com.billionaire.domain.index.exception.IndexDataNotFoundException;
 import com.billionaire.domain.index.exception.InvalidIndexTickerException;
 
 @Repository
-public interface IndexRepository extends JpaRepository<Index, Long> {
+public interface IndexRepository extends JpaRepository<Index, Long>, IndexBulkRepository {
 	Optional<Index> findTopByTickerOrderByDateDesc(String ticker);
 
-	List<Index> findAllByTicker(String ticker);
+	List<Index> findAllByTickerOrderByDateAsc(String ticker);
 
 	default List<Index> getIndexData(String ticker) {
 		if (ticker == null || ticker.trim().isEmpty()) {
 			throw new InvalidIndexTickerException();
 		}
 		
-		List<Index> data = findAllByTicker(ticker);
+		List<Index> data = findAllByTickerOrderByDateAsc(ticker);
 		if (data.isEmpty()) {
 			throw new IndexDataNotFoundException();
 		}
@@ -42,7 +42,7 @@ public interface IndexRepository extends JpaRepository<Index, Long> {
 			throw new InvalidIndexTickerException();
 		}
 		
-		List<Index> data = findAllByTicker(ticker);
+		List<Index> data = findAllByTickerOrderByDateAsc(ticker);
 		if (data.isEmpty()) {
 			throw new IndexDataNotFoundException();
 		}
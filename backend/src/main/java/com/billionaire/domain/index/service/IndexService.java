@@ -2,28 +2,40 @@ package com.billionaire.domain.index.service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Optional;
 
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-
-import com.billionaire.global.dto.internal.MarketPriceDetailedInfoRes;
-import com.billionaire.global.dto.internal.MarketPriceRes;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.billionaire.domain.history.cache.PriceHistoryCache;
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.history.cache.PriceSeriesAggregator;
+import com.billionaire.domain.history.dto.internal.HistoryPage;
+import com.billionaire.domain.history.dto.internal.HistoryQuery;
+import com.billionaire.domain.history.dto.internal.HistoryStream;
+import com.billionaire.domain.history.dto.internal.PriceBar;
+import com.billionaire.domain.history.entity.SyncState;
+import com.billionaire.domain.history.event.HistoryAppendedEvent;
+import com.billionaire.domain.history.repository.SyncStateRepository;
+import com.billionaire.domain.history.type.HistoryResolution;
+import com.billionaire.domain.history.type.HistoryType;
 import com.billionaire.domain.index.dto.response.IndexRes;
 import com.billionaire.domain.index.entity.Index;
 import com.billionaire.domain.index.exception.IndexDataFetchFailedException;
+import com.billionaire.domain.index.exception.IndexDataNotFoundException;
 import com.billionaire.domain.index.repository.IndexRepository;
-import com.billionaire.global.constants.TradingConstants;
+import com.billionaire.global.type.ApiPriority;
 import com.billionaire.global.util.ApiUtils;
+import com.billionaire.global.util.ChartBarBuffer;
+import com.billionaire.global.util.ChartResponseParser;
 import com.billionaire.global.util.DateUtils;
+import com.billionaire.global.util.SingleFlight;
 import com.billionaire.global.util.TokenUtils;
 
-import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,73 +43,102 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Service
 public class IndexService {
-	private static final String URL = "https://openapi.koreainvestment.com:9443/uapi/overseas-price/v1/quotations/inquire-daily-chartprice";
+	private static final String PATH = "/uapi/overseas-price/v1/quotations/inquire-daily-chartprice";
+	@Value("${ks.base-url}")
+	private String baseUrl;
 
 	private final IndexRepository indexRepository;
+	private final SyncStateRepository syncStateRepository;
+	private final PriceHistoryCache priceHistoryCache;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
 	private final ApiUtils apiUtils;
 	private final TokenUtils tokenUtils;
+	private final SingleFlight<String, PriceSeries> inFlightSyncs = new SingleFlight<>();
 
-	@Transactional
-	public List<IndexRes> getIndexData(String ticker, String code) {
-		String startingDate = getLatestStoredDate(ticker);
-		List<Index> allIndexListInAPI = fetchAllIndexDataUntilToday(ticker, code, startingDate);
+	public HistoryPage<IndexRes> getIndexData(String ticker, String code, HistoryQuery query) {
+		return getIndexData(ticker, getPriceSeries(ticker, code), query);
+	}
 
-		saveIfNotExists(ticker, allIndexListInAPI);
+	// 이미 동기화된 이력(getPriceSeries)으로 응답을 만듦. 조건부 요청 검증 후 본문을 만들 때 사용
+	public HistoryPage<IndexRes> getIndexData(String ticker, PriceSeries series, HistoryQuery query) {
+		if (series.isEmpty()) {
+			throw new IndexDataNotFoundException();
+		}
 
-		List<Index> indexListInDB = indexRepository.getIndexData(ticker);
-		List<Index> todayList = allIndexListInAPI.stream()
-			.filter(index -> index.getDate().isEqual(LocalDate.now()))
-			.toList();
+		boolean aggregated = query.resolution() != HistoryResolution.DAILY;
+		return PriceSeriesAggregator.query(series, query)
+			.map(bar -> convertToIndexRes(ticker, bar, aggregated));
+	}
 
-		return Stream.concat(indexListInDB.stream(), todayList.stream())
-			.distinct()
-			.map(this::convertToIndexRes)
-			.toList();
+	// 응답 목록을 만들지 않고 캐시된 이력에서 행을 하나씩 변환해 넘김 (스트리밍 응답용)
+	public HistoryStream<IndexRes> streamIndexData(String ticker, PriceSeries series, HistoryQuery query) {
+		if (series.isEmpty()) {
+			throw new IndexDataNotFoundException();
+		}
+
+		boolean aggregated = query.resolution() != HistoryResolution.DAILY;
+		return new HistoryStream<>(
+			PriceSeriesAggregator.nextCursor(series, query),
+			action -> PriceSeriesAggregator.forEach(series, query, bar -> action.accept(convertToIndexRes(ticker, bar, aggregated)))
+		);
+	}
+
+	// 새 일봉을 동기화한 뒤, 캐시된 일봉 이력에 저장하지 않는 당일 시세를 붙여 반환
+	// 같은 지수를 동시에 요청하면 하나의 조회/저장만 수행하고 결과를 공유
+	public PriceSeries getPriceSeries(String ticker, String code) {
+		return inFlightSyncs.execute(ticker, () -> syncPriceSeries(ticker, code));
+	}
+
+	private PriceSeries syncPriceSeries(String ticker, String code) {
+		Optional<Index> todayIndex = syncNewIndexes(ticker, code);
+
+		PriceSeries series = priceHistoryCache.get(HistoryType.INDEX, ticker,
+			() -> indexRepository.loadPriceSeries(ticker));
+
+		LocalDate today = LocalDate.now();
+		return todayIndex
+			.map(index -> series.withTail(today, index.getPrice(), index.getRate()))
+			.orElse(series);
 	}
 
-	private List<Index> fetchAllIndexDataUntilToday(String ticker, String code, String fromDate) {
-		List<Index> accumulated = new ArrayList<>();
-		String currentFromDate = fromDate;
-		Double previousPrice = null;
+	// 조회 구간(100일)마다 저장하고 워터마크를 갱신하므로, 중간에 중단되어도 다음 호출은 마지막 저장 지점부터 이어서 조회
+	private Optional<Index> syncNewIndexes(String ticker, String code) {
+		SyncState syncState = loadSyncState(ticker);
+		String currentFromDate = DateUtils.format(syncState.getNextSyncDate());
+		Double previousPrice = syncState.getLastPrice();
 
-		while (!hasTodayData(accumulated)) {
-			MarketPriceRes indexData = fetchIndexDataFromAPI(ticker, code, currentFromDate);
-			List<MarketPriceDetailedInfoRes> sortedData = getSortedMarketData(indexData);
+		while (true) {
+			ChartBarBuffer bars = fetchIndexDataFromAPI(ticker, code, currentFromDate);
 
-			if (sortedData.isEmpty()) {
-				break;
+			if (bars.isEmpty()) {
+				return Optional.empty();
 			}
 
-			List<Index> convertedIndexes = convertToIndexes(ticker, sortedData, previousPrice);
-			accumulated.addAll(convertedIndexes);
+			List<Index> convertedIndexes = convertToIndexes(ticker, bars, previousPrice);
+			List<Index> newIndexes = transactionTemplate.execute(status -> saveNewIndexes(syncState, convertedIndexes));
+			priceHistoryCache.append(HistoryType.INDEX, ticker, toPriceSeries(newIndexes));
 
+			Optional<Index> todayIndex = findTodayIndex(convertedIndexes);
+			if (todayIndex.isPresent()) {
+				return todayIndex;
+			}
 			currentFromDate = getNextFetchDate(convertedIndexes);
 			previousPrice = getLastPrice(convertedIndexes);
-			waitForNextApiCall();
 		}
-
-		return accumulated;
-	}
-
-	private List<MarketPriceDetailedInfoRes> getSortedMarketData(MarketPriceRes indexData) {
-		return indexData.output2().stream()
-			.filter(d -> d.stckBsopDate() != null && !d.stckBsopDate().isBlank())
-			.sorted(Comparator.comparing(d -> DateUtils.parse(d.stckBsopDate())))
-			.toList();
 	}
 
-	private List<Index> convertToIndexes(String ticker, List<MarketPriceDetailedInfoRes> sortedData, Double previousPrice) {
-		List<Index> indexes = new ArrayList<>();
+	private List<Index> convertToIndexes(String ticker, ChartBarBuffer bars, Double previousPrice) {
+		List<Index> indexes = new ArrayList<>(bars.size());
 		Double currentPreviousPrice = previousPrice;
 
-		for (MarketPriceDetailedInfoRes data : sortedData) {
-			LocalDate date = DateUtils.parse(data.stckBsopDate());
-			Double price = Double.valueOf(data.ovrsNmixPrpr());
+		for (int i = 0; i < bars.size(); i++) {
+			Double price = bars.priceAt(i);
 			Double rate = calculateRate(currentPreviousPrice, price);
 
 			indexes.add(Index.builder()
 				.ticker(ticker)
-				.date(date)
+				.date(bars.dateAt(i))
 				.price(price)
 				.rate(rate)
 				.build());
@@ -112,8 +153,11 @@ public class IndexService {
 		return (previousPrice == null) ? 0.0 : ((currentPrice - previousPrice) / previousPrice) * 100.0;
 	}
 
-	private boolean hasTodayData(List<Index> indexes) {
-		return indexes.stream().anyMatch(i -> i.getDate().isEqual(LocalDate.now()));
+	private Optional<Index> findTodayIndex(List<Index> indexes) {
+		LocalDate today = LocalDate.now();
+		return indexes.stream()
+			.filter(index -> index.getDate().isEqual(today))
+			.findFirst();
 	}
 
 	private String getNextFetchDate(List<Index> indexes) {
@@ -125,26 +169,26 @@ public class IndexService {
 		return indexes.get(indexes.size() - 1).getPrice();
 	}
 
-	private void waitForNextApiCall() {
-		try {
-			Thread.sleep((long)(TradingConstants.ApiCall.DEFAULT_WAIT_SECONDS * 1000));
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw new IndexDataFetchFailedException();
-		}
+	private SyncState loadSyncState(String ticker) {
+		return syncStateRepository.findByTickerAndType(ticker, HistoryType.INDEX)
+			.orElseGet(() -> initializeSyncState(ticker));
 	}
 
-	private String getLatestStoredDate(String ticker) {
-		try {
-			Index latestIndex = indexRepository.getLatestIndexData(ticker);
-			return DateUtils.format(latestIndex.getDate());
-		} catch (Exception e) {
-			log.info("저장된 인덱스 데이터가 없습니다. 기본 시작 날짜를 사용합니다: {}", ticker);
-			return DateUtils.format(LocalDate.of(2008, 1, 2));
-		}
+	// 동기화 상태가 없으면 기존에 저장된 마지막 일봉으로 워터마크를 초기화
+	private SyncState initializeSyncState(String ticker) {
+		SyncState syncState = SyncState.builder()
+			.ticker(ticker)
+			.type(HistoryType.INDEX)
+			.build();
+
+		indexRepository.findTopByTickerOrderByDateDesc(ticker).ifPresentOrElse(
+			latestIndex -> syncState.advance(latestIndex.getDate(), latestIndex.getPrice()),
+			() -> log.info("저장된 인덱스 데이터가 없습니다. 기본 시작 날짜를 사용합니다: {}", ticker)
+		);
+		return syncState;
 	}
 
-	private MarketPriceRes fetchIndexDataFromAPI(String ticker, String code, String startingDate) {
+	private ChartBarBuffer fetchIndexDataFromAPI(String ticker, String code, String startingDate) {
 		try {
 			LocalDate endDate = DateUtils.parse(startingDate).plusDays(100);
 			Map<String, String> params = Map.of(
@@ -154,52 +198,55 @@ public class IndexService {
 				"FID_INPUT_DATE_2", DateUtils.format(endDate),
 				"FID_PERIOD_DIV_CODE", "D"
 			);
-			ResponseEntity<MarketPriceRes> response = apiUtils.getRequest(
+			return apiUtils.getRequestStreaming(
+				ApiPriority.BACKFILL,
 				tokenUtils.createAuthorizationHeaders("FHKST03030100"),
-				URL,
+				baseUrl + PATH,
 				params,
-				MarketPriceRes.class
+				response -> ChartResponseParser.parse(response.getBody())
 			);
-
-			
-			if (response.getBody() == null) {
-				throw new IndexDataFetchFailedException();
-			}
-			
-			return response.getBody();
 		} catch (Exception e) {
 			throw new IndexDataFetchFailedException();
 		}
 	}
 
-	private void saveIfNotExists(String ticker, List<Index> indexListInAPI) {
-		try {
-			Set<LocalDate> existingDates = indexRepository.getAllIndexDataByTicker(ticker).stream()
-				.map(Index::getDate)
-				.collect(Collectors.toSet());
+	private List<Index> saveNewIndexes(SyncState syncState, List<Index> indexListInAPI) {
+		LocalDate today = LocalDate.now();
+		List<Index> newIndexes = indexListInAPI.stream()
+			.filter(index -> index.getDate().isBefore(today))
+			.filter(index -> !syncState.isSynced(index.getDate()))
+			.toList();
 
-			List<Index> filteredToSave = indexListInAPI.stream()
-				.filter(index -> !index.getDate().isEqual(LocalDate.now()))
-				.filter(index -> !existingDates.contains(index.getDate()))
-				.toList();
+		if (!newIndexes.isEmpty()) {
+			indexRepository.insertAllIgnoringDuplicates(newIndexes);
 
-			indexRepository.saveAll(filteredToSave);
-		} catch (Exception e) {
-			log.info("기존 데이터가 없습니다. 모든 데이터를 저장합니다: {}", ticker);
-			List<Index> filteredToSave = indexListInAPI.stream()
-				.filter(index -> !index.getDate().isEqual(LocalDate.now()))
-				.toList();
+			Index latestIndex = newIndexes.get(newIndexes.size() - 1);
+			syncState.advance(latestIndex.getDate(), latestIndex.getPrice());
 
-			indexRepository.saveAll(filteredToSave);
+			eventPublisher.publishEvent(new HistoryAppendedEvent(HistoryType.INDEX, syncState.getTicker(), toPriceSeries(newIndexes)));
 		}
+
+		if (!newIndexes.isEmpty() || syncState.getId() == null) {
+			syncStateRepository.save(syncState);
+		}
+		return newIndexes;
+	}
+
+	private PriceSeries toPriceSeries(List<Index> indexes) {
+		PriceSeries.Builder builder = PriceSeries.builder(true);
+		indexes.forEach(index -> builder.add(index.getDate(), index.getPrice(), index.getRate()));
+		return builder.build();
 	}
 
-	private IndexRes convertToIndexRes(Index index) {
+	private IndexRes convertToIndexRes(String ticker, PriceBar bar, boolean aggregated) {
 		return IndexRes.builder()
-			.ticker(index.getTicker())
-			.date(index.getDate())
-			.price(index.getPrice())
-			.rate(index.getRate())
+			.ticker(ticker)
+			.date(bar.date())
+			.price(bar.close())
+			.rate(bar.rate())
+			.open(aggregated ? bar.open() : null)
+			.high(aggregated ? bar.high() : null)
+			.low(aggregated ? bar.low() : null)
 			.build();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.billionaire.domain.monitoring.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.billionaire.global.dto.internal.EndpointResilienceStats;
+import com.billionaire.global.dto.internal.HttpPoolRouteStats;
+import com.billionaire.global.dto.internal.RateLimiterLaneStats;
+import com.billionaire.global.util.BrokerRateLimiter;
+import com.billionaire.global.util.BrokerResilience;
+import com.billionaire.global.util.HttpPoolMonitor;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/monitoring")
+@RequiredArgsConstructor
+public class MonitoringController {
+	private final BrokerRateLimiter brokerRateLimiter;
+	private final HttpPoolMonitor httpPoolMonitor;
+	private final BrokerResilience brokerResilience;
+
+	@GetMapping("/rate-limiter")
+	public List<RateLimiterLaneStats> requestRateLimiterStats() {
+		return brokerRateLimiter.getStats();
+	}
+
+	@GetMapping("/http-pool")
+	public List<HttpPoolRouteStats> requestHttpPoolStats() {
+		return httpPoolMonitor.getStats();
+	}
+
+	@GetMapping("/resilience")
+	public List<EndpointResilienceStats> requestResilienceStats() {
+		return brokerResilience.getStats();
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.billionaire.domain.order.dto.internal;
+
+import com.billionaire.domain.order.type.OrderType;
+
+/**
+ * 주문체결내역에 남은 주문 하나의 체결 결과 (거부/취소된 주문은 체결 수량이 주문 수량보다 적고 미체결 수량이 0)
+ */
+public record ExecutedOrder(
+	String orderNumber,
+	String ticker,
+	OrderType orderType,
+	int orderedQuantity,
+	int filledQuantity,
+	int unfilledQuantity
+) {
+}
@@ -0,0 +1,26 @@
+package com.billionaire.domain.order.dto.internal;
+
+import com.billionaire.domain.order.dto.response.OrderRes;
+
+/**
+ * 주문 하나의 처리 결과
+ * 접수되면 orderNumber가, 거부되거나 호출에 실패하면 rejectCode/rejectMessage가 채워집니다.
+ */
+public record OrderResult(
+	OrderDto order,
+	boolean accepted,
+	String orderNumber,
+	String rejectCode,
+	String rejectMessage
+) {
+	public static OrderResult from(OrderDto order, OrderRes orderRes) {
+		if (orderRes.isAccepted()) {
+			return new OrderResult(order, true, orderRes.orderNumber(), null, null);
+		}
+		return new OrderResult(order, false, null, orderRes.msgCd(), orderRes.msg1());
+	}
+
+	public static OrderResult failed(OrderDto order, Throwable cause) {
+		return new OrderResult(order, false, null, null, cause.getMessage());
+	}
+}
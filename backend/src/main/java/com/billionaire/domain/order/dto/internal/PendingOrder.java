@@ -0,0 +1,16 @@
+package com.billionaire.domain.order.dto.internal;
+
+import com.billionaire.domain.order.type.OrderType;
+
+/**
+ * 미체결 주문 하나의 체결 상태
+ */
+public record PendingOrder(
+	String orderNumber,
+	String ticker,
+	OrderType orderType,
+	int orderedQuantity,
+	int filledQuantity,
+	int unfilledQuantity
+) {
+}
@@ -0,0 +1,19 @@
+package com.billionaire.domain.order.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record InquireCcnlOutputRes(
+	// 주문번호
+	String odno,
+	// 종목 코드
+	String pdno,
+	// 매도매수구분코드 (01: 매도, 02: 매수)
+	String sllBuyDvsnCd,
+	// 주문 수량 / 체결 수량 / 미체결 수량
+	String ftOrdQty,
+	String ftCcldQty,
+	String nccsQty
+) {
+}
@@ -1,10 +1,23 @@
 package com.billionaire.domain.order.dto.response;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
 import jakarta.validation.constraints.NotBlank;
 
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public record InquireNccsOutputRes(
+	// 주문번호
+	String odno,
+	// 종목 코드
+	String pdno,
 	@NotBlank(message = "상품명은 필수입니다")
 	String prdtName,
+	// 매도매수구분코드 (01: 매도, 02: 매수)
+	String sllBuyDvsnCd,
+	// 주문 수량 / 체결 수량
+	String ftOrdQty,
+	String ftCcldQty,
 	@NotBlank(message = "거래 가능 수량은 필수입니다")
 	String nccsQty
 ) {
@@ -0,0 +1,14 @@
+package com.billionaire.domain.order.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 주문 응답의 output은 키가 대문자
+public record OrderOutputRes(
+	@JsonProperty("KRX_FWDG_ORD_ORGNO")
+	String krxFwdgOrdOrgno,
+	@JsonProperty("ODNO")
+	String odno,
+	@JsonProperty("ORD_TMD")
+	String ordTmd
+) {
+}
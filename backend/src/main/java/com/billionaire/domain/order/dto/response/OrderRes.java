@@ -0,0 +1,21 @@
+package com.billionaire.domain.order.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record OrderRes(
+	String rtCd,
+	String msgCd,
+	String msg1,
+	OrderOutputRes output
+) {
+	// rt_cd가 0이고 주문번호를 받은 경우만 접수된 주문
+	public boolean isAccepted() {
+		return "0".equals(rtCd) && output != null && output.odno() != null && !output.odno().isBlank();
+	}
+
+	public String orderNumber() {
+		return isAccepted() ? output.odno() : null;
+	}
+}
@@ -0,0 +1,69 @@
+package com.billionaire.domain.order.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.order.dto.internal.OrderDto;
+import com.billionaire.domain.order.dto.internal.OrderResult;
+import com.billionaire.global.util.DaemonThreadFactory;
+import com.billionaire.global.util.FutureUtils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 접수 큐
+ * 주문은 큐에 쌓이고, 최대 max-in-flight개까지만 동시에 증권사로 전송됩니다.
+ * 초당 호출 수는 ApiUtils의 호출 제한기(ORDER 우선순위)가 지키므로 여기서는 동시 전송 수만 제한합니다.
+ * 결과는 예외 없이 OrderResult로 완료되므로 호출 측은 future를 모아서 기다리면 됩니다.
+ */
+@Slf4j
+@Service
+public class OrderDispatcher {
+	private final OrderService orderService;
+	private final ExecutorService executor;
+
+	public OrderDispatcher(
+		OrderService orderService,
+		@Value("${app.order.max-in-flight:4}") int maxInFlight) {
+		this.orderService = orderService;
+		this.executor = Executors.newFixedThreadPool(Math.max(1, maxInFlight), new DaemonThreadFactory("order-dispatch-"));
+	}
+
+	public CompletableFuture<OrderResult> submit(OrderDto orderDto) {
+		return CompletableFuture.supplyAsync(() -> place(orderDto), executor);
+	}
+
+	public List<CompletableFuture<OrderResult>> submitAll(List<OrderDto> orders) {
+		return orders.stream()
+			.map(this::submit)
+			.toList();
+	}
+
+	// 제출한 순서대로 결과를 모음
+	public List<OrderResult> submitAllAndWait(List<OrderDto> orders) {
+		List<CompletableFuture<OrderResult>> futures = submitAll(orders);
+		return futures.stream()
+			.map(FutureUtils::join)
+			.toList();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private OrderResult place(OrderDto orderDto) {
+		try {
+			return OrderResult.from(orderDto, orderService.stockOrder(orderDto));
+		} catch (RuntimeException e) {
+			log.warn("{} {}{} 주문 전송 실패: {}", orderDto.quantity(), orderDto.ticker(), orderDto.orderType(), e.getMessage());
+			return OrderResult.failed(orderDto, e);
+		}
+	}
+}
@@ -1,12 +1,15 @@
 package com.billionaire.domain.order.service;
 
 import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.billionaire.domain.order.dto.internal.OrderDto;
+import com.billionaire.domain.order.dto.response.OrderRes;
+import com.billionaire.global.type.ApiPriority;
 import com.billionaire.global.util.ApiUtils;
 import com.billionaire.global.util.TokenUtils;
 
@@ -23,9 +26,12 @@ public class OrderService {
 	private String accountProductCode;
 	private final ApiUtils apiUtils;
 	private final TokenUtils tokenUtils;
-	private static final String URL = "https://openapi.koreainvestment.com:9443/uapi/overseas-stock/v1/trading/order";
+	private static final String PATH = "/uapi/overseas-stock/v1/trading/order";
+	@Value("${ks.base-url}")
+	private String baseUrl;
 
-	public void stockOrder(OrderDto orderDto) {
+	// 접수되면 응답의 주문번호(ODNO)로 체결 여부를 추적할 수 있음
+	public OrderRes stockOrder(OrderDto orderDto) {
 		// 매수, 매도 코드
 		String apiCode = orderDto.orderType().getApiCode();
 
@@ -41,13 +47,20 @@ public class OrderService {
 			"ORD_DVSN", "00"
 		);
 
-		ResponseEntity<String> response = apiUtils.getRequest(
+		ResponseEntity<OrderRes> response = apiUtils.getRequest(
+			ApiPriority.ORDER,
 			tokenUtils.createAuthorizationHeaders(apiCode),
-			URL,
+			baseUrl + PATH,
 			params,
-			String.class
+			OrderRes.class
 		);
 
-		log.info("{} {}{} 주문 성공 {}", orderDto.quantity(), orderDto.ticker(), orderDto.orderType(), response.getBody());
+		OrderRes orderRes = Objects.requireNonNull(response.getBody());
+		if (orderRes.isAccepted()) {
+			log.info("{} {}{} 주문 성공 (주문번호: {})", orderDto.quantity(), orderDto.ticker(), orderDto.orderType(), orderRes.orderNumber());
+		} else {
+			log.warn("{} {}{} 주문 거부 [{}] {}", orderDto.quantity(), orderDto.ticker(), orderDto.orderType(), orderRes.msgCd(), orderRes.msg1());
+		}
+		return orderRes;
 	}
 }
\ No newline at end of file
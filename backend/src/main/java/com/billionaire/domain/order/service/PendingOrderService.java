@@ -1,5 +1,7 @@
 package com.billionaire.domain.order.service;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -7,8 +9,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.billionaire.domain.order.dto.internal.ExecutedOrder;
+import com.billionaire.domain.order.dto.internal.PendingOrder;
+import com.billionaire.domain.order.dto.response.InquireCcnlRes;
 import com.billionaire.domain.order.dto.response.InquireNccsRes;
+import com.billionaire.domain.order.type.OrderType;
+import com.billionaire.global.type.ApiPriority;
 import com.billionaire.global.util.ApiUtils;
+import com.billionaire.global.util.DateUtils;
 import com.billionaire.global.util.TokenUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -18,7 +26,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Service
 public class PendingOrderService {
-	private static final String URL = "https://openapi.koreainvestment.com:9443/uapi/overseas-stock/v1/trading/inquire-nccs";
+	private static final String PATH = "/uapi/overseas-stock/v1/trading/inquire-nccs";
+	private static final String EXECUTION_PATH = "/uapi/overseas-stock/v1/trading/inquire-ccnl";
+	@Value("${ks.base-url}")
+	private String baseUrl;
 	@Value("${ks.account-number}")
 	private String accountNumber;
 	@Value("${ks.account-product-code}")
@@ -26,8 +37,11 @@ public class PendingOrderService {
 	private final ApiUtils apiUtils;
 	private final TokenUtils tokenUtils;
 
-	// orderService에서 매도 전부 진행 후 CustomService에서 검증 과정 실행.
-	public boolean verifyOrder() {
+	/**
+	 * 주문번호별 미체결 주문
+	 * 전량 체결된 주문은 목록에서 빠집니다. 거부/취소된 주문도 빠지므로, 구분이 필요하면 getExecutedOrders로 확인합니다.
+	 */
+	public Map<String, PendingOrder> getPendingOrders() {
 		Map<String, String> params = Map.of(
 			"CANO", accountNumber,
 			"ACNT_PRDT_CD", accountProductCode,
@@ -37,14 +51,66 @@ public class PendingOrderService {
 			"CTX_AREA_NK200", ""
 		);
 		ResponseEntity<InquireNccsRes> response = apiUtils.getRequest(
+			ApiPriority.ORDER,
 			tokenUtils.createAuthorizationHeaders("TTTS3018R"),
-			URL,
+			baseUrl + PATH,
 			params,
 			InquireNccsRes.class
 		);
-		boolean hasUnsettled = Objects.requireNonNull(response.getBody()).output().stream()
-			.anyMatch(inquireNccsOutputRes -> !inquireNccsOutputRes.nccsQty().equals("0"));
-		return !hasUnsettled; // 미체결 없음
+		Map<String, PendingOrder> pendingOrders = new LinkedHashMap<>();
+		Objects.requireNonNull(response.getBody()).output().forEach(output -> pendingOrders.put(output.odno(),
+			new PendingOrder(output.odno(), output.pdno(), parseOrderType(output.sllBuyDvsnCd()),
+				parseQuantity(output.ftOrdQty()), parseQuantity(output.ftCcldQty()), parseQuantity(output.nccsQty()))));
+		return pendingOrders;
+	}
+
+	/**
+	 * 주문번호별 체결 내역 (어제~오늘 주문, 미체결/체결/거부 모두)
+	 * 미체결 목록에서 빠진 주문이 체결된 것인지 거부/취소된 것인지 확인할 때 사용합니다.
+	 * 주문일은 증권사(한국) 기준이므로 하루 앞부터 조회합니다.
+	 */
+	public Map<String, ExecutedOrder> getExecutedOrders() {
+		LocalDate today = LocalDate.now();
+		Map<String, String> params = Map.ofEntries(
+			Map.entry("CANO", accountNumber),
+			Map.entry("ACNT_PRDT_CD", accountProductCode),
+			Map.entry("PDNO", "%"),
+			Map.entry("ORD_STRT_DT", DateUtils.format(today.minusDays(1))),
+			Map.entry("ORD_END_DT", DateUtils.format(today.plusDays(1))),
+			Map.entry("SLL_BUY_DVSN", "00"),
+			Map.entry("CCLD_NCCS_DVSN", "00"),
+			Map.entry("OVRS_EXCG_CD", "%"),
+			Map.entry("SORT_SQN", "DS"),
+			Map.entry("ORD_DT", ""),
+			Map.entry("ORD_GNO_BRNO", ""),
+			Map.entry("ODNO", ""),
+			Map.entry("CTX_AREA_FK200", ""),
+			Map.entry("CTX_AREA_NK200", "")
+		);
+		ResponseEntity<InquireCcnlRes> response = apiUtils.getRequest(
+			ApiPriority.ORDER,
+			tokenUtils.createAuthorizationHeaders("TTTS3035R"),
+			baseUrl + EXECUTION_PATH,
+			params,
+			InquireCcnlRes.class
+		);
+		Map<String, ExecutedOrder> executedOrders = new LinkedHashMap<>();
+		Objects.requireNonNull(response.getBody()).output().forEach(output -> executedOrders.put(output.odno(),
+			new ExecutedOrder(output.odno(), output.pdno(), parseOrderType(output.sllBuyDvsnCd()),
+				parseQuantity(output.ftOrdQty()), parseQuantity(output.ftCcldQty()), parseQuantity(output.nccsQty()))));
+		return executedOrders;
+	}
+
+	// 01: 매도, 02: 매수
+	private OrderType parseOrderType(String sllBuyDvsnCd) {
+		if ("01".equals(sllBuyDvsnCd)) {
+			return OrderType.SELL;
+		}
+		return "02".equals(sllBuyDvsnCd) ? OrderType.BUY : null;
+	}
+
+	private int parseQuantity(String quantity) {
+		return (quantity == null || quantity.isBlank()) ? 0 : (int)Double.parseDouble(quantity);
 	}
 
 	// 인터벌 설정?
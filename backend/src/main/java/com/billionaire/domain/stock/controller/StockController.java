@@ -2,15 +2,31 @@ package com.billionaire.domain.stock.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.history.dto.internal.DrawdownSnapshot;
+import com.billionaire.domain.history.dto.internal.HistoryPage;
+import com.billionaire.domain.history.dto.internal.HistoryQuery;
+import com.billionaire.domain.history.dto.internal.HistoryVersion;
+import com.billionaire.domain.history.dto.request.HistoryReq;
+import com.billionaire.domain.history.service.HistoryStreamWriter;
+import com.billionaire.domain.stock.dto.response.DrawdownRes;
 import com.billionaire.domain.stock.dto.response.StockRes;
+import com.billionaire.domain.stock.exception.StockDataNotFoundException;
 import com.billionaire.domain.stock.service.StockService;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 
@@ -20,12 +36,71 @@ import lombok.RequiredArgsConstructor;
 @Validated
 public class StockController {
 	private final StockService stockService;
+	private final HistoryStreamWriter historyStreamWriter;
 
+	// 다음 페이지가 있으면 X-Next-Cursor 헤더에 cursor로 넘길 날짜를 담아 반환
+	// 이력이 바뀌지 않았으면(If-None-Match / If-Modified-Since) 본문 없이 304 반환
 	@GetMapping("/stocks/{ticker}")
-	public List<StockRes> searchStocks(
+	public ResponseEntity<List<StockRes>> searchStocks(
+		@PathVariable
+		@NotBlank(message = "종목 코드는 필수입니다")
+		String ticker,
+		@Valid HistoryReq historyReq,
+		WebRequest webRequest) {
+		HistoryQuery query = historyReq.toQuery();
+		PriceSeries series = stockService.getPriceSeries(ticker);
+		HistoryVersion version = HistoryVersion.of(ticker, series, query, "json");
+		if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+			return null;
+		}
+
+		HistoryPage<StockRes> page = stockService.getStockData(ticker, series, query);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+		if (page.nextCursor() != null) {
+			response.header(HistoryPage.NEXT_CURSOR_HEADER, page.nextCursor().toString());
+		}
+		return response.body(page.items());
+	}
+
+	// stream=true: 목록을 만들지 않고 JSON 배열(또는 Accept가 application/x-ndjson이면 NDJSON)로 바로 씀
+	@GetMapping(value = "/stocks/{ticker}", params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamStocks(
+		@PathVariable
+		@NotBlank(message = "종목 코드는 필수입니다")
+		String ticker,
+		@Valid HistoryReq historyReq,
+		@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+		WebRequest webRequest) {
+		HistoryQuery query = historyReq.toQuery();
+		PriceSeries series = stockService.getPriceSeries(ticker);
+		HistoryVersion version = HistoryVersion.of(ticker, series, query, historyStreamWriter.representationOf(accept));
+		if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+			return null;
+		}
+
+		return historyStreamWriter.write(stockService.streamStockData(ticker, series, query), StockRes.class, accept);
+	}
+
+	// 고점/고점 이후 저점/현재가 집계 (저장된 집계 + 당일 시세)
+	@GetMapping("/stocks/{ticker}/drawdown")
+	public DrawdownRes searchDrawdown(
 		@PathVariable
 		@NotBlank(message = "종목 코드는 필수입니다")
 		String ticker) {
-		return stockService.getStockData(ticker);
+		DrawdownSnapshot snapshot = stockService.getDrawdown(ticker);
+		if (snapshot.highestPrice() == null) {
+			throw new StockDataNotFoundException();
+		}
+
+		return DrawdownRes.builder()
+			.ticker(snapshot.ticker())
+			.highestPrice(snapshot.highestPrice())
+			.highestDate(snapshot.highestDate())
+			.lowestPriceAfterHighest(snapshot.lowestPriceAfterHighest())
+			.lowestDate(snapshot.lowestDate())
+			.currentPrice(snapshot.currentPrice())
+			.currentDate(snapshot.currentDate())
+			.drawdownRate(snapshot.drawdownRate() * 100.0)
+			.build();
 	}
 }
@@ -0,0 +1,32 @@
+package com.billionaire.domain.stock.dto.response;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record DrawdownRes(
+	String ticker,
+	Double highestPrice,
+	LocalDate highestDate,
+	// 고점 이후 거래일이 없으면 생략
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	Double lowestPriceAfterHighest,
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	LocalDate lowestDate,
+	Double currentPrice,
+	LocalDate currentDate,
+	// 고점 대비 현재가 하락률 (%)
+	Double drawdownRate
+) {
+	public DrawdownRes {
+		if (drawdownRate != null) {
+			drawdownRate = Math.round(drawdownRate * 100.0) / 100.0;
+		}
+	}
+}
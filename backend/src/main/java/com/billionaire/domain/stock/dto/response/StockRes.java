@@ -2,6 +2,7 @@ package com.billionaire.domain.stock.dto.response;
 
 import java.time.LocalDate;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
@@ -19,6 +20,13 @@ public record StockRes(
 	LocalDate date,
 	@NotNull(message = "가격은 필수입니다")
 	@Positive(message = "가격은 0보다 커야 합니다")
-	Double price
+	Double price,
+	// 주봉/월봉 조회 시에만 포함되는 구간 시가/고가/저가 (종가는 price)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	Double open,
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	Double high,
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	Double low
 ) {
 }
\ No newline at end of file
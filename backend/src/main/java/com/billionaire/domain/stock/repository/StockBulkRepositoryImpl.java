@@ -0,0 +1,46 @@
+package com.billionaire.domain.stock.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.stock.entity.Stock;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * IDENTITY 전략에서는 Hibernate JDBC 배치가 비활성화되므로,
+ * 대량 저장은 JdbcTemplate 배치 INSERT ... ON CONFLICT DO NOTHING 으로 처리합니다.
+ */
+@RequiredArgsConstructor
+public class StockBulkRepositoryImpl implements StockBulkRepository {
+	private static final String INSERT_SQL =
+		"INSERT INTO stock (ticker, date, price) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+	private static final String SELECT_SERIES_SQL =
+		"SELECT (date - DATE '1970-01-01') AS epoch_day, price FROM stock WHERE ticker = ? ORDER BY date";
+	private static final int BATCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void insertAllIgnoringDuplicates(List<Stock> stocks) {
+		if (stocks.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, stocks, BATCH_SIZE, (ps, stock) -> {
+			ps.setString(1, stock.getTicker());
+			ps.setObject(2, stock.getDate());
+			ps.setDouble(3, stock.getPrice());
+		});
+	}
+
+	@Override
+	public PriceSeries loadPriceSeries(String ticker) {
+		PriceSeries.Builder builder = PriceSeries.builder(false);
+		jdbcTemplate.query(SELECT_SERIES_SQL, rs -> {
+			builder.add(rs.getInt(1), rs.getDouble(2));
+		}, ticker);
+		return builder.build();
+	}
+}
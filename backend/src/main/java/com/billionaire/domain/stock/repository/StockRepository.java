@@ -11,17 +11,17 @@ import com.billionaire.domain.stock.exception.InvalidStockTickerException;
 import com.billionaire.domain.stock.exception.StockDataNotFoundException;
 
 @Repository
-public interface StockRepository extends JpaRepository<Stock, Long> {
+public interface StockRepository extends JpaRepository<Stock, Long>, StockBulkRepository {
 	Optional<Stock> findTopByTickerOrderByDateDesc(String ticker);
 
-	List<Stock> findAllByTicker(String ticker);
+	List<Stock> findAllByTickerOrderByDateAsc(String ticker);
 
 	default List<Stock> getStockData(String ticker) {
 		if (ticker == null || ticker.trim().isEmpty()) {
 			throw new InvalidStockTickerException();
 		}
 		
-		List<Stock> data = findAllByTicker(ticker);
+		List<Stock> data = findAllByTickerOrderByDateAsc(ticker);
 		if (data.isEmpty()) {
 			throw new StockDataNotFoundException();
 		}
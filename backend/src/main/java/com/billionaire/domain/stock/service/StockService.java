@@ -2,28 +2,44 @@ package com.billionaire.domain.stock.service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Optional;
 
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.billionaire.global.dto.internal.MarketPriceDetailedInfoRes;
-import com.billionaire.global.dto.internal.MarketPriceRes;
+import com.billionaire.domain.history.cache.PriceHistoryCache;
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.history.cache.PriceSeriesAggregator;
+import com.billionaire.domain.history.dto.internal.DrawdownSnapshot;
+import com.billionaire.domain.history.dto.internal.HistoryPage;
+import com.billionaire.domain.history.dto.internal.HistoryQuery;
+import com.billionaire.domain.history.dto.internal.HistoryStream;
+import com.billionaire.domain.history.dto.internal.PriceBar;
+import com.billionaire.domain.history.entity.DrawdownState;
+import com.billionaire.domain.history.entity.SyncState;
+import com.billionaire.domain.history.event.HistoryAppendedEvent;
+import com.billionaire.domain.history.repository.DrawdownStateRepository;
+import com.billionaire.domain.history.repository.SyncStateRepository;
+import com.billionaire.domain.history.type.HistoryResolution;
+import com.billionaire.domain.history.type.HistoryType;
 import com.billionaire.domain.stock.dto.response.StockRes;
 import com.billionaire.domain.stock.entity.Stock;
 import com.billionaire.domain.stock.exception.StockDataFetchFailedException;
+import com.billionaire.domain.stock.exception.StockDataNotFoundException;
 import com.billionaire.domain.stock.repository.StockRepository;
-import com.billionaire.global.constants.TradingConstants;
+import com.billionaire.global.type.ApiPriority;
 import com.billionaire.global.util.ApiUtils;
+import com.billionaire.global.util.ChartBarBuffer;
+import com.billionaire.global.util.ChartResponseParser;
 import com.billionaire.global.util.DateUtils;
+import com.billionaire.global.util.SingleFlight;
 import com.billionaire.global.util.TokenUtils;
 
-import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,71 +47,123 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Service
 public class StockService {
-	private static final String URL = "https://openapi.koreainvestment.com:9443/uapi/overseas-price/v1/quotations/inquire-daily-chartprice";
+	private static final String PATH = "/uapi/overseas-price/v1/quotations/inquire-daily-chartprice";
+	@Value("${ks.base-url}")
+	private String baseUrl;
 
 	private final StockRepository stockRepository;
+	private final SyncStateRepository syncStateRepository;
+	private final DrawdownStateRepository drawdownStateRepository;
+	private final PriceHistoryCache priceHistoryCache;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
 	private final ApiUtils apiUtils;
 	private final TokenUtils tokenUtils;
+	private final SingleFlight<String, PriceSeries> inFlightSyncs = new SingleFlight<>();
+	private final SingleFlight<String, Optional<Stock>> inFlightFetches = new SingleFlight<>();
 
-	@Transactional
-	public List<StockRes> getStockData(String ticker) {
-		String startingDate = getLatestStoredDate(ticker);
-		List<Stock> allStockListInAPI = fetchAllStockDataUntilToday(ticker, startingDate);
+	public HistoryPage<StockRes> getStockData(String ticker, HistoryQuery query) {
+		return getStockData(ticker, getPriceSeries(ticker), query);
+	}
 
-		saveIfNotExists(ticker, allStockListInAPI);
+	// 이미 동기화된 이력(getPriceSeries)으로 응답을 만듦. 조건부 요청 검증 후 본문을 만들 때 사용
+	public HistoryPage<StockRes> getStockData(String ticker, PriceSeries series, HistoryQuery query) {
+		if (series.isEmpty()) {
+			throw new StockDataNotFoundException();
+		}
 
-		List<Stock> stockListInDB = stockRepository.getStockData(ticker);
-		List<Stock> todayList = allStockListInAPI.stream()
-			.filter(stock -> stock.getDate().isEqual(LocalDate.now()))
-			.toList();
+		boolean aggregated = query.resolution() != HistoryResolution.DAILY;
+		return PriceSeriesAggregator.query(series, query)
+			.map(bar -> convertToStockRes(ticker, bar, aggregated));
+	}
 
-		return Stream.concat(stockListInDB.stream(), todayList.stream())
-			.distinct()
-			.map(this::convertToStockRes)
-			.toList();
+	// 응답 목록을 만들지 않고 캐시된 이력에서 행을 하나씩 변환해 넘김 (스트리밍 응답용)
+	public HistoryStream<StockRes> streamStockData(String ticker, PriceSeries series, HistoryQuery query) {
+		if (series.isEmpty()) {
+			throw new StockDataNotFoundException();
+		}
+
+		boolean aggregated = query.resolution() != HistoryResolution.DAILY;
+		return new HistoryStream<>(
+			PriceSeriesAggregator.nextCursor(series, query),
+			action -> PriceSeriesAggregator.forEach(series, query, bar -> action.accept(convertToStockRes(ticker, bar, aggregated)))
+		);
 	}
 
-	private List<Stock> fetchAllStockDataUntilToday(String ticker, String fromDate) {
-		List<Stock> accumulated = new ArrayList<>();
-		String currentFromDate = fromDate;
+	// 고점/고점 이후 저점/현재가 집계. 저장된 집계에 당일 시세만 더하므로 이력 길이와 무관
+	public DrawdownSnapshot getDrawdown(String ticker) {
+		Optional<Stock> todayStock = inFlightFetches.execute(ticker, () -> syncNewStocks(ticker));
+		DrawdownState drawdownState = loadDrawdownStateOutsideSync(ticker);
 
-		while (!hasTodayData(accumulated)) {
-			MarketPriceRes stockData = fetchStockDataFromAPI(ticker, currentFromDate);
-			List<MarketPriceDetailedInfoRes> sortedData = getSortedMarketData(stockData);
+		return todayStock
+			.map(stock -> drawdownState.snapshotWith(stock.getDate(), stock.getPrice()))
+			.orElseGet(drawdownState::snapshot);
+	}
 
-			if (sortedData.isEmpty()) {
-				break;
-			}
+	// 새 일봉을 동기화한 뒤, 캐시된 일봉 이력에 저장하지 않는 당일 시세를 붙여 반환
+	// 같은 종목을 동시에 요청하면 하나의 조회/저장만 수행하고 결과를 공유
+	public PriceSeries getPriceSeries(String ticker) {
+		return inFlightSyncs.execute(ticker, () -> syncPriceSeries(ticker));
+	}
 
-			List<Stock> convertedStocks = convertToStocks(ticker, sortedData);
-			accumulated.addAll(convertedStocks);
+	// 이력을 캐시에 올리지 않고 새 일봉만 저장 (백필 작업용)
+	public void syncHistory(String ticker) {
+		inFlightFetches.execute(ticker, () -> syncNewStocks(ticker));
+	}
 
-			currentFromDate = getNextFetchDate(convertedStocks);
-			waitForNextApiCall();
-		}
+	private PriceSeries syncPriceSeries(String ticker) {
+		Optional<Stock> todayStock = inFlightFetches.execute(ticker, () -> syncNewStocks(ticker));
+
+		PriceSeries series = priceHistoryCache.get(HistoryType.STOCK, ticker,
+			() -> stockRepository.loadPriceSeries(ticker));
 
-		return accumulated;
+		LocalDate today = LocalDate.now();
+		return todayStock
+			.map(stock -> series.withTail(today, stock.getPrice(), 0.0))
+			.orElse(series);
 	}
 
-	private List<MarketPriceDetailedInfoRes> getSortedMarketData(MarketPriceRes stockData) {
-		return stockData.output2().stream()
-			.filter(d -> d.stckBsopDate() != null && !d.stckBsopDate().isBlank())
-			.sorted(Comparator.comparing(d -> DateUtils.parse(d.stckBsopDate())))
-			.toList();
+	// 조회 구간(100일)마다 저장하고 워터마크를 갱신하므로, 중간에 중단되어도 다음 호출은 마지막 저장 지점부터 이어서 조회
+	private Optional<Stock> syncNewStocks(String ticker) {
+		SyncState syncState = loadSyncState(ticker);
+		String currentFromDate = DateUtils.format(syncState.getNextSyncDate());
+
+		while (true) {
+			ChartBarBuffer bars = fetchStockDataFromAPI(ticker, currentFromDate);
+
+			if (bars.isEmpty()) {
+				return Optional.empty();
+			}
+
+			List<Stock> convertedStocks = convertToStocks(ticker, bars);
+			List<Stock> newStocks = transactionTemplate.execute(status -> saveNewStocks(syncState, convertedStocks));
+			priceHistoryCache.append(HistoryType.STOCK, ticker, toPriceSeries(newStocks));
+
+			Optional<Stock> todayStock = findTodayStock(convertedStocks);
+			if (todayStock.isPresent()) {
+				return todayStock;
+			}
+			currentFromDate = getNextFetchDate(convertedStocks);
+		}
 	}
 
-	private List<Stock> convertToStocks(String ticker, List<MarketPriceDetailedInfoRes> sortedData) {
-		return sortedData.stream()
-			.map(data -> Stock.builder()
+	private List<Stock> convertToStocks(String ticker, ChartBarBuffer bars) {
+		List<Stock> stocks = new ArrayList<>(bars.size());
+		for (int i = 0; i < bars.size(); i++) {
+			stocks.add(Stock.builder()
 				.ticker(ticker)
-				.date(DateUtils.parse(data.stckBsopDate()))
-				.price(Double.valueOf(data.ovrsNmixPrpr()))
-				.build())
-			.toList();
+				.date(bars.dateAt(i))
+				.price(bars.priceAt(i))
+				.build());
+		}
+		return stocks;
 	}
 
-	private boolean hasTodayData(List<Stock> stocks) {
-		return stocks.stream().anyMatch(s -> s.getDate().isEqual(LocalDate.now()));
+	private Optional<Stock> findTodayStock(List<Stock> stocks) {
+		LocalDate today = LocalDate.now();
+		return stocks.stream()
+			.filter(stock -> stock.getDate().isEqual(today))
+			.findFirst();
 	}
 
 	private String getNextFetchDate(List<Stock> stocks) {
@@ -103,26 +171,50 @@ public class StockService {
 		return DateUtils.format(lastDate.plusDays(1));
 	}
 
-	private void waitForNextApiCall() {
+	private SyncState loadSyncState(String ticker) {
+		return syncStateRepository.findByTickerAndType(ticker, HistoryType.STOCK)
+			.orElseGet(() -> initializeSyncState(ticker));
+	}
+
+	// 동기화 상태가 없으면 기존에 저장된 마지막 일봉으로 워터마크를 초기화
+	private SyncState initializeSyncState(String ticker) {
+		SyncState syncState = SyncState.builder()
+			.ticker(ticker)
+			.type(HistoryType.STOCK)
+			.build();
+
+		stockRepository.findTopByTickerOrderByDateDesc(ticker).ifPresentOrElse(
+			latestStock -> syncState.advance(latestStock.getDate(), latestStock.getPrice()),
+			() -> log.info("저장된 주식 데이터가 없습니다. 기본 시작 날짜를 사용합니다: {}", ticker)
+		);
+		return syncState;
+	}
+
+	private DrawdownState loadDrawdownState(String ticker) {
+		return drawdownStateRepository.findByTicker(ticker)
+			.orElseGet(() -> drawdownStateRepository.save(initializeDrawdownState(ticker)));
+	}
+
+	// 동기화 흐름 밖에서 조회하므로 다른 요청과 동시에 초기화될 수 있음. 이 경우 먼저 저장된 집계를 사용
+	private DrawdownState loadDrawdownStateOutsideSync(String ticker) {
 		try {
-			Thread.sleep(TradingConstants.ApiCall.CALL_INTERVAL_MS);
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw new StockDataFetchFailedException();
+			return loadDrawdownState(ticker);
+		} catch (DataIntegrityViolationException e) {
+			return drawdownStateRepository.findByTicker(ticker).orElseThrow(() -> e);
 		}
 	}
 
-	private String getLatestStoredDate(String ticker) {
-		try {
-			Stock latestStock = stockRepository.getLatestStockData(ticker);
-			return DateUtils.format(latestStock.getDate());
-		} catch (Exception e) {
-			log.info("저장된 주식 데이터가 없습니다. 기본 시작 날짜를 사용합니다: {}", ticker);
-			return DateUtils.format(LocalDate.of(2008, 1, 2));
+	// 집계가 없으면 기존에 저장된 일봉 이력으로 한 번만 초기화
+	private DrawdownState initializeDrawdownState(String ticker) {
+		DrawdownState drawdownState = DrawdownState.empty(ticker);
+		PriceSeries series = stockRepository.loadPriceSeries(ticker);
+		for (int i = 0; i < series.size(); i++) {
+			drawdownState.apply(series.dateAt(i), series.priceAt(i));
 		}
+		return drawdownState;
 	}
 
-	private MarketPriceRes fetchStockDataFromAPI(String ticker, String startingDate) {
+	private ChartBarBuffer fetchStockDataFromAPI(String ticker, String startingDate) {
 		try {
 			LocalDate endDate = DateUtils.parse(startingDate).plusDays(100);
 			Map<String, String> params = Map.of(
@@ -132,51 +224,58 @@ public class StockService {
 				"FID_INPUT_DATE_2", DateUtils.format(endDate),
 				"FID_PERIOD_DIV_CODE", "D"
 			);
-			ResponseEntity<MarketPriceRes> response = apiUtils.getRequest(
+			return apiUtils.getRequestStreaming(
+				ApiPriority.BACKFILL,
 				tokenUtils.createAuthorizationHeaders("FHKST03030100"),
-				URL,
+				baseUrl + PATH,
 				params,
-				MarketPriceRes.class
+				response -> ChartResponseParser.parse(response.getBody())
 			);
-
-			
-			if (response.getBody() == null) {
-				throw new StockDataFetchFailedException();
-			}
-			
-			return response.getBody();
 		} catch (Exception e) {
 			throw new StockDataFetchFailedException();
 		}
 	}
 
-	private void saveIfNotExists(String ticker, List<Stock> stockListInAPI) {
-		try {
-			Set<LocalDate> existingDates = stockRepository.getStockData(ticker).stream()
-				.map(Stock::getDate)
-				.collect(Collectors.toSet());
+	private List<Stock> saveNewStocks(SyncState syncState, List<Stock> stockListInAPI) {
+		LocalDate today = LocalDate.now();
+		List<Stock> newStocks = stockListInAPI.stream()
+			.filter(stock -> stock.getDate().isBefore(today))
+			.filter(stock -> !syncState.isSynced(stock.getDate()))
+			.toList();
 
-			List<Stock> filteredToSave = stockListInAPI.stream()
-				.filter(stock -> !stock.getDate().isEqual(LocalDate.now()))
-				.filter(stock -> !existingDates.contains(stock.getDate()))
-				.toList();
+		if (!newStocks.isEmpty()) {
+			stockRepository.insertAllIgnoringDuplicates(newStocks);
 
-			stockRepository.saveAll(filteredToSave);
-		} catch (Exception e) {
-			log.info("기존 데이터가 없습니다. 모든 데이터를 저장합니다: {}", ticker);
-			List<Stock> filteredToSave = stockListInAPI.stream()
-				.filter(stock -> !stock.getDate().isEqual(LocalDate.now()))
-				.toList();
+			DrawdownState drawdownState = loadDrawdownState(syncState.getTicker());
+			newStocks.forEach(stock -> drawdownState.apply(stock.getDate(), stock.getPrice()));
+			drawdownStateRepository.save(drawdownState);
 
-			stockRepository.saveAll(filteredToSave);
+			Stock latestStock = newStocks.get(newStocks.size() - 1);
+			syncState.advance(latestStock.getDate(), latestStock.getPrice());
+
+			eventPublisher.publishEvent(new HistoryAppendedEvent(HistoryType.STOCK, syncState.getTicker(), toPriceSeries(newStocks)));
+		}
+
+		if (!newStocks.isEmpty() || syncState.getId() == null) {
+			syncStateRepository.save(syncState);
 		}
+		return newStocks;
+	}
+
+	private PriceSeries toPriceSeries(List<Stock> stocks) {
+		PriceSeries.Builder builder = PriceSeries.builder(false);
+		stocks.forEach(stock -> builder.add(stock.getDate(), stock.getPrice(), 0.0));
+		return builder.build();
 	}
 
-	private StockRes convertToStockRes(Stock stock) {
+	private StockRes convertToStockRes(String ticker, PriceBar bar, boolean aggregated) {
 		return StockRes.builder()
-			.ticker(stock.getTicker())
-			.date(stock.getDate())
-			.price(stock.getPrice())
+			.ticker(ticker)
+			.date(bar.date())
+			.price(bar.close())
+			.open(aggregated ? bar.open() : null)
+			.high(aggregated ? bar.high() : null)
+			.low(aggregated ? bar.low() : null)
 			.build();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.billionaire.domain.strategy.custom.backtest;
+
+import java.util.concurrent.RecursiveAction;
+
+import com.billionaire.domain.strategy.custom.dto.internal.BacktestResult;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalanceParameters;
+
+/**
+ * 파라미터 그리드를 반씩 나눠 fork-join 풀에서 병렬로 시뮬레이션
+ * 그리드 지점마다 결과 배열의 자기 칸에만 쓰므로 동기화가 필요 없습니다.
+ */
+public class BacktestGridTask extends RecursiveAction {
+	private final BacktestMarket market;
+	private final double[] weights;
+	private final RebalanceParameters[] grid;
+	private final BacktestResult[] results;
+	private final double initialCapital;
+	private final double feeRate;
+	private final int from;
+	private final int to;
+
+	public BacktestGridTask(BacktestMarket market, double[] weights, RebalanceParameters[] grid,
+		BacktestResult[] results, double initialCapital, double feeRate) {
+		this(market, weights, grid, results, initialCapital, feeRate, 0, grid.length);
+	}
+
+	private BacktestGridTask(BacktestMarket market, double[] weights, RebalanceParameters[] grid,
+		BacktestResult[] results, double initialCapital, double feeRate, int from, int to) {
+		this.market = market;
+		this.weights = weights;
+		this.grid = grid;
+		this.results = results;
+		this.initialCapital = initialCapital;
+		this.feeRate = feeRate;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	protected void compute() {
+		// 그리드 지점 하나가 전체 기간 시뮬레이션이므로 한 지점까지 나눔
+		if (to - from <= 1) {
+			if (from < to) {
+				results[from] = new BacktestSimulator(market, weights, grid[from], feeRate).run(initialCapital);
+			}
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		invokeAll(
+			new BacktestGridTask(market, weights, grid, results, initialCapital, feeRate, from, middle),
+			new BacktestGridTask(market, weights, grid, results, initialCapital, feeRate, middle, to)
+		);
+	}
+}
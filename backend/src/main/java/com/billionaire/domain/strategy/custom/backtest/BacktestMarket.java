@@ -0,0 +1,120 @@
+package com.billionaire.domain.strategy.custom.backtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.strategy.custom.entity.PanicState;
+
+/**
+ * 백테스트 기간의 거래일별 시세/고점/고점 이후 저점/공황 여부를 종목별 primitive 배열로 펼친 불변 데이터
+ * 파라미터와 무관한 값은 한 번만 계산해 모든 그리드 지점이 공유합니다.
+ * 거래일은 지수 일봉 날짜를 따르고, 해당 날짜에 봉이 없는 종목은 직전 봉 값을 이어 씁니다.
+ * 상장 전이면 가격이, 고점 이후 봉이 없으면 저점이 NaN 입니다.
+ */
+public final class BacktestMarket {
+	private final int[] epochDays;
+	private final double[][] prices;
+	private final double[][] highestPrices;
+	private final double[][] lowestPricesAfterHighest;
+	private final boolean[] panicDays;
+
+	private BacktestMarket(int[] epochDays, double[][] prices, double[][] highestPrices,
+		double[][] lowestPricesAfterHighest, boolean[] panicDays) {
+		this.epochDays = epochDays;
+		this.prices = prices;
+		this.highestPrices = highestPrices;
+		this.lowestPricesAfterHighest = lowestPricesAfterHighest;
+		this.panicDays = panicDays;
+	}
+
+	// 고점/저점과 공황 상태는 from 이전 이력부터 누적해 계산
+	public static BacktestMarket of(String indexTicker, PriceSeries indexSeries, List<PriceSeries> stockSeries,
+		LocalDate from, LocalDate to) {
+		int start = indexSeries.indexAtOrAfter(from);
+		int end = indexSeries.indexAtOrBefore(to) + 1;
+		int[] epochDays = new int[Math.max(0, end - start)];
+		for (int day = 0; day < epochDays.length; day++) {
+			epochDays[day] = indexSeries.epochDayAt(start + day);
+		}
+
+		int stockCount = stockSeries.size();
+		double[][] prices = new double[stockCount][epochDays.length];
+		double[][] highestPrices = new double[stockCount][epochDays.length];
+		double[][] lowestPricesAfterHighest = new double[stockCount][epochDays.length];
+		for (int stock = 0; stock < stockCount; stock++) {
+			fillDrawdown(stockSeries.get(stock), epochDays, prices[stock], highestPrices[stock], lowestPricesAfterHighest[stock]);
+		}
+
+		return new BacktestMarket(epochDays, prices, highestPrices, lowestPricesAfterHighest,
+			fillPanicDays(indexTicker, indexSeries, epochDays));
+	}
+
+	public int tradingDays() {
+		return epochDays.length;
+	}
+
+	public int stockCount() {
+		return prices.length;
+	}
+
+	public int epochDayAt(int day) {
+		return epochDays[day];
+	}
+
+	public double priceAt(int stock, int day) {
+		return prices[stock][day];
+	}
+
+	public double highestPriceAt(int stock, int day) {
+		return highestPrices[stock][day];
+	}
+
+	public double lowestPriceAfterHighestAt(int stock, int day) {
+		return lowestPricesAfterHighest[stock][day];
+	}
+
+	public boolean isPanic(int day) {
+		return panicDays[day];
+	}
+
+	// DrawdownState와 같은 규칙으로 고점/고점 이후 저점을 거래일마다 기록
+	private static void fillDrawdown(PriceSeries series, int[] epochDays, double[] prices, double[] highestPrices,
+		double[] lowestPricesAfterHighest) {
+		double highest = Double.NaN;
+		double lowest = Double.NaN;
+		double last = Double.NaN;
+		int cursor = 0;
+		for (int day = 0; day < epochDays.length; day++) {
+			while (cursor < series.size() && series.epochDayAt(cursor) <= epochDays[day]) {
+				double price = series.priceAt(cursor);
+				if (Double.isNaN(highest) || price > highest) {
+					highest = price;
+					lowest = Double.NaN;
+				} else if (Double.isNaN(lowest) || price < lowest) {
+					lowest = price;
+				}
+				last = price;
+				cursor++;
+			}
+			prices[day] = last;
+			highestPrices[day] = highest;
+			lowestPricesAfterHighest[day] = lowest;
+		}
+	}
+
+	// 실제 판단과 같은 PanicState로 지수 일봉을 재생해 거래일별 공황 여부를 기록
+	private static boolean[] fillPanicDays(String indexTicker, PriceSeries indexSeries, int[] epochDays) {
+		boolean[] panicDays = new boolean[epochDays.length];
+		PanicState panicState = PanicState.empty(indexTicker);
+		int cursor = 0;
+		for (int day = 0; day < epochDays.length; day++) {
+			while (cursor < indexSeries.size() && indexSeries.epochDayAt(cursor) <= epochDays[day]) {
+				panicState.apply(indexSeries.dateAt(cursor), indexSeries.priceAt(cursor), indexSeries.rateAt(cursor));
+				cursor++;
+			}
+			panicDays[day] = panicState.evaluate(LocalDate.ofEpochDay(epochDays[day])).panic();
+		}
+		return panicDays;
+	}
+}
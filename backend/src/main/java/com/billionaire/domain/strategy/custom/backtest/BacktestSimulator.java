@@ -0,0 +1,150 @@
+package com.billionaire.domain.strategy.custom.backtest;
+
+import com.billionaire.domain.strategy.custom.dto.internal.BacktestResult;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalanceParameters;
+import com.billionaire.domain.strategy.custom.util.RebalanceCalculator;
+
+/**
+ * 파라미터 한 조합으로 RebalanceService의 매도 → 매수 순서를 거래일마다 재생하는 가상 계좌
+ * 주문은 당일 종가에 전량 체결된 것으로 보고, 보유 수량보다 많이 팔거나 현금보다 많이 사지 않습니다.
+ * 배열은 생성 시 한 번만 할당하고 거래일 루프에서는 객체를 만들지 않습니다. (인스턴스는 스레드 하나에서만 사용)
+ */
+public final class BacktestSimulator {
+	private static final double DAYS_PER_YEAR = 365.25;
+
+	private final BacktestMarket market;
+	private final double[] weights;
+	private final RebalanceParameters parameters;
+	private final double feeRate;
+	private final long[] shares;
+	private final double[] ownAmounts;
+	private double cash;
+	private double tradedAmount;
+	private int tradeCount;
+
+	public BacktestSimulator(BacktestMarket market, double[] weights, RebalanceParameters parameters, double feeRate) {
+		this.market = market;
+		this.weights = weights;
+		this.parameters = parameters;
+		this.feeRate = feeRate;
+		this.shares = new long[market.stockCount()];
+		this.ownAmounts = new double[market.stockCount()];
+	}
+
+	public BacktestResult run(double initialCapital) {
+		cash = initialCapital;
+		double equity = initialCapital;
+		double peakEquity = initialCapital;
+		double maxDrawdown = 0.0;
+		double equitySum = 0.0;
+		int panicDays = 0;
+
+		for (int day = 0; day < market.tradingDays(); day++) {
+			boolean panic = market.isPanic(day);
+			if (panic) {
+				panicDays++;
+			}
+
+			// 실제 리밸런싱처럼 매도/매수 단계 모두 거래 전 평가 금액을 기준으로 계산
+			double totalAmount = markToMarket(day);
+			for (int stock = 0; stock < shares.length; stock++) {
+				if (isTradable(stock, day)) {
+					rebalance(stock, day, totalAmount * weights[stock], panic, true);
+				}
+			}
+			for (int stock = 0; stock < shares.length; stock++) {
+				if (isTradable(stock, day)) {
+					rebalance(stock, day, totalAmount * weights[stock], panic, false);
+				}
+			}
+
+			equity = markToMarket(day);
+			peakEquity = Math.max(peakEquity, equity);
+			maxDrawdown = Math.max(maxDrawdown, (peakEquity - equity) / peakEquity);
+			equitySum += equity;
+		}
+
+		int days = market.tradingDays();
+		double averageEquity = days == 0 ? initialCapital : equitySum / days;
+		double years = days < 2 ? 0.0 : (market.epochDayAt(days - 1) - market.epochDayAt(0)) / DAYS_PER_YEAR;
+		double annualizedReturn = years > 0.0 ? Math.pow(equity / initialCapital, 1.0 / years) - 1.0 : 0.0;
+
+		return new BacktestResult(
+			parameters,
+			equity,
+			(equity / initialCapital - 1.0) * 100.0,
+			annualizedReturn * 100.0,
+			maxDrawdown * 100.0,
+			tradedAmount / averageEquity,
+			tradeCount,
+			panicDays
+		);
+	}
+
+	// 현금 + 보유 종목 평가 금액. 종목별 평가 금액은 ownAmounts에 기록
+	private double markToMarket(int day) {
+		double total = cash;
+		for (int stock = 0; stock < shares.length; stock++) {
+			double price = market.priceAt(stock, day);
+			ownAmounts[stock] = Double.isNaN(price) ? 0.0 : shares[stock] * price;
+			total += ownAmounts[stock];
+		}
+		return total;
+	}
+
+	// 실제 리밸런싱은 고점 이후 봉이 없으면 분석에 실패하므로 해당 종목은 그날 매매하지 않음
+	private boolean isTradable(int stock, int day) {
+		return !Double.isNaN(market.priceAt(stock, day))
+			&& !Double.isNaN(market.lowestPriceAfterHighestAt(stock, day));
+	}
+
+	private void rebalance(int stock, int day, double targetAmount, boolean panic, boolean selling) {
+		double price = market.priceAt(stock, day);
+		double highestPrice = market.highestPriceAt(stock, day);
+		double ownAmount = ownAmounts[stock];
+
+		if (panic) {
+			double amountToLiquidate = RebalanceCalculator.panicLiquidationAmount(parameters, targetAmount, highestPrice, price);
+			if (amountToLiquidate > 0) {
+				trade(stock, price, RebalanceCalculator.panicTrade(targetAmount, ownAmount, amountToLiquidate), selling);
+			}
+			return;
+		}
+
+		if (RebalanceCalculator.isRecoveryConditionMet(market.lowestPriceAfterHighestAt(stock, day), price)) {
+			trade(stock, price, RebalanceCalculator.recoveryTrade(targetAmount, ownAmount), selling);
+		}
+		trade(stock, price, RebalanceCalculator.dropTrade(parameters, targetAmount, ownAmount, highestPrice, price), selling);
+	}
+
+	private void trade(int stock, double price, double tradeAmount, boolean selling) {
+		if (selling && tradeAmount < 0) {
+			sell(stock, price, Math.min(RebalanceCalculator.quantityOf(tradeAmount, price), shares[stock]));
+		} else if (!selling && tradeAmount > 0) {
+			long affordable = (long)(cash / (price * (1.0 + feeRate)));
+			buy(stock, price, Math.min(RebalanceCalculator.quantityOf(tradeAmount, price), affordable));
+		}
+	}
+
+	private void sell(int stock, double price, long quantity) {
+		if (quantity <= 0) {
+			return;
+		}
+		double amount = quantity * price;
+		shares[stock] -= quantity;
+		cash += amount * (1.0 - feeRate);
+		tradedAmount += amount;
+		tradeCount++;
+	}
+
+	private void buy(int stock, double price, long quantity) {
+		if (quantity <= 0) {
+			return;
+		}
+		double amount = quantity * price;
+		shares[stock] += quantity;
+		cash -= amount * (1.0 + feeRate);
+		tradedAmount += amount;
+		tradeCount++;
+	}
+}
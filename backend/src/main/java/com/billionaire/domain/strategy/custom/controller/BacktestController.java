@@ -0,0 +1,26 @@
+package com.billionaire.domain.strategy.custom.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.billionaire.domain.strategy.custom.dto.request.BacktestReq;
+import com.billionaire.domain.strategy.custom.dto.response.BacktestRes;
+import com.billionaire.domain.strategy.custom.service.BacktestService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/backtest")
+@RequiredArgsConstructor
+public class BacktestController {
+	private final BacktestService backtestService;
+
+	@PostMapping
+	public ResponseEntity<BacktestRes> runBacktest(@Valid @RequestBody BacktestReq backtestReq) {
+		return ResponseEntity.ok(backtestService.run(backtestReq));
+	}
+}
@@ -0,0 +1,43 @@
+package com.billionaire.domain.strategy.custom.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.billionaire.domain.index.type.MarketIndex;
+import com.billionaire.domain.strategy.custom.dto.response.PanicStateRes;
+import com.billionaire.domain.strategy.custom.dto.response.PanicTransitionRes;
+import com.billionaire.domain.strategy.custom.service.PanicStateService;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/panic")
+@RequiredArgsConstructor
+@Validated
+public class PanicController {
+	private final PanicStateService panicStateService;
+
+	@GetMapping("/{name}")
+	public ResponseEntity<PanicStateRes> getPanicState(
+		@PathVariable
+		@NotBlank(message = "지수 이름은 필수입니다")
+		String name) {
+		return ResponseEntity.ok(panicStateService.getPanicState(MarketIndex.fromPath(name)));
+	}
+
+	// 최근 공황 상태 전환 이력 (최대 100건, 최신순)
+	@GetMapping("/{name}/transitions")
+	public ResponseEntity<List<PanicTransitionRes>> getTransitions(
+		@PathVariable
+		@NotBlank(message = "지수 이름은 필수입니다")
+		String name) {
+		return ResponseEntity.ok(panicStateService.getTransitions(MarketIndex.fromPath(name)));
+	}
+}
@@ -4,9 +4,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.billionaire.domain.strategy.custom.dto.response.RebalancePreviewRes;
 import com.billionaire.domain.strategy.custom.scheduler.CustomScheduler;
+import com.billionaire.domain.strategy.custom.service.RebalancePreviewService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class SchedulerController {
 
 	private final CustomScheduler customScheduler;
+	private final RebalancePreviewService rebalancePreviewService;
 
 	@PostMapping("/enable")
 	public ResponseEntity<String> enable() {
@@ -33,4 +37,10 @@ public class SchedulerController {
 	public ResponseEntity<String> status() {
 		return ResponseEntity.ok("현재 상태: " + (customScheduler.isEnabled() ? "활성화됨" : "비활성화됨"));
 	}
+
+	// 주문 없이 리밸런싱을 실행했을 때 나갈 주문과 단계별 소요 시간 (거래일 단위 캐시, refresh=true면 재계산)
+	@GetMapping("/preview")
+	public ResponseEntity<RebalancePreviewRes> preview(@RequestParam(defaultValue = "false") boolean refresh) {
+		return ResponseEntity.ok(rebalancePreviewService.getPreview(refresh));
+	}
 }
@@ -0,0 +1,17 @@
+package com.billionaire.domain.strategy.custom.dto.internal;
+
+/**
+ * 그리드 지점 하나의 백테스트 결과 (수익률/낙폭은 %)
+ */
+public record BacktestResult(
+	RebalanceParameters parameters,
+	double finalValue,
+	double totalReturn,
+	double annualizedReturn,
+	double maxDrawdown,
+	// 누적 매매 금액 / 평균 평가 금액
+	double turnover,
+	int tradeCount,
+	int panicDays
+) {
+}
@@ -0,0 +1,30 @@
+package com.billionaire.domain.strategy.custom.dto.internal;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDetailedData2Res;
+
+/**
+ * 리밸런싱 전에 미리 준비해 둔 시장 데이터
+ * 시가총액 기준과 검증된 매수 후보 종목을 담고, 준비하면서 종목/지수 일봉 이력도 최신으로 동기화해 둡니다.
+ */
+public record MarketSnapshot(
+	LocalDate tradingDate,
+	LocalDateTime preparedAt,
+	Long minMarketCap,
+	List<VerifiedDetailedData2Res> universe,
+	List<StageTiming> stages
+) {
+	public MarketSnapshot {
+		universe = List.copyOf(universe);
+		stages = List.copyOf(stages);
+	}
+
+	// 같은 날 maxAge 안에 준비된 스냅샷만 사용
+	public boolean isFresh(LocalDateTime now, Duration maxAge) {
+		return tradingDate.equals(now.toLocalDate()) && !preparedAt.plus(maxAge).isBefore(now);
+	}
+}
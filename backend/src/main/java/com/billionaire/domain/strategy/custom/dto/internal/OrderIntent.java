@@ -0,0 +1,18 @@
+package com.billionaire.domain.strategy.custom.dto.internal;
+
+import com.billionaire.domain.order.dto.internal.OrderDto;
+
+/**
+ * 리밸런싱 계획에 담긴 주문 하나
+ * sequence는 계획 안에서의 순번(주문 일지의 키), action은 주문 사유(로그용), amount는 목표 매매 금액입니다.
+ */
+public record OrderIntent(
+	int sequence,
+	OrderDto order,
+	String action,
+	double amount
+) {
+	public OrderIntent withSequence(int sequence) {
+		return new OrderIntent(sequence, order, action, amount);
+	}
+}
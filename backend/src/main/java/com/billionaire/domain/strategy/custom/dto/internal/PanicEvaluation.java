@@ -0,0 +1,7 @@
+package com.billionaire.domain.strategy.custom.dto.internal;
+
+public record PanicEvaluation(
+	boolean panic,
+	String reason
+) {
+}
@@ -0,0 +1,23 @@
+package com.billionaire.domain.strategy.custom.dto.internal;
+
+import java.util.List;
+
+/**
+ * 주문 직전까지 진행한 리밸런싱 준비 결과
+ * 매수 후보 종목이 없으면 plan이 null 입니다.
+ */
+public record PreparedRebalance(
+	double totalAmount,
+	// 주문 가능 외화 예수금 (매수 자금 계산용)
+	double cashAmount,
+	RebalancePlan plan,
+	List<StageTiming> stages
+) {
+	public PreparedRebalance {
+		stages = List.copyOf(stages);
+	}
+
+	public boolean hasPlan() {
+		return plan != null;
+	}
+}
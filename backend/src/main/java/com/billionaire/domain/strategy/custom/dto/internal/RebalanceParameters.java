@@ -0,0 +1,22 @@
+package com.billionaire.domain.strategy.custom.dto.internal;
+
+import com.billionaire.global.constants.TradingConstants;
+
+/**
+ * 리밸런싱 규칙의 조정 가능한 파라미터
+ * 실제 리밸런싱은 DEFAULT(TradingConstants.Rebalancing 값)를 사용하고, 백테스트는 여러 조합을 비교합니다.
+ */
+public record RebalanceParameters(
+	// 일반 상황 하락 구간 단위
+	double dropUnit,
+	// 패닉 상황 하락 구간 단위
+	double riseUnit,
+	// 구간당 매수/매도 비율
+	double tradeRatio
+) {
+	public static final RebalanceParameters DEFAULT = new RebalanceParameters(
+		TradingConstants.Rebalancing.DROP_UNIT_5_PERCENT,
+		TradingConstants.Rebalancing.RISE_UNIT_2_5_PERCENT,
+		TradingConstants.Rebalancing.TRADE_RATIO_10_PERCENT
+	);
+}
@@ -0,0 +1,38 @@
+package com.billionaire.domain.strategy.custom.dto.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문을 내기 전에 한 번에 계산한 리밸런싱 계획 (불변)
+ * 매도 단계는 sellIntents를, 매수 단계는 buyIntents를 실행합니다.
+ * holdingsBefore는 계획 시점의 종목별 보유 수량으로, 재시작 후 주문 일지를 대조할 때 사용합니다.
+ */
+public record RebalancePlan(
+	boolean panic,
+	List<OrderIntent> sellIntents,
+	List<OrderIntent> buyIntents,
+	Map<String, Integer> holdingsBefore
+) {
+	public RebalancePlan {
+		sellIntents = List.copyOf(sellIntents);
+		buyIntents = List.copyOf(buyIntents);
+		holdingsBefore = Map.copyOf(holdingsBefore);
+	}
+
+	// 매도 → 매수 순서로 계획 안의 순번을 매김
+	public static RebalancePlan of(boolean panic, List<OrderIntent> sellIntents, List<OrderIntent> buyIntents,
+		Map<String, Integer> holdingsBefore) {
+		List<OrderIntent> numberedSells = new ArrayList<>();
+		List<OrderIntent> numberedBuys = new ArrayList<>();
+		int sequence = 0;
+		for (OrderIntent intent : sellIntents) {
+			numberedSells.add(intent.withSequence(sequence++));
+		}
+		for (OrderIntent intent : buyIntents) {
+			numberedBuys.add(intent.withSequence(sequence++));
+		}
+		return new RebalancePlan(panic, numberedSells, numberedBuys, holdingsBefore);
+	}
+}
@@ -0,0 +1,15 @@
+package com.billionaire.domain.strategy.custom.dto.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리밸런싱 준비 단계 하나의 소요 시간
+ */
+public record StageTiming(
+	String stage,
+	long elapsedMillis
+) {
+	public static StageTiming since(String stage, long startedNanos) {
+		return new StageTiming(stage, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos));
+	}
+}
@@ -0,0 +1,37 @@
+package com.billionaire.domain.strategy.custom.dto.request;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 백테스트 요청
+ * weights는 tickers와 같은 순서의 비중이며 생략하면 균등 비중입니다. (합이 1이 아니면 정규화)
+ * drop_units/rise_units/trade_ratios의 모든 조합을 그리드로 실행하고, 생략한 항목은 TradingConstants 값을 사용합니다.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record BacktestReq(
+	@NotEmpty(message = "백테스트할 종목은 필수입니다")
+	List<String> tickers,
+	List<Double> weights,
+	@NotNull(message = "시작일은 필수입니다")
+	LocalDate from,
+	LocalDate to,
+	@Positive(message = "초기 자금은 0보다 커야 합니다")
+	Double initialCapital,
+	@DecimalMin(value = "0.0", message = "수수료율은 0 이상이어야 합니다")
+	@DecimalMax(value = "0.1", message = "수수료율은 0.1 이하여야 합니다")
+	Double feeRate,
+	List<Double> dropUnits,
+	List<Double> riseUnits,
+	List<Double> tradeRatios
+) {
+}
@@ -0,0 +1,23 @@
+package com.billionaire.domain.strategy.custom.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record BacktestRes(
+	// 실제로 재생한 첫/마지막 거래일
+	LocalDate from,
+	LocalDate to,
+	int tradingDays,
+	int gridSize,
+	long elapsedMillis,
+	// 총 수익률 내림차순
+	List<BacktestResultRes> results
+) {
+}
@@ -0,0 +1,24 @@
+package com.billionaire.domain.strategy.custom.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record BacktestResultRes(
+	double dropUnit,
+	double riseUnit,
+	double tradeRatio,
+	double finalValue,
+	// 총 수익률 / 연환산 수익률 / 최대 낙폭 (%)
+	double totalReturn,
+	double annualizedReturn,
+	double maxDrawdown,
+	// 누적 매매 금액 / 평균 평가 금액
+	double turnover,
+	int tradeCount,
+	int panicDays
+) {
+}
@@ -0,0 +1,23 @@
+package com.billionaire.domain.strategy.custom.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record PanicStateRes(
+	String ticker,
+	boolean panic,
+	String reason,
+	LocalDate evaluatedDate,
+	// 최근 2개월 내 -3% 이하 하락일
+	List<LocalDate> recentDropDates,
+	// 마지막으로 8거래일 연속 상승을 채운 상승 구간의 시작일
+	LocalDate recoveryRunStart
+) {
+}
@@ -0,0 +1,19 @@
+package com.billionaire.domain.strategy.custom.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record PanicTransitionRes(
+	boolean panic,
+	String reason,
+	LocalDate evaluatedDate,
+	LocalDateTime transitionedAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.billionaire.domain.strategy.custom.dto.response;
+
+import com.billionaire.domain.order.type.OrderType;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record PreviewOrderRes(
+	String ticker,
+	OrderType orderType,
+	int quantity,
+	double price,
+	double amount,
+	String action
+) {
+}
@@ -0,0 +1,26 @@
+package com.billionaire.domain.strategy.custom.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record RebalancePreviewRes(
+	LocalDate tradingDate,
+	LocalDateTime generatedAt,
+	// 매수 후보 종목이 없어 계획을 만들지 않았으면 false
+	boolean planned,
+	boolean panic,
+	double totalAmount,
+	List<PreviewOrderRes> sellOrders,
+	List<PreviewOrderRes> buyOrders,
+	List<StageTimingRes> stages,
+	long totalElapsedMillis
+) {
+}
@@ -0,0 +1,11 @@
+package com.billionaire.domain.strategy.custom.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record StageTimingRes(
+	String stage,
+	long elapsedMillis
+) {
+}
@@ -0,0 +1,31 @@
+package com.billionaire.domain.strategy.custom.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마지막으로 조회에 성공한 시가총액 1위 값
+ * 모든 조회 소스가 실패하면 가장 최근 기록을 대신 사용합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketCapRecord {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private String source;
+	private Long marketCap;
+	private LocalDateTime fetchedAt;
+}
@@ -0,0 +1,111 @@
+package com.billionaire.domain.strategy.custom.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.billionaire.domain.order.dto.internal.OrderDto;
+import com.billionaire.domain.order.type.OrderType;
+import com.billionaire.domain.strategy.custom.dto.internal.OrderIntent;
+import com.billionaire.domain.strategy.custom.type.JournalEntryType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리밸런싱 주문 일지 (추가만 하고 수정하지 않음)
+ * 한 번의 실행(runId)은 RUN_STARTED → 주문별 PLANNED → SUBMITTING → ACKED/REJECTED → RUN_COMPLETED 순서로 기록됩니다.
+ * 주문 행은 계획 안의 순번(sequence)으로 묶이며, 재시작 후에는 주문별 마지막 기록으로 재전송 여부를 판단합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {@Index(columnList = "runId"), @Index(columnList = "entryType")})
+public class OrderJournal {
+
+	private static final int MAX_MESSAGE_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private String runId;
+	private LocalDate tradingDate;
+	@Enumerated(EnumType.STRING)
+	private JournalEntryType entryType;
+	// 주문 행에만 채워지는 값
+	private Integer sequence;
+	private String ticker;
+	@Enumerated(EnumType.STRING)
+	private OrderType orderType;
+	private Integer quantity;
+	private Double price;
+	private Double amount;
+	private String action;
+	// 계획 시점의 보유 수량 (재시작 후 체결 여부 대조용)
+	private Integer holdingQuantityBefore;
+	private String orderNumber;
+	@Column(length = MAX_MESSAGE_LENGTH)
+	private String message;
+	private LocalDateTime recordedAt;
+
+	public static OrderJournal ofRun(String runId, LocalDate tradingDate, JournalEntryType entryType, String message) {
+		return OrderJournal.builder()
+			.runId(runId)
+			.tradingDate(tradingDate)
+			.entryType(entryType)
+			.message(truncate(message))
+			.recordedAt(LocalDateTime.now())
+			.build();
+	}
+
+	public static OrderJournal ofOrder(String runId, LocalDate tradingDate, JournalEntryType entryType,
+		OrderIntent intent, Integer holdingQuantityBefore, String orderNumber, String message) {
+		return OrderJournal.builder()
+			.runId(runId)
+			.tradingDate(tradingDate)
+			.entryType(entryType)
+			.sequence(intent.sequence())
+			.ticker(intent.order().ticker())
+			.orderType(intent.order().orderType())
+			.quantity(intent.order().quantity())
+			.price(intent.order().price())
+			.amount(intent.amount())
+			.action(intent.action())
+			.holdingQuantityBefore(holdingQuantityBefore)
+			.orderNumber(orderNumber)
+			.message(truncate(message))
+			.recordedAt(LocalDateTime.now())
+			.build();
+	}
+
+	public boolean isOrderEntry() {
+		return sequence != null;
+	}
+
+	public OrderIntent toIntent() {
+		return new OrderIntent(sequence, OrderDto.builder()
+			.ticker(ticker)
+			.quantity(quantity)
+			.price(price)
+			.orderType(orderType)
+			.build(), action, amount == null ? 0.0 : amount);
+	}
+
+	private static String truncate(String message) {
+		return (message != null && message.length() > MAX_MESSAGE_LENGTH)
+			? message.substring(0, MAX_MESSAGE_LENGTH)
+			: message;
+	}
+}
@@ -0,0 +1,204 @@
+package com.billionaire.domain.strategy.custom.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.billionaire.domain.strategy.custom.dto.internal.PanicEvaluation;
+import com.billionaire.global.constants.TradingConstants;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지수별 공황 판단 상태
+ * 일봉을 하나씩 apply 하면서 최근 -3% 하락일, 현재 연속 상승 구간, 마지막으로 8거래일 연속 상승을 채운 구간의 시작일을 갱신합니다.
+ * 하락일은 전일보다 가격이 낮으므로 상승 구간은 하락일을 지나 이어질 수 없습니다.
+ * 따라서 "하락일 이후 8거래일 연속 상승"은 recoveryRunStart가 하락일 이후인지로 판단할 수 있습니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"ticker"}))
+public class PanicState {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private String ticker;
+	private Double lastPrice;
+	private LocalDate lastDate;
+	// 현재 연속 상승 구간의 시작 봉(첫 상승 직전 봉) 날짜와 구간의 봉 수
+	private LocalDate risingRunStart;
+	private int risingDays;
+	// 마지막으로 8거래일 연속 상승을 채운 상승 구간의 시작일
+	private LocalDate recoveryRunStart;
+	// 최근 2개월 내 -3% 이하 하락일 (오름차순)
+	@Builder.Default
+	@ElementCollection(fetch = FetchType.EAGER)
+	@CollectionTable(name = "panic_state_drop_date", joinColumns = @JoinColumn(name = "panic_state_id"))
+	@OrderColumn(name = "position")
+	@Column(name = "drop_date")
+	private List<LocalDate> dropDates = new ArrayList<>();
+	private boolean panic;
+	private String reason;
+	private LocalDate evaluatedDate;
+	private LocalDateTime updatedAt;
+	// 다른 인스턴스가 같은 지수를 동시에 동기화하면 나중 커밋이 실패하도록 (기존 행은 0부터 시작)
+	@Version
+	@Column(columnDefinition = "bigint default 0")
+	private Long version;
+
+	public static PanicState empty(String ticker) {
+		return PanicState.builder()
+			.ticker(ticker)
+			.build();
+	}
+
+	// 마지막으로 반영한 날짜 이하의 봉은 무시하므로 같은 봉을 여러 번 반영해도 결과가 같음
+	public void apply(LocalDate date, double price, double rate) {
+		if (lastDate != null && !date.isAfter(lastDate)) {
+			return;
+		}
+
+		if (lastPrice != null && price > lastPrice) {
+			risingDays++;
+		} else {
+			risingRunStart = date;
+			risingDays = 1;
+		}
+		if (risingDays >= TradingConstants.Panic.RECOVERY_RISING_DAYS) {
+			recoveryRunStart = risingRunStart;
+		}
+
+		if (isDrop(rate)) {
+			dropDates.add(date);
+		}
+		LocalDate windowStart = dropWindowStart(date);
+		dropDates.removeIf(dropDate -> dropDate.isBefore(windowStart));
+
+		this.lastPrice = price;
+		this.lastDate = date;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	// 저장되지 않은 당일 시세를 반영한 사본 (상태는 바꾸지 않음)
+	public PanicState previewWith(LocalDate date, double price, double rate) {
+		PanicState preview = copy();
+		preview.apply(date, price, rate);
+		return preview;
+	}
+
+	// 저장하지 않는 판단용 사본 (id/version이 없으므로 저장 대상이 아님)
+	public PanicState copy() {
+		return PanicState.builder()
+			.ticker(ticker)
+			.lastPrice(lastPrice)
+			.lastDate(lastDate)
+			.risingRunStart(risingRunStart)
+			.risingDays(risingDays)
+			.recoveryRunStart(recoveryRunStart)
+			.dropDates(new ArrayList<>(dropDates))
+			.panic(panic)
+			.reason(reason)
+			.evaluatedDate(evaluatedDate)
+			.build();
+	}
+
+	/**
+	 * today 기준 공황 여부
+	 * 4회 이상 하락이 한 달 안에 몰려 있으면 가장 오래된 하락 이후 8거래일 연속 상승 전까지 공황,
+	 * 그보다 적으면 가장 최근 하락이 한 달 이내이고 그 이후 8거래일 연속 상승이 없을 때 공황입니다.
+	 */
+	public PanicEvaluation evaluate(LocalDate today) {
+		LocalDate windowStart = dropWindowStart(today);
+		List<LocalDate> drops = dropDates.stream()
+			.filter(dropDate -> !dropDate.isBefore(windowStart))
+			.sorted(Comparator.reverseOrder())
+			.toList();
+
+		if (drops.isEmpty()) {
+			return new PanicEvaluation(false, "최근 2달간 -3% 하락 없음 → 공황 아님");
+		}
+		if (drops.size() >= TradingConstants.Panic.MULTIPLE_DROP_COUNT) {
+			return evaluateMultipleDrops(drops, today);
+		}
+		return evaluateSingleDrop(drops.get(0), today);
+	}
+
+	// 판단 결과를 기록하고, 공황 여부가 바뀌었으면(또는 첫 판단이면) true
+	public boolean updateEvaluation(PanicEvaluation evaluation, LocalDate date) {
+		boolean changed = evaluatedDate == null || panic != evaluation.panic();
+		this.panic = evaluation.panic();
+		this.reason = evaluation.reason();
+		this.evaluatedDate = date;
+		this.updatedAt = LocalDateTime.now();
+		return changed;
+	}
+
+	public List<LocalDate> getRecentDropDates(LocalDate today) {
+		LocalDate windowStart = dropWindowStart(today);
+		return dropDates.stream()
+			.filter(dropDate -> !dropDate.isBefore(windowStart))
+			.toList();
+	}
+
+	private PanicEvaluation evaluateMultipleDrops(List<LocalDate> drops, LocalDate today) {
+		LocalDate first = drops.get(0);
+		LocalDate fourth = drops.get(TradingConstants.Panic.MULTIPLE_DROP_COUNT - 1);
+		boolean fourDropsInOneMonth = !first.isAfter(fourth.plusMonths(1).plusDays(1));
+
+		if (fourDropsInOneMonth) {
+			if (hasRecoveredSince(drops.get(drops.size() - 1))) {
+				return new PanicEvaluation(false, "공황 해제 (8거래일 연속 상승)");
+			}
+			return new PanicEvaluation(true, "공황 상태 (4회 이상 발생)");
+		}
+		if (today.isAfter(first.plusMonths(1).plusDays(1))) {
+			return new PanicEvaluation(false, "공황 아님 (최근 하락 발생일로부터 한 달 이상 지남)");
+		}
+		return new PanicEvaluation(true, "공황 상태 (4회 이상이지만 1개월 내 조건 미충족)");
+	}
+
+	private PanicEvaluation evaluateSingleDrop(LocalDate dropDate, LocalDate today) {
+		if (dropDate.isBefore(today.minusMonths(1).minusDays(1))) {
+			return new PanicEvaluation(false, "공황 아님 (최근 하락 오래됨)");
+		}
+		if (hasRecoveredSince(dropDate)) {
+			return new PanicEvaluation(false, "공황 아님 (8거래일 연속 상승)");
+		}
+		return new PanicEvaluation(true, "공황 상태 (한 달 내 -3% 발생, 해제조건 불충족)");
+	}
+
+	private boolean hasRecoveredSince(LocalDate dropDate) {
+		return recoveryRunStart != null && !recoveryRunStart.isBefore(dropDate);
+	}
+
+	// 변동률은 응답과 같이 소수점 둘째 자리에서 반올림한 값으로 비교
+	private static boolean isDrop(double rate) {
+		return Math.round(rate * 100.0) / 100.0 <= TradingConstants.Panic.DROP_RATE_THRESHOLD;
+	}
+
+	private static LocalDate dropWindowStart(LocalDate date) {
+		return date.minusMonths(TradingConstants.Panic.DROP_WINDOW_MONTHS).minusDays(1);
+	}
+}
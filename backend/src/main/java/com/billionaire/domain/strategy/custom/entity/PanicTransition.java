@@ -0,0 +1,37 @@
+package com.billionaire.domain.strategy.custom.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지수별 공황 상태 전환 이력
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_panic_transition_ticker_date", columnList = "ticker, evaluatedDate"))
+public class PanicTransition {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private String ticker;
+	private boolean panic;
+	private String reason;
+	// 전환을 판단한 기준일 (일봉 반영 시 해당 봉의 날짜, 실시간 판단 시 당일)
+	private LocalDate evaluatedDate;
+	private LocalDateTime transitionedAt;
+}
@@ -0,0 +1,11 @@
+package com.billionaire.domain.strategy.custom.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class BacktestHistoryNotFoundException extends BusinessException {
+
+	public BacktestHistoryNotFoundException() {
+		super(ErrorCode.BACKTEST_HISTORY_NOT_FOUND);
+	}
+}
@@ -0,0 +1,11 @@
+package com.billionaire.domain.strategy.custom.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class InvalidBacktestParameterException extends BusinessException {
+
+	public InvalidBacktestParameterException() {
+		super(ErrorCode.INVALID_BACKTEST_PARAMETER);
+	}
+}
@@ -0,0 +1,11 @@
+package com.billionaire.domain.strategy.custom.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class RebalancePreviewFailedException extends BusinessException {
+
+	public RebalancePreviewFailedException(Throwable cause) {
+		super(ErrorCode.REBALANCE_PREVIEW_FAILED, cause);
+	}
+}
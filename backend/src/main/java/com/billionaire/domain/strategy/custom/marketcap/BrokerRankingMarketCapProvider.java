@@ -0,0 +1,47 @@
+package com.billionaire.domain.strategy.custom.marketcap;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDataRes;
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDetailedData2Res;
+import com.billionaire.domain.strategy.custom.service.StockVerificationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 증권사 조건검색(inquire-search)으로 시가총액 하한 이상인 나스닥 종목을 조회해 가장 큰 시가총액을 사용
+ * 전략의 매수 후보도 나스닥 종목이므로 기준이 같습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BrokerRankingMarketCapProvider implements MarketCapProvider {
+	private final StockVerificationService stockVerificationService;
+
+	// 조회 구간 (천 달러, 기본 1,000억 ~ 100조 달러). 1위 종목이 반드시 이 구간에 들어오도록 충분히 넓게 설정
+	@Value("${app.market-cap.broker.min-market-cap:100000000}")
+	private long minMarketCap;
+	@Value("${app.market-cap.broker.max-market-cap:100000000000}")
+	private long maxMarketCap;
+
+	@Override
+	public String name() {
+		return "broker";
+	}
+
+	@Override
+	public long fetchLargestMarketCap() throws IOException {
+		VerifiedDataRes verifiedDataRes = stockVerificationService.verifyData(minMarketCap, maxMarketCap);
+		if (verifiedDataRes == null || verifiedDataRes.output2() == null || verifiedDataRes.output2().isEmpty()) {
+			throw new IOException("증권사 조건검색 결과가 없습니다");
+		}
+		return verifiedDataRes.output2().stream()
+			.map(VerifiedDetailedData2Res::valx)
+			.filter(valx -> valx != null && !valx.isBlank())
+			.mapToLong(Long::parseLong)
+			.max()
+			.orElseThrow(() -> new IOException("증권사 조건검색 결과에 시가총액이 없습니다"));
+	}
+}
@@ -0,0 +1,37 @@
+package com.billionaire.domain.strategy.custom.marketcap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일에 적힌 시가총액(천 달러, 숫자 하나)을 그대로 사용 (오프라인 테스트용)
+ * app.market-cap.providers에 file을 넣었을 때만 사용됩니다.
+ */
+@Component
+public class FileMarketCapProvider implements MarketCapProvider {
+
+	@Value("${app.market-cap.file.location:classpath:data/market-cap.txt}")
+	private Resource location;
+
+	@Override
+	public String name() {
+		return "file";
+	}
+
+	@Override
+	public long fetchLargestMarketCap() throws IOException {
+		try (InputStream inputStream = location.getInputStream()) {
+			String text = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+			try {
+				return Long.parseLong(text.replace(",", ""));
+			} catch (NumberFormatException e) {
+				throw new IOException("시가총액 파일 형식 오류: " + location, e);
+			}
+		}
+	}
+}
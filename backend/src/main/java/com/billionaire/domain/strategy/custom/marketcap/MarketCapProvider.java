@@ -0,0 +1,14 @@
+package com.billionaire.domain.strategy.custom.marketcap;
+
+import java.io.IOException;
+
+/**
+ * 미국 시가총액 1위 종목의 시가총액(천 달러 단위) 조회 소스
+ * app.market-cap.providers에 적힌 이름(name) 순서대로 시도합니다.
+ */
+public interface MarketCapProvider {
+
+	String name();
+
+	long fetchLargestMarketCap() throws IOException;
+}
@@ -0,0 +1,68 @@
+package com.billionaire.domain.strategy.custom.marketcap;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TradingView 대형주 순위 페이지의 첫 번째 행에서 시가총액을 읽음
+ * 필요한 것은 1위 한 종목뿐이므로 첫 행만 찾고, 나머지 행은 변환하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TradingViewMarketCapProvider implements MarketCapProvider {
+	private static final String URL = "https://kr.tradingview.com/markets/stocks-usa/market-movers-large-cap/";
+	// 시가총액 단위별 배수 (천 달러 기준)
+	private static final Map<String, Long> MULTIPLIER = Map.of(
+		"B", 1_000_000L,
+		"T", 1_000_000_000L,
+		"M", 1_000L,
+		"K", 1L
+	);
+
+	@Override
+	public String name() {
+		return "tradingview";
+	}
+
+	@Override
+	public long fetchLargestMarketCap() throws IOException {
+		Element firstRow = Jsoup.connect(URL).get().selectFirst("table tbody tr");
+		Element marketCapElement = firstRow != null ? firstRow.selectFirst("td:nth-child(2)") : null;
+		if (marketCapElement == null) {
+			throw new IOException("TradingView 시가총액 테이블을 찾을 수 없습니다 (페이지 구조 변경)");
+		}
+
+		String marketCapText = marketCapElement.text().trim();
+		Long marketCap = parseMarketCap(marketCapText);
+		if (marketCap == null) {
+			throw new IOException("TradingView 시가총액 파싱 실패: " + marketCapText);
+		}
+		return marketCap;
+	}
+
+	static Long parseMarketCap(String marketCapText) {
+		// 불필요한 문자와 좁은 공백 제거
+		String cleanText = marketCapText.replace("\u202F", " ").replace("USD", "").trim();
+
+		String[] parts = cleanText.split("\\s");
+		if (parts.length < 2)
+			return null;
+
+		try {
+			// 첫 번째 부분은 숫자, 두 번째 부분은 단위(B, T, M, K)
+			double number = Double.parseDouble(parts[0].replace(",", ""));
+			String unit = parts[1].substring(0, 1); // T, B, M, K 중 하나
+
+			// 해당 단위에 맞는 값을 곱해서 반환
+			return (long)(number * MULTIPLIER.getOrDefault(unit, 1L));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.billionaire.domain.strategy.custom.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.billionaire.domain.strategy.custom.entity.OrderJournal;
+import com.billionaire.domain.strategy.custom.type.JournalEntryType;
+
+public interface OrderJournalRepository extends JpaRepository<OrderJournal, Long> {
+
+	// 시작 기록(started)은 있고 종료 기록(closing)이 없는 실행의 시작 기록
+	@Query("SELECT r FROM OrderJournal r WHERE r.entryType = :started AND NOT EXISTS ("
+		+ "SELECT 1 FROM OrderJournal c WHERE c.runId = r.runId AND c.entryType IN :closing) ORDER BY r.id")
+	List<OrderJournal> findUnclosedRuns(@Param("started") JournalEntryType started,
+		@Param("closing") Collection<JournalEntryType> closing);
+
+	List<OrderJournal> findAllByRunIdOrderByIdAsc(String runId);
+}
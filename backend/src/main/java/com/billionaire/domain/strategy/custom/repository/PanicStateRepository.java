@@ -0,0 +1,12 @@
+package com.billionaire.domain.strategy.custom.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.billionaire.domain.strategy.custom.entity.PanicState;
+
+public interface PanicStateRepository extends JpaRepository<PanicState, Long> {
+
+	Optional<PanicState> findByTicker(String ticker);
+}
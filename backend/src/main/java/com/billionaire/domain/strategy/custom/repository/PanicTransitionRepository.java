@@ -0,0 +1,12 @@
+package com.billionaire.domain.strategy.custom.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.billionaire.domain.strategy.custom.entity.PanicTransition;
+
+public interface PanicTransitionRepository extends JpaRepository<PanicTransition, Long> {
+
+	List<PanicTransition> findTop100ByTickerOrderByTransitionedAtDesc(String ticker);
+}
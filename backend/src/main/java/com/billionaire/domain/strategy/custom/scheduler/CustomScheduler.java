@@ -1,24 +1,15 @@
 package com.billionaire.domain.strategy.custom.scheduler;
 
 import java.io.IOException;
-import java.util.List;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.billionaire.domain.account.dto.internal.AccountBalanceDto;
-import com.billionaire.domain.account.dto.response.CashBalanceRes;
-import com.billionaire.domain.account.dto.response.DetailedStockBalanceData1Res;
-import com.billionaire.domain.account.dto.response.StockBalanceRes;
-import com.billionaire.domain.account.service.AccountService;
-import com.billionaire.domain.strategy.custom.dto.internal.StockInfoDto;
-import com.billionaire.domain.strategy.custom.dto.response.VerifiedDataRes;
-import com.billionaire.domain.strategy.custom.dto.response.VerifiedDetailedData2Res;
-import com.billionaire.domain.strategy.custom.service.MarketCapScraperService;
+import com.billionaire.domain.strategy.custom.dto.internal.PreparedRebalance;
+import com.billionaire.domain.strategy.custom.service.MarketSnapshotService;
+import com.billionaire.domain.strategy.custom.service.RebalancePipelineService;
 import com.billionaire.domain.strategy.custom.service.RebalanceService;
-import com.billionaire.domain.strategy.custom.service.StockVerificationService;
-import com.billionaire.domain.strategy.custom.service.StockWeightService;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -28,11 +19,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class CustomScheduler {
-	private final MarketCapScraperService marketCapScraperService;
-	private final StockVerificationService stockVerificationService;
-	private final StockWeightService stockWeightService;
-	private final AccountService accountService;
+	private final RebalancePipelineService rebalancePipelineService;
 	private final RebalanceService rebalanceService;
+	private final MarketSnapshotService marketSnapshotService;
 
 	// volatile을 쓰면?
 	// 해당 변수는 항상 메인 메모리에서 값을 읽고 쓴다.
@@ -51,6 +40,20 @@ public class CustomScheduler {
 		log.info("❌ 리밸런싱 스케줄러 비활성화");
 	}
 
+	// 리밸런싱 전에 시가총액/매수 후보/일봉 이력을 미리 준비 (실패해도 리밸런싱은 직접 조회로 진행)
+	@Scheduled(cron = "${app.rebalance.warm-up.cron:0 35 4 * * MON-FRI}")
+	protected void warmUp() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			marketSnapshotService.warmUp();
+		} catch (IOException | RuntimeException e) {
+			log.warn("⚠️ 리밸런싱 사전 준비 실패: {}", e.getMessage());
+		}
+	}
+
 	@Scheduled(cron = "0 55 4 * * MON-FRI")
 	@Transactional
 	protected void execute() throws IOException {
@@ -61,27 +64,9 @@ public class CustomScheduler {
 
 		log.info("🚀 리밸런싱 스케줄러 실행 시작");
 
-		Long minMarketCap = marketCapScraperService.getLargestMarketCap();
-		Long maxMarketCap = minMarketCap * 10;
-
-		VerifiedDataRes verifiedDataRes = stockVerificationService.verifyData(minMarketCap, maxMarketCap);
-		if (verifiedDataRes != null && !verifiedDataRes.output2().isEmpty()) {
-			List<VerifiedDetailedData2Res> filteredDataList =
-				stockVerificationService.filterStocksByMarketCap(verifiedDataRes.output2());
-
-			AccountBalanceDto accountBalance = accountService.getAccountBalance();
-			StockBalanceRes stockBalanceRes = accountBalance.stockBalanceRes();
-			CashBalanceRes cashBalanceRes = accountBalance.cashBalanceRes();
-
-			double amount = Double.parseDouble(stockBalanceRes.output2().totEvluPflsAmt())
-				+ Double.parseDouble(cashBalanceRes.output().get(0).frcrDnclAmt1());
-			log.info("Current total amount (stock + cash): {}", amount);
-
-			List<DetailedStockBalanceData1Res> ownStocks = stockBalanceRes.output1();
-			List<StockInfoDto> stockInfoDtoList =
-				stockWeightService.createWeightedStockInfos(filteredDataList, amount);
-
-			rebalanceService.rebalance(ownStocks, stockInfoDtoList);
+		PreparedRebalance prepared = rebalancePipelineService.prepare();
+		if (prepared.hasPlan()) {
+			rebalanceService.execute(prepared.plan(), prepared.cashAmount());
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.history.cache.PriceHistoryCache;
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.history.type.HistoryType;
+import com.billionaire.domain.index.repository.IndexRepository;
+import com.billionaire.domain.index.type.MarketIndex;
+import com.billionaire.domain.stock.repository.StockRepository;
+import com.billionaire.domain.strategy.custom.backtest.BacktestGridTask;
+import com.billionaire.domain.strategy.custom.backtest.BacktestMarket;
+import com.billionaire.domain.strategy.custom.dto.internal.BacktestResult;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalanceParameters;
+import com.billionaire.domain.strategy.custom.dto.request.BacktestReq;
+import com.billionaire.domain.strategy.custom.dto.response.BacktestRes;
+import com.billionaire.domain.strategy.custom.dto.response.BacktestResultRes;
+import com.billionaire.domain.strategy.custom.exception.BacktestHistoryNotFoundException;
+import com.billionaire.domain.strategy.custom.exception.InvalidBacktestParameterException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 주식/지수 일봉으로 커스텀 리밸런싱 전략을 재생하는 백테스트
+ * 공황 판단(PanicState)과 매매 금액 계산(RebalanceCalculator)은 실제 리밸런싱과 같은 코드를 사용합니다.
+ */
+@Slf4j
+@Service
+public class BacktestService {
+	private static final int MAX_GRID_SIZE = 1000;
+	private static final double DEFAULT_INITIAL_CAPITAL = 100_000.0;
+	private static final MarketIndex PANIC_INDEX = MarketIndex.NASDAQ;
+
+	private final StockRepository stockRepository;
+	private final IndexRepository indexRepository;
+	private final PriceHistoryCache priceHistoryCache;
+	private final ForkJoinPool pool;
+
+	public BacktestService(
+		StockRepository stockRepository,
+		IndexRepository indexRepository,
+		PriceHistoryCache priceHistoryCache,
+		@Value("${app.backtest.parallelism:0}") int parallelism) {
+		this.stockRepository = stockRepository;
+		this.indexRepository = indexRepository;
+		this.priceHistoryCache = priceHistoryCache;
+		this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+	}
+
+	public BacktestRes run(BacktestReq backtestReq) {
+		List<String> tickers = normalizeTickers(backtestReq.tickers());
+		double[] weights = normalizeWeights(backtestReq.weights(), tickers.size());
+		LocalDate to = backtestReq.to() == null ? LocalDate.now() : backtestReq.to();
+		if (backtestReq.from().isAfter(to)) {
+			throw new InvalidBacktestParameterException();
+		}
+		RebalanceParameters[] grid = createGrid(backtestReq);
+		double initialCapital = backtestReq.initialCapital() == null ? DEFAULT_INITIAL_CAPITAL : backtestReq.initialCapital();
+		double feeRate = backtestReq.feeRate() == null ? 0.0 : backtestReq.feeRate();
+
+		BacktestMarket market = loadMarket(tickers, backtestReq.from(), to);
+		if (market.tradingDays() == 0) {
+			throw new BacktestHistoryNotFoundException();
+		}
+
+		long startedAt = System.nanoTime();
+		BacktestResult[] results = new BacktestResult[grid.length];
+		pool.invoke(new BacktestGridTask(market, weights, grid, results, initialCapital, feeRate));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		log.info("백테스트 완료: {}개 종목, {}거래일, {}개 조합, {}ms", tickers.size(), market.tradingDays(), grid.length, elapsedMillis);
+
+		return BacktestRes.builder()
+			.from(LocalDate.ofEpochDay(market.epochDayAt(0)))
+			.to(LocalDate.ofEpochDay(market.epochDayAt(market.tradingDays() - 1)))
+			.tradingDays(market.tradingDays())
+			.gridSize(grid.length)
+			.elapsedMillis(elapsedMillis)
+			.results(Arrays.stream(results)
+				.sorted(Comparator.comparingDouble(BacktestResult::totalReturn).reversed())
+				.map(this::toResultRes)
+				.toList())
+			.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	// 저장된 이력만 사용 (증권사 API로 새 일봉을 동기화하지 않음)
+	private BacktestMarket loadMarket(List<String> tickers, LocalDate from, LocalDate to) {
+		String indexTicker = PANIC_INDEX.getTicker();
+		PriceSeries indexSeries = priceHistoryCache.get(HistoryType.INDEX, indexTicker,
+			() -> indexRepository.loadPriceSeries(indexTicker));
+		List<PriceSeries> stockSeries = tickers.stream()
+			.map(ticker -> priceHistoryCache.get(HistoryType.STOCK, ticker, () -> stockRepository.loadPriceSeries(ticker)))
+			.toList();
+		// 이력이 없는 종목은 모든 거래일의 가격이 NaN이 되어 결과가 의미 없으므로 요청을 거부
+		if (indexSeries.isEmpty() || stockSeries.stream().anyMatch(PriceSeries::isEmpty)) {
+			throw new BacktestHistoryNotFoundException();
+		}
+		return BacktestMarket.of(indexTicker, indexSeries, stockSeries, from, to);
+	}
+
+	private List<String> normalizeTickers(List<String> tickers) {
+		Set<String> normalized = new LinkedHashSet<>();
+		tickers.stream()
+			.filter(ticker -> ticker != null && !ticker.isBlank())
+			.map(ticker -> ticker.trim().toUpperCase())
+			.forEach(normalized::add);
+		if (normalized.size() != tickers.size()) {
+			throw new InvalidBacktestParameterException();
+		}
+		return List.copyOf(normalized);
+	}
+
+	private double[] normalizeWeights(List<Double> weights, int stockCount) {
+		double[] normalized = new double[stockCount];
+		if (weights == null || weights.isEmpty()) {
+			Arrays.fill(normalized, 1.0 / stockCount);
+			return normalized;
+		}
+		if (weights.size() != stockCount) {
+			throw new InvalidBacktestParameterException();
+		}
+
+		double total = 0.0;
+		for (int i = 0; i < stockCount; i++) {
+			Double weight = weights.get(i);
+			if (weight == null || weight < 0.0) {
+				throw new InvalidBacktestParameterException();
+			}
+			normalized[i] = weight;
+			total += weight;
+		}
+		if (total <= 0.0) {
+			throw new InvalidBacktestParameterException();
+		}
+		for (int i = 0; i < stockCount; i++) {
+			normalized[i] /= total;
+		}
+		return normalized;
+	}
+
+	private RebalanceParameters[] createGrid(BacktestReq backtestReq) {
+		List<Double> dropUnits = valuesOrDefault(backtestReq.dropUnits(), RebalanceParameters.DEFAULT.dropUnit());
+		List<Double> riseUnits = valuesOrDefault(backtestReq.riseUnits(), RebalanceParameters.DEFAULT.riseUnit());
+		List<Double> tradeRatios = valuesOrDefault(backtestReq.tradeRatios(), RebalanceParameters.DEFAULT.tradeRatio());
+		if ((long)dropUnits.size() * riseUnits.size() * tradeRatios.size() > MAX_GRID_SIZE) {
+			throw new InvalidBacktestParameterException();
+		}
+
+		List<RebalanceParameters> grid = new ArrayList<>();
+		for (double dropUnit : dropUnits) {
+			for (double riseUnit : riseUnits) {
+				for (double tradeRatio : tradeRatios) {
+					grid.add(new RebalanceParameters(dropUnit, riseUnit, tradeRatio));
+				}
+			}
+		}
+		return grid.toArray(RebalanceParameters[]::new);
+	}
+
+	// 구간 단위와 비율은 0보다 크고 1 이하여야 함
+	private List<Double> valuesOrDefault(List<Double> values, double defaultValue) {
+		if (values == null || values.isEmpty()) {
+			return List.of(defaultValue);
+		}
+		boolean invalid = values.stream().anyMatch(value -> value == null || value <= 0.0 || value > 1.0);
+		if (invalid) {
+			throw new InvalidBacktestParameterException();
+		}
+		return values.stream().distinct().toList();
+	}
+
+	private BacktestResultRes toResultRes(BacktestResult result) {
+		return BacktestResultRes.builder()
+			.dropUnit(result.parameters().dropUnit())
+			.riseUnit(result.parameters().riseUnit())
+			.tradeRatio(result.parameters().tradeRatio())
+			.finalValue(result.finalValue())
+			.totalReturn(result.totalReturn())
+			.annualizedReturn(result.annualizedReturn())
+			.maxDrawdown(result.maxDrawdown())
+			.turnover(result.turnover())
+			.tradeCount(result.tradeCount())
+			.panicDays(result.panicDays())
+			.build();
+	}
+}
@@ -1,80 +1,86 @@
 package com.billionaire.domain.strategy.custom.service;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import com.billionaire.domain.strategy.custom.entity.MarketCapRecord;
+import com.billionaire.domain.strategy.custom.marketcap.MarketCapProvider;
+import com.billionaire.domain.strategy.custom.repository.MarketCapRecordRepository;
+
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 시가총액 1위 값 조회
+ * 설정된 조회 소스(app.market-cap.providers)를 순서대로 시도하고, 성공한 값은 TTL 동안 메모리에 캐시하며 DB에도 기록합니다.
+ * 모든 소스가 실패하면 마지막으로 성공한 기록을 사용하고, 기록도 없을 때만 실패합니다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class MarketCapScraperService {
-	private static final String URL = "https://kr.tradingview.com/markets/stocks-usa/market-movers-large-cap/";
-	public Long getLargestMarketCap() throws IOException {
-		// 데이터를 담을 리스트를 초기화
-		List<Map<String, Object>> marketCaps = new ArrayList<>();
-
-		// 테이블의 모든 행을 찾음
-		Elements rows = Jsoup.connect(URL).get().select("table tbody tr");
-
-		for (Element row : rows) {
-			// 회사명 추출
-			Element companyNameElement = row.selectFirst("td:nth-child(1) a");
-			String companyName = companyNameElement != null ? companyNameElement.text().trim() : "N/A";
-
-			// 시가총액 추출
-			Element marketCapElement = row.selectFirst("td:nth-child(2)");
-			String marketCapText = marketCapElement != null ? marketCapElement.text().trim() : "N/A";
-			Long marketCap = marketCapElement != null ? parseMarketCap(marketCapText) : null;
-
-			// 데이터를 리스트에 추가
-			Map<String, Object> marketCapData = Map.of(
-				"회사명", companyName,
-				"시가총액", Objects.requireNonNull(marketCap),
-				"시가총액_텍스트", marketCapText
-			);
-			marketCaps.add(marketCapData);
-		}
-		Long result = (Long)marketCaps.get(0).get("시가총액");
-		log.info("result = {}", result);
+	private final MarketCapRecordRepository marketCapRecordRepository;
+	private final List<MarketCapProvider> providers;
+	private final Duration ttl;
+	private final AtomicReference<MarketCapRecord> cached = new AtomicReference<>();
 
-		return result;
+	public MarketCapScraperService(
+		MarketCapRecordRepository marketCapRecordRepository,
+		List<MarketCapProvider> availableProviders,
+		@Value("${app.market-cap.providers:tradingview,broker}") List<String> providerNames,
+		@Value("${app.market-cap.ttl-minutes:30}") long ttlMinutes) {
+		Map<String, MarketCapProvider> providersByName = availableProviders.stream()
+			.collect(Collectors.toMap(MarketCapProvider::name, Function.identity()));
+		this.marketCapRecordRepository = marketCapRecordRepository;
+		this.providers = providerNames.stream()
+			.map(String::trim)
+			.map(name -> Optional.ofNullable(providersByName.get(name))
+				.orElseThrow(() -> new IllegalArgumentException("알 수 없는 시가총액 조회 소스: " + name)))
+			.toList();
+		this.ttl = Duration.ofMinutes(ttlMinutes);
 	}
 
-	private Long parseMarketCap(String marketCapText) {
-		// 시가총액 문자열을 숫자로 변환하는 로직
-		Map<String, Long> multiplier = Map.of(
-			"B", 1_000_000L,
-			"T", 1_000_000_000L,
-			"M", 1_000L,
-			"K", 1L
-		);
-
-		// 불필요한 문자와 좁은 공백 제거
-		String cleanText = marketCapText.replace("\u202F", " ").replace("USD", "").trim();
-
-		String[] parts = cleanText.split("\\s");
-		if (parts.length < 2)
-			return null;
+	public synchronized Long getLargestMarketCap() throws IOException {
+		MarketCapRecord current = cached.get();
+		if (current != null && current.getFetchedAt().plus(ttl).isAfter(LocalDateTime.now())) {
+			return current.getMarketCap();
+		}
 
-		try {
-			// 첫 번째 부분은 숫자, 두 번째 부분은 단위(B, T, M, K)
-			double number = Double.parseDouble(parts[0].replace(",", ""));
-			String unit = parts[1].substring(0, 1); // T, B, M, K 중 하나
+		List<String> failures = new ArrayList<>();
+		for (MarketCapProvider provider : providers) {
+			try {
+				long marketCap = provider.fetchLargestMarketCap();
+				MarketCapRecord record = marketCapRecordRepository.save(MarketCapRecord.builder()
+					.source(provider.name())
+					.marketCap(marketCap)
+					.fetchedAt(LocalDateTime.now())
+					.build());
+				cached.set(record);
+				log.info("시가총액 1위 = {} ({})", marketCap, provider.name());
+				return marketCap;
+			} catch (IOException | RuntimeException e) {
+				log.warn("시가총액 조회 실패 ({}): {}", provider.name(), e.getMessage());
+				failures.add(provider.name() + ": " + e.getMessage());
+			}
+		}
 
-			// 해당 단위에 맞는 값을 곱해서 반환
-			return (long)(number * multiplier.getOrDefault(unit, 1L));
-		} catch (NumberFormatException e) {
-			return null;
+		Optional<MarketCapRecord> lastKnownGood = Optional.ofNullable(current)
+			.or(marketCapRecordRepository::findTopByOrderByFetchedAtDesc);
+		if (lastKnownGood.isPresent()) {
+			MarketCapRecord record = lastKnownGood.get();
+			log.warn("⚠️ 모든 시가총액 조회 소스 실패. 마지막 성공 값 사용: {} ({}, {})",
+				record.getMarketCap(), record.getSource(), record.getFetchedAt());
+			return record.getMarketCap();
 		}
+		throw new IOException("시가총액 조회 실패 " + failures);
 	}
 }
@@ -0,0 +1,118 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.index.service.IndexService;
+import com.billionaire.domain.index.type.MarketIndex;
+import com.billionaire.domain.stock.service.StockService;
+import com.billionaire.domain.strategy.custom.dto.internal.MarketSnapshot;
+import com.billionaire.domain.strategy.custom.dto.internal.StageTiming;
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDataRes;
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDetailedData2Res;
+import com.billionaire.global.util.DaemonThreadFactory;
+import com.billionaire.global.util.FutureUtils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리밸런싱 직전의 느린 조회(시가총액 스크래핑 → 매수 후보 검증 → 종목별 일봉 백필, 나스닥 지수 동기화)를 미리 수행
+ * 준비된 스냅샷이 신선하면 리밸런싱은 이 단계를 건너뛰고 잔고 조회와 주문만 진행합니다.
+ * 종목/지수 동기화는 워터마크 이후만 조회하므로, 미리 해 두면 리밸런싱 시점에는 당일 시세 한 번만 조회합니다.
+ */
+@Slf4j
+@Service
+public class MarketSnapshotService {
+	private final MarketCapScraperService marketCapScraperService;
+	private final StockVerificationService stockVerificationService;
+	private final StockService stockService;
+	private final IndexService indexService;
+	private final Duration maxAge;
+	private final ExecutorService executor;
+	private final AtomicReference<MarketSnapshot> snapshot = new AtomicReference<>();
+
+	public MarketSnapshotService(
+		MarketCapScraperService marketCapScraperService,
+		StockVerificationService stockVerificationService,
+		StockService stockService,
+		IndexService indexService,
+		@Value("${app.rebalance.warm-up.max-age-minutes:60}") long maxAgeMinutes,
+		@Value("${app.rebalance.warm-up.concurrency:4}") int concurrency) {
+		this.marketCapScraperService = marketCapScraperService;
+		this.stockVerificationService = stockVerificationService;
+		this.stockService = stockService;
+		this.indexService = indexService;
+		this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+		this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), new DaemonThreadFactory("rebalance-warm-up-"));
+	}
+
+	public MarketSnapshot warmUp() throws IOException {
+		List<StageTiming> stages = new ArrayList<>();
+
+		long startedAt = System.nanoTime();
+		Long minMarketCap = marketCapScraperService.getLargestMarketCap();
+		stages.add(StageTiming.since("market_cap_scrape", startedAt));
+
+		startedAt = System.nanoTime();
+		List<VerifiedDetailedData2Res> universe = loadUniverse(minMarketCap);
+		stages.add(StageTiming.since("universe_verification", startedAt));
+
+		startedAt = System.nanoTime();
+		syncHistories(universe);
+		stages.add(StageTiming.since("history_sync", startedAt));
+
+		MarketSnapshot prepared = new MarketSnapshot(LocalDate.now(), LocalDateTime.now(), minMarketCap, universe, stages);
+		snapshot.set(prepared);
+		log.info("🔥 리밸런싱 사전 준비 완료 | 매수 후보 {}개 | {}", universe.size(), stages);
+		return prepared;
+	}
+
+	public Optional<MarketSnapshot> getFreshSnapshot() {
+		return Optional.ofNullable(snapshot.get())
+			.filter(prepared -> prepared.isFresh(LocalDateTime.now(), maxAge));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	// 리밸런싱과 같은 기준(최대 시가총액 ~ 10배 구간, 상위 90%)으로 매수 후보 종목을 조회
+	private List<VerifiedDetailedData2Res> loadUniverse(Long minMarketCap) {
+		VerifiedDataRes verifiedDataRes = stockVerificationService.verifyData(minMarketCap, minMarketCap * 10);
+		if (verifiedDataRes == null || verifiedDataRes.output2().isEmpty()) {
+			return List.of();
+		}
+		return stockVerificationService.filterStocksByMarketCap(verifiedDataRes.output2());
+	}
+
+	// 종목 하나의 동기화 실패는 리밸런싱 시점에 다시 시도되므로 경고만 남김
+	private void syncHistories(List<VerifiedDetailedData2Res> universe) {
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		futures.add(CompletableFuture.runAsync(() -> indexService.getPriceSeries(
+			MarketIndex.NASDAQ.getTicker(), MarketIndex.NASDAQ.getMarket()), executor));
+		universe.forEach(stock -> futures.add(CompletableFuture.runAsync(
+			() -> stockService.syncHistory(stock.symb()), executor)));
+
+		futures.forEach(future -> {
+			try {
+				FutureUtils.join(future);
+			} catch (RuntimeException e) {
+				log.warn("사전 준비 중 시세 동기화 실패: {}", e.getMessage());
+			}
+		});
+	}
+}
@@ -0,0 +1,108 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.billionaire.domain.order.dto.internal.OrderResult;
+import com.billionaire.domain.strategy.custom.dto.internal.OrderIntent;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalancePlan;
+import com.billionaire.domain.strategy.custom.entity.OrderJournal;
+import com.billionaire.domain.strategy.custom.repository.OrderJournalRepository;
+import com.billionaire.domain.strategy.custom.type.JournalEntryType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리밸런싱 주문 일지 기록
+ * 스케줄러 실행 전체가 하나의 트랜잭션이므로, 일지는 매번 별도 트랜잭션(REQUIRES_NEW)으로 즉시 커밋합니다.
+ * 그래야 주문 도중 프로세스가 죽어도 어디까지 전송했는지 남습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderJournalService {
+	private static final List<JournalEntryType> CLOSING_TYPES =
+		List.of(JournalEntryType.RUN_COMPLETED, JournalEntryType.RUN_ABANDONED);
+
+	private final OrderJournalRepository orderJournalRepository;
+
+	// 실행 시작과 계획된 주문을 모두 기록하고 runId를 반환
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public String startRun(RebalancePlan plan) {
+		String runId = UUID.randomUUID().toString();
+		LocalDate today = LocalDate.now();
+
+		List<OrderJournal> entries = new ArrayList<>();
+		entries.add(OrderJournal.ofRun(runId, today, JournalEntryType.RUN_STARTED, "공황: " + plan.panic()));
+		for (OrderIntent intent : allIntents(plan)) {
+			entries.add(OrderJournal.ofOrder(runId, today, JournalEntryType.PLANNED, intent,
+				plan.holdingsBefore().getOrDefault(intent.order().ticker(), 0), null, null));
+		}
+		orderJournalRepository.saveAll(entries);
+		return runId;
+	}
+
+	// 증권사로 보내기 직전에 기록 (이 기록만 있고 결과가 없으면 전송 여부를 알 수 없는 주문)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordSubmitting(String runId, List<OrderIntent> intents) {
+		LocalDate today = LocalDate.now();
+		orderJournalRepository.saveAll(intents.stream()
+			.map(intent -> OrderJournal.ofOrder(runId, today, JournalEntryType.SUBMITTING, intent, null, null, null))
+			.toList());
+	}
+
+	// results는 intents와 같은 순서
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordResults(String runId, List<OrderIntent> intents, List<OrderResult> results) {
+		LocalDate today = LocalDate.now();
+		orderJournalRepository.saveAll(IntStream.range(0, intents.size())
+			.mapToObj(i -> {
+				OrderResult result = results.get(i);
+				return result.accepted()
+					? OrderJournal.ofOrder(runId, today, JournalEntryType.ACKED, intents.get(i), null,
+						result.orderNumber(), null)
+					: OrderJournal.ofOrder(runId, today, JournalEntryType.REJECTED, intents.get(i), null, null,
+						result.rejectCode() + " " + result.rejectMessage());
+			})
+			.toList());
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordReconciled(String runId, OrderIntent intent, String orderNumber, String message) {
+		orderJournalRepository.save(OrderJournal.ofOrder(runId, LocalDate.now(), JournalEntryType.RECONCILED, intent,
+			null, orderNumber, message));
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void completeRun(String runId, String message) {
+		orderJournalRepository.save(OrderJournal.ofRun(runId, LocalDate.now(), JournalEntryType.RUN_COMPLETED, message));
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void abandonRun(String runId, String message) {
+		orderJournalRepository.save(OrderJournal.ofRun(runId, LocalDate.now(), JournalEntryType.RUN_ABANDONED, message));
+	}
+
+	// 시작 기록만 있고 완료/포기 기록이 없는 실행 (한 번의 쿼리로 조회. 이전 실행은 복구 시 포기로 기록되어 다음부터 빠짐)
+	@Transactional(readOnly = true)
+	public List<OrderJournal> findOpenRuns() {
+		return orderJournalRepository.findUnclosedRuns(JournalEntryType.RUN_STARTED, CLOSING_TYPES);
+	}
+
+	@Transactional(readOnly = true)
+	public List<OrderJournal> getEntries(String runId) {
+		return orderJournalRepository.findAllByRunIdOrderByIdAsc(runId);
+	}
+
+	private static List<OrderIntent> allIntents(RebalancePlan plan) {
+		List<OrderIntent> intents = new ArrayList<>(plan.sellIntents());
+		intents.addAll(plan.buyIntents());
+		return intents;
+	}
+}
@@ -0,0 +1,146 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.history.cache.PriceSeries;
+import com.billionaire.domain.history.event.HistoryAppendedEvent;
+import com.billionaire.domain.history.type.HistoryType;
+import com.billionaire.domain.index.repository.IndexRepository;
+import com.billionaire.domain.index.service.IndexService;
+import com.billionaire.domain.index.type.MarketIndex;
+import com.billionaire.domain.strategy.custom.dto.internal.PanicEvaluation;
+import com.billionaire.domain.strategy.custom.dto.response.PanicStateRes;
+import com.billionaire.domain.strategy.custom.dto.response.PanicTransitionRes;
+import com.billionaire.domain.strategy.custom.entity.PanicState;
+import com.billionaire.domain.strategy.custom.entity.PanicTransition;
+import com.billionaire.domain.strategy.custom.repository.PanicStateRepository;
+import com.billionaire.domain.strategy.custom.repository.PanicTransitionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지수별 공황 상태를 새 일봉이 저장될 때마다 갱신
+ * 판단할 때마다 이력을 다시 훑지 않고, 저장된 상태에 당일 시세만 더해 판단합니다.
+ * 조회(evaluate/getPanicState)는 저장된 상태를 바꾸지 않으므로 GET 요청이 상태나 전환 이력을 쓰지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PanicStateService {
+	private final PanicStateRepository panicStateRepository;
+	private final PanicTransitionRepository panicTransitionRepository;
+	private final IndexRepository indexRepository;
+	private final IndexService indexService;
+
+	// 지수 일봉 저장 트랜잭션 안에서 호출되므로 상태 저장도 같은 트랜잭션으로 커밋됨
+	@EventListener
+	public void onHistoryAppended(HistoryAppendedEvent event) {
+		if (event.type() != HistoryType.INDEX) {
+			return;
+		}
+
+		PanicState panicState = loadPanicState(event.ticker());
+		PriceSeries bars = event.bars();
+		for (int i = 0; i < bars.size(); i++) {
+			applyAndEvaluate(panicState, bars.dateAt(i), bars.priceAt(i), bars.rateAt(i));
+		}
+		panicStateRepository.save(panicState);
+	}
+
+	// 새 일봉을 동기화한 뒤 당일 시세까지 반영해 오늘 기준 공황 여부를 판단
+	public PanicEvaluation evaluate(MarketIndex marketIndex) {
+		PanicState current = evaluateToday(marketIndex);
+		return new PanicEvaluation(current.isPanic(), current.getReason());
+	}
+
+	public PanicStateRes getPanicState(MarketIndex marketIndex) {
+		PanicState current = evaluateToday(marketIndex);
+		return PanicStateRes.builder()
+			.ticker(current.getTicker())
+			.panic(current.isPanic())
+			.reason(current.getReason())
+			.evaluatedDate(current.getEvaluatedDate())
+			.recentDropDates(current.getRecentDropDates(current.getEvaluatedDate()))
+			.recoveryRunStart(current.getRecoveryRunStart())
+			.build();
+	}
+
+	public List<PanicTransitionRes> getTransitions(MarketIndex marketIndex) {
+		return panicTransitionRepository.findTop100ByTickerOrderByTransitionedAtDesc(marketIndex.getTicker()).stream()
+			.map(transition -> PanicTransitionRes.builder()
+				.panic(transition.isPanic())
+				.reason(transition.getReason())
+				.evaluatedDate(transition.getEvaluatedDate())
+				.transitionedAt(transition.getTransitionedAt())
+				.build())
+			.toList();
+	}
+
+	// 조회 시점의 판단은 사본에만 기록하고 저장하지 않음. 상태와 전환 이력은 일봉이 저장될 때(onHistoryAppended)만 갱신
+	private PanicState evaluateToday(MarketIndex marketIndex) {
+		PriceSeries series = indexService.getPriceSeries(marketIndex.getTicker(), marketIndex.getMarket());
+		PanicState panicState = loadPanicStateOutsideSync(marketIndex.getTicker());
+
+		// 당일 시세는 저장하지 않으므로 사본에만 반영
+		PanicState current = series.hasTail()
+			? panicState.previewWith(series.lastDate(), series.lastPrice(), series.rateAt(series.size() - 1))
+			: panicState.copy();
+
+		LocalDate today = LocalDate.now();
+		current.updateEvaluation(current.evaluate(today), today);
+		return current;
+	}
+
+	private void applyAndEvaluate(PanicState panicState, LocalDate date, double price, double rate) {
+		if (panicState.getLastDate() != null && !date.isAfter(panicState.getLastDate())) {
+			return;
+		}
+		panicState.apply(date, price, rate);
+		if (panicState.updateEvaluation(panicState.evaluate(date), date)) {
+			recordTransition(panicState);
+		}
+	}
+
+	private void recordTransition(PanicState panicState) {
+		log.info("{} 공황 상태 전환 ({}): {}", panicState.isPanic() ? "⚠️" : "✅",
+			panicState.getTicker(), panicState.getReason());
+		panicTransitionRepository.save(PanicTransition.builder()
+			.ticker(panicState.getTicker())
+			.panic(panicState.isPanic())
+			.reason(panicState.getReason())
+			.evaluatedDate(panicState.getEvaluatedDate())
+			.transitionedAt(LocalDateTime.now())
+			.build());
+	}
+
+	private PanicState loadPanicState(String ticker) {
+		return panicStateRepository.findByTicker(ticker)
+			.orElseGet(() -> panicStateRepository.save(initializePanicState(ticker)));
+	}
+
+	// 동기화 흐름 밖에서 조회하므로 다른 요청과 동시에 초기화될 수 있음. 이 경우 먼저 저장된 상태를 사용
+	private PanicState loadPanicStateOutsideSync(String ticker) {
+		try {
+			return loadPanicState(ticker);
+		} catch (DataIntegrityViolationException e) {
+			return panicStateRepository.findByTicker(ticker).orElseThrow(() -> e);
+		}
+	}
+
+	// 상태가 없으면 기존에 저장된 일봉 이력을 한 번만 재생해 초기화
+	private PanicState initializePanicState(String ticker) {
+		PanicState panicState = PanicState.empty(ticker);
+		PriceSeries series = indexRepository.loadPriceSeries(ticker);
+		for (int i = 0; i < series.size(); i++) {
+			applyAndEvaluate(panicState, series.dateAt(i), series.priceAt(i), series.rateAt(i));
+		}
+		return panicState;
+	}
+}
@@ -0,0 +1,105 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.account.dto.internal.AccountBalanceDto;
+import com.billionaire.domain.account.dto.response.CashBalanceRes;
+import com.billionaire.domain.account.dto.response.DetailedStockBalanceData1Res;
+import com.billionaire.domain.account.dto.response.StockBalanceRes;
+import com.billionaire.domain.account.service.AccountService;
+import com.billionaire.domain.strategy.custom.dto.internal.MarketSnapshot;
+import com.billionaire.domain.strategy.custom.dto.internal.PreparedRebalance;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalancePlan;
+import com.billionaire.domain.strategy.custom.dto.internal.StageTiming;
+import com.billionaire.domain.strategy.custom.dto.internal.StockInfoDto;
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDataRes;
+import com.billionaire.domain.strategy.custom.dto.response.VerifiedDetailedData2Res;
+import com.billionaire.global.util.FutureUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리밸런싱 스케줄러의 주문 전 단계 (시가총액 조회 → 매수 후보 검증 → 계좌 잔고 → 비중 계산 → 공황 판단/종목 분석)
+ * 실제 실행과 미리보기가 같은 단계를 거치도록 하나로 모았습니다. 단계별 소요 시간을 함께 반환합니다.
+ * 사전 준비(MarketSnapshotService)된 스냅샷이 신선하면 앞의 두 단계를 건너뜁니다.
+ * 계좌 잔고 조회는 처음부터 비동기로 보내므로, account_balance 단계 시간은 앞 단계 이후 남은 대기 시간입니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RebalancePipelineService {
+	private final MarketCapScraperService marketCapScraperService;
+	private final StockVerificationService stockVerificationService;
+	private final StockWeightService stockWeightService;
+	private final AccountService accountService;
+	private final RebalancePlanner rebalancePlanner;
+	private final MarketSnapshotService marketSnapshotService;
+
+	public PreparedRebalance prepare() throws IOException {
+		List<StageTiming> stages = new ArrayList<>();
+		// 계좌 잔고는 매수 후보 조회와 무관하므로 먼저 보내 두고 필요한 시점에 기다림
+		CompletableFuture<AccountBalanceDto> accountBalanceFuture = accountService.getAccountBalanceAsync();
+
+		long startedAt = System.nanoTime();
+		Optional<MarketSnapshot> snapshot = marketSnapshotService.getFreshSnapshot();
+		List<VerifiedDetailedData2Res> filteredDataList;
+		if (snapshot.isPresent()) {
+			log.info("사전 준비된 시장 데이터 사용 (준비 시각: {})", snapshot.get().preparedAt());
+			filteredDataList = snapshot.get().universe();
+			stages.add(StageTiming.since("market_snapshot", startedAt));
+		} else {
+			filteredDataList = loadUniverse(stages);
+		}
+		if (filteredDataList.isEmpty()) {
+			return new PreparedRebalance(0.0, 0.0, null, stages);
+		}
+
+		startedAt = System.nanoTime();
+		AccountBalanceDto accountBalance = FutureUtils.join(accountBalanceFuture);
+		StockBalanceRes stockBalanceRes = accountBalance.stockBalanceRes();
+		CashBalanceRes cashBalanceRes = accountBalance.cashBalanceRes();
+
+		double cashAmount = Double.parseDouble(cashBalanceRes.output().get(0).frcrDnclAmt1());
+		double amount = Double.parseDouble(stockBalanceRes.output2().totEvluPflsAmt()) + cashAmount;
+		log.info("Current total amount (stock + cash): {}", amount);
+		stages.add(StageTiming.since("account_balance", startedAt));
+
+		startedAt = System.nanoTime();
+		List<DetailedStockBalanceData1Res> ownStocks = stockBalanceRes.output1();
+		List<StockInfoDto> stockInfoDtoList =
+			stockWeightService.createWeightedStockInfos(filteredDataList, amount);
+		stages.add(StageTiming.since("weighting", startedAt));
+
+		startedAt = System.nanoTime();
+		RebalancePlan plan = rebalancePlanner.plan(ownStocks, stockInfoDtoList);
+		stages.add(StageTiming.since("panic_check_and_analysis", startedAt));
+
+		return new PreparedRebalance(amount, cashAmount, plan, stages);
+	}
+
+	// 사전 준비된 스냅샷이 없으면 시가총액 조회와 매수 후보 검증을 직접 수행
+	private List<VerifiedDetailedData2Res> loadUniverse(List<StageTiming> stages) throws IOException {
+		long startedAt = System.nanoTime();
+		Long minMarketCap = marketCapScraperService.getLargestMarketCap();
+		Long maxMarketCap = minMarketCap * 10;
+		stages.add(StageTiming.since("market_cap_scrape", startedAt));
+
+		startedAt = System.nanoTime();
+		VerifiedDataRes verifiedDataRes = stockVerificationService.verifyData(minMarketCap, maxMarketCap);
+		if (verifiedDataRes == null || verifiedDataRes.output2().isEmpty()) {
+			stages.add(StageTiming.since("universe_verification", startedAt));
+			return List.of();
+		}
+		List<VerifiedDetailedData2Res> filteredDataList =
+			stockVerificationService.filterStocksByMarketCap(verifiedDataRes.output2());
+		stages.add(StageTiming.since("universe_verification", startedAt));
+		return filteredDataList;
+	}
+}
@@ -0,0 +1,200 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.account.dto.response.DetailedStockBalanceData1Res;
+import com.billionaire.domain.history.dto.internal.DrawdownSnapshot;
+import com.billionaire.domain.order.dto.internal.OrderDto;
+import com.billionaire.domain.order.type.OrderType;
+import com.billionaire.domain.stock.service.StockService;
+import com.billionaire.domain.strategy.custom.dto.internal.OrderIntent;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalanceParameters;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalancePlan;
+import com.billionaire.domain.strategy.custom.dto.internal.StockInfoDto;
+import com.billionaire.domain.strategy.custom.exception.HighestPriceNotFoundException;
+import com.billionaire.domain.strategy.custom.exception.HoldingStockNotFoundException;
+import com.billionaire.domain.strategy.custom.exception.LowestPriceNotFoundException;
+import com.billionaire.domain.strategy.custom.util.RebalanceCalculator;
+import com.billionaire.global.util.DaemonThreadFactory;
+import com.billionaire.global.util.FutureUtils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문을 내기 전에 공황 여부와 모든 대상 종목의 고점/저점 분석을 제한된 스레드 풀에서 동시에 조회하고,
+ * 그 결과로 매도/매수 주문 계획을 한 번에 만듭니다.
+ * 분석 중 하나라도 실패하면 계획을 만들지 않으므로 주문이 일부만 나가지 않습니다.
+ */
+@Slf4j
+@Service
+public class RebalancePlanner {
+	private static final String CURRENCY_FORMAT = "%,.0f";
+	private static final String PERCENTAGE_FORMAT = "%.1f%%";
+
+	private final OrderTriggerService orderTriggerService;
+	private final StockService stockService;
+	private final ExecutorService executor;
+
+	// 주식 분석 결과
+	private record StockAnalysis(double highestPrice, double lowestPriceAfterHighestPrice, double currentPrice) {
+	}
+
+	public RebalancePlanner(
+		OrderTriggerService orderTriggerService,
+		StockService stockService,
+		@Value("${app.rebalance.analysis-concurrency:8}") int concurrency) {
+		this.orderTriggerService = orderTriggerService;
+		this.stockService = stockService;
+		this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), new DaemonThreadFactory("rebalance-analysis-"));
+	}
+
+	public RebalancePlan plan(List<DetailedStockBalanceData1Res> ownStocks, List<StockInfoDto> stockInfoDtoList) {
+		CompletableFuture<Boolean> panicFuture = CompletableFuture.supplyAsync(orderTriggerService::isPanic, executor);
+		Map<String, CompletableFuture<StockAnalysis>> analysisFutures = new LinkedHashMap<>();
+		stockInfoDtoList.forEach(stockInfo -> analysisFutures.computeIfAbsent(stockInfo.ticker(),
+			ticker -> CompletableFuture.supplyAsync(() -> analyzeStock(ticker), executor)));
+
+		boolean isPanic = FutureUtils.join(panicFuture);
+		Map<String, StockAnalysis> analyses = new LinkedHashMap<>();
+		analysisFutures.forEach((ticker, future) -> analyses.put(ticker, FutureUtils.join(future)));
+
+		List<OrderIntent> sellIntents = new ArrayList<>(planNonStrategyLiquidation(ownStocks, stockInfoDtoList));
+		List<OrderIntent> buyIntents = new ArrayList<>();
+		for (StockInfoDto stockInfo : stockInfoDtoList) {
+			StockAnalysis analysis = analyses.get(stockInfo.ticker());
+			double ownAmount = Double.parseDouble(findHoldingStock(ownStocks, stockInfo.ticker()).ovrsStckEvluAmt());
+			if (isPanic) {
+				planPanicTrades(stockInfo, analysis, ownAmount, sellIntents, buyIntents);
+			} else {
+				planNormalTrades(stockInfo, analysis, ownAmount, sellIntents, buyIntents);
+			}
+		}
+
+		return RebalancePlan.of(isPanic, sellIntents, buyIntents, holdingQuantities(ownStocks));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	// 주식 분석 메서드 (종목별로 저장된 고점/저점 집계에 당일 시세만 더해 O(1)로 계산)
+	private StockAnalysis analyzeStock(String ticker) {
+		DrawdownSnapshot snapshot = stockService.getDrawdown(ticker);
+		if (snapshot.highestPrice() == null) {
+			throw new HighestPriceNotFoundException();
+		}
+		if (snapshot.lowestPriceAfterHighest() == null) {
+			throw new LowestPriceNotFoundException();
+		}
+
+		return new StockAnalysis(snapshot.highestPrice(), snapshot.lowestPriceAfterHighest(), snapshot.currentPrice());
+	}
+
+	// 전략 대상이 아닌 보유 종목은 전량 매도
+	private List<OrderIntent> planNonStrategyLiquidation(List<DetailedStockBalanceData1Res> ownStocks,
+		List<StockInfoDto> targetStocks) {
+		List<OrderIntent> intents = new ArrayList<>();
+		for (DetailedStockBalanceData1Res holdingStock : ownStocks) {
+			boolean isTarget = targetStocks.stream()
+				.anyMatch(stockInfo -> stockInfo.ticker().equals(holdingStock.ovrsPdno()));
+
+			if (!isTarget && !holdingStock.ovrsPdno().isBlank()) {
+				int quantity = Integer.parseInt(holdingStock.ordPsblQty());
+				double price = Double.parseDouble(holdingStock.nowPric2());
+				addIntent(intents, holdingStock.ovrsPdno(), holdingStock.ovrsItemName() + " 전량매도",
+					OrderType.SELL, quantity, price, quantity * price);
+			}
+		}
+		return intents;
+	}
+
+	// 종목별 보유 수량 (미체결 매도에 묶인 수량 포함, 없으면 주문 가능 수량)
+	private Map<String, Integer> holdingQuantities(List<DetailedStockBalanceData1Res> ownStocks) {
+		Map<String, Integer> holdings = new LinkedHashMap<>();
+		ownStocks.stream()
+			.filter(stock -> !stock.ovrsPdno().isBlank())
+			.forEach(stock -> holdings.merge(stock.ovrsPdno(), holdingQuantityOf(stock), Integer::sum));
+		return holdings;
+	}
+
+	public static int holdingQuantityOf(DetailedStockBalanceData1Res stock) {
+		String quantity = stock.ovrsCblcQty() != null && !stock.ovrsCblcQty().isBlank() ? stock.ovrsCblcQty() : stock.ordPsblQty();
+		return (int)Double.parseDouble(quantity);
+	}
+
+	private DetailedStockBalanceData1Res findHoldingStock(List<DetailedStockBalanceData1Res> ownStocks, String ticker) {
+		return ownStocks.stream()
+			.filter(stock -> stock.ovrsPdno().equals(ticker))
+			.findFirst()
+			.orElseThrow(HoldingStockNotFoundException::new);
+	}
+
+	// 패닉 상황: 고점 대비 하락 구간만큼 현금화한 금액을 목표로 매도 또는 매수
+	private void planPanicTrades(StockInfoDto stockInfo, StockAnalysis analysis, double ownAmount,
+		List<OrderIntent> sellIntents, List<OrderIntent> buyIntents) {
+		double amountToLiquidate = RebalanceCalculator.panicLiquidationAmount(
+			RebalanceParameters.DEFAULT, stockInfo.amount(), analysis.highestPrice(), analysis.currentPrice());
+		if (amountToLiquidate <= 0) {
+			return;
+		}
+
+		log.info("📊 [{}] 패닉 현금화/투자 목표액: ₩{}", stockInfo.ticker(), String.format(CURRENCY_FORMAT, amountToLiquidate));
+		double result = RebalanceCalculator.panicTrade(stockInfo.amount(), ownAmount, amountToLiquidate);
+		planTrade(stockInfo, analysis, result, "패닉 현금화", "패닉 매수", sellIntents, buyIntents);
+	}
+
+	// 일반 상황: 회복 조건이면 목표 금액으로 되돌리고, 고점 대비 하락 구간만큼 보유량을 조정
+	private void planNormalTrades(StockInfoDto stockInfo, StockAnalysis analysis, double ownAmount,
+		List<OrderIntent> sellIntents, List<OrderIntent> buyIntents) {
+		if (RebalanceCalculator.isRecoveryConditionMet(analysis.lowestPriceAfterHighestPrice(), analysis.currentPrice())) {
+			double result = RebalanceCalculator.recoveryTrade(stockInfo.amount(), ownAmount);
+			planTrade(stockInfo, analysis, result, "회복 조건 매도", "회복 조건 매수", sellIntents, buyIntents);
+		}
+
+		if (RebalanceCalculator.isPriceDropped(analysis.highestPrice(), analysis.currentPrice())) {
+			double result = RebalanceCalculator.dropTrade(RebalanceParameters.DEFAULT, stockInfo.amount(), ownAmount,
+				analysis.highestPrice(), analysis.currentPrice());
+			String dropPercentage = String.format(PERCENTAGE_FORMAT,
+				RebalanceCalculator.dropRate(analysis.highestPrice(), analysis.currentPrice()) * 100);
+			planTrade(stockInfo, analysis, result, "하락 매도(" + dropPercentage + ")", "하락 매수(" + dropPercentage + ")",
+				sellIntents, buyIntents);
+		}
+	}
+
+	// 매매 금액이 음수면 매도 계획에, 양수면 매수 계획에 추가
+	private void planTrade(StockInfoDto stockInfo, StockAnalysis analysis, double result, String sellAction,
+		String buyAction, List<OrderIntent> sellIntents, List<OrderIntent> buyIntents) {
+		double price = analysis.currentPrice();
+		int quantity = RebalanceCalculator.quantityOf(result, price);
+		if (result < 0) {
+			addIntent(sellIntents, stockInfo.ticker(), sellAction, OrderType.SELL, quantity, price, -result);
+		} else if (result > 0) {
+			addIntent(buyIntents, stockInfo.ticker(), buyAction, OrderType.BUY, quantity, price, result);
+		}
+	}
+
+	// 한 주도 되지 않는 금액은 주문하지 않음
+	private void addIntent(List<OrderIntent> intents, String ticker, String action, OrderType orderType,
+		int quantity, double price, double amount) {
+		if (quantity <= 0) {
+			return;
+		}
+		intents.add(new OrderIntent(0, OrderDto.builder()
+			.ticker(ticker)
+			.quantity(quantity)
+			.price(price)
+			.orderType(orderType)
+			.build(), action, amount));
+	}
+}
@@ -0,0 +1,105 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.history.event.HistoryAppendedEvent;
+import com.billionaire.domain.strategy.custom.dto.internal.OrderIntent;
+import com.billionaire.domain.strategy.custom.dto.internal.PreparedRebalance;
+import com.billionaire.domain.strategy.custom.dto.response.PreviewOrderRes;
+import com.billionaire.domain.strategy.custom.dto.response.RebalancePreviewRes;
+import com.billionaire.domain.strategy.custom.dto.response.StageTimingRes;
+import com.billionaire.domain.strategy.custom.exception.RebalancePreviewFailedException;
+import com.billionaire.global.util.SingleFlight;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 없이 리밸런싱 스케줄러와 같은 단계를 실행해, 낼 주문과 단계별 소요 시간을 미리 보여줌
+ * 결과는 거래일 단위로 캐시하고, 새 일봉이 저장되면 버립니다.
+ * 일봉이 저장될 때마다 이력 세대를 올리고, 계산을 시작할 때의 세대와 함께 캐시하므로
+ * 계산 도중 일봉이 저장되었다면 그 결과는 다음 요청에서 다시 계산됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RebalancePreviewService {
+	private final RebalancePipelineService rebalancePipelineService;
+	private final SingleFlight<LocalDate, RebalancePreviewRes> inFlightPreviews = new SingleFlight<>();
+	private final AtomicLong historyGeneration = new AtomicLong();
+	private final AtomicReference<CachedPreview> cachedPreview = new AtomicReference<>();
+
+	private record CachedPreview(long generation, RebalancePreviewRes preview) {
+	}
+
+	// refresh가 true이면 캐시를 무시하고 다시 계산. 동시에 들어온 계산 요청은 하나로 합침
+	public RebalancePreviewRes getPreview(boolean refresh) {
+		LocalDate today = LocalDate.now();
+		CachedPreview cached = cachedPreview.get();
+		if (!refresh && cached != null && cached.generation() == historyGeneration.get()
+			&& cached.preview().tradingDate().isEqual(today)) {
+			return cached.preview();
+		}
+		return inFlightPreviews.execute(today, () -> createPreview(today));
+	}
+
+	// 계산 중인 미리보기가 이미 읽은 종목에 일봉이 추가될 수 있으므로, 세대를 올려 그 결과도 캐시에서 쓰이지 않게 함
+	// 미리보기 자신의 동기화로 저장된 일봉도 세대를 올리므로, 그날 첫 계산 결과는 캐시되지 않고 다음 요청에서 한 번 더 계산될 수 있음
+	@EventListener
+	public void onHistoryAppended(HistoryAppendedEvent event) {
+		historyGeneration.incrementAndGet();
+		if (cachedPreview.getAndSet(null) != null) {
+			log.debug("새 일봉 저장으로 리밸런싱 미리보기 캐시 삭제: {} {}", event.type(), event.ticker());
+		}
+	}
+
+	private RebalancePreviewRes createPreview(LocalDate today) {
+		long generation = historyGeneration.get();
+		long startedAt = System.nanoTime();
+		PreparedRebalance prepared;
+		try {
+			prepared = rebalancePipelineService.prepare();
+		} catch (IOException e) {
+			throw new RebalancePreviewFailedException(e);
+		}
+
+		RebalancePreviewRes preview = RebalancePreviewRes.builder()
+			.tradingDate(today)
+			.generatedAt(LocalDateTime.now())
+			.planned(prepared.hasPlan())
+			.panic(prepared.hasPlan() && prepared.plan().panic())
+			.totalAmount(prepared.totalAmount())
+			.sellOrders(prepared.hasPlan() ? toPreviewOrders(prepared.plan().sellIntents()) : List.of())
+			.buyOrders(prepared.hasPlan() ? toPreviewOrders(prepared.plan().buyIntents()) : List.of())
+			.stages(prepared.stages().stream()
+				.map(stage -> new StageTimingRes(stage.stage(), stage.elapsedMillis()))
+				.toList())
+			.totalElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+			.build();
+
+		cachedPreview.set(new CachedPreview(generation, preview));
+		return preview;
+	}
+
+	private List<PreviewOrderRes> toPreviewOrders(List<OrderIntent> intents) {
+		return intents.stream()
+			.map(intent -> PreviewOrderRes.builder()
+				.ticker(intent.order().ticker())
+				.orderType(intent.order().orderType())
+				.quantity(intent.order().quantity())
+				.price(intent.order().price())
+				.amount(intent.amount())
+				.action(intent.action())
+				.build())
+			.toList();
+	}
+}
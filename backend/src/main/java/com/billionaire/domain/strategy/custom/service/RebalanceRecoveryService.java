@@ -0,0 +1,269 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.billionaire.domain.account.dto.internal.AccountBalanceDto;
+import com.billionaire.domain.account.dto.response.DetailedStockBalanceData1Res;
+import com.billionaire.domain.account.service.AccountService;
+import com.billionaire.domain.order.dto.internal.PendingOrder;
+import com.billionaire.domain.order.service.PendingOrderService;
+import com.billionaire.domain.order.type.OrderType;
+import com.billionaire.domain.strategy.custom.dto.internal.OrderIntent;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalancePlan;
+import com.billionaire.domain.strategy.custom.entity.OrderJournal;
+import com.billionaire.domain.strategy.custom.scheduler.CustomScheduler;
+import com.billionaire.domain.strategy.custom.type.JournalEntryType;
+import com.billionaire.global.util.DaemonThreadFactory;
+import com.billionaire.global.util.FutureUtils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재시작 시 끝나지 않은 리밸런싱 실행을 주문 일지로 대조해 이어서 실행
+ * 결과(ACKED/REJECTED)가 기록된 주문은 다시 보내지 않습니다.
+ * 전송 직전 기록(SUBMITTING)만 있는 주문은 미체결 주문 또는 (같은 종목의 다른 주문 체결분을 뺀) 보유 수량 변화로 이미 전송됐는지 확인하고,
+ * 확인되지 않을 때만 다시 보냅니다.
+ * 이전 거래일의 실행, 시작 후 재개 가능 시간이 지난 실행, 스케줄러가 비활성화된 상태의 실행은 이어서 실행하지 않고 포기로 기록합니다.
+ * 대조에 증권사 조회가 필요하므로 애플리케이션 시작 스레드를 막지 않도록 별도 스레드에서 실행합니다.
+ */
+@Slf4j
+@Service
+public class RebalanceRecoveryService {
+	private static final Set<JournalEntryType> FINISHED_TYPES =
+		Set.of(JournalEntryType.ACKED, JournalEntryType.REJECTED, JournalEntryType.RECONCILED);
+	// 증권사에 전송된 것이 확인된 기록 (보유 수량 변화 대조에 체결 수량으로 반영)
+	private static final Set<JournalEntryType> SETTLED_TYPES =
+		Set.of(JournalEntryType.ACKED, JournalEntryType.RECONCILED);
+
+	private final OrderJournalService orderJournalService;
+	private final RebalanceService rebalanceService;
+	private final PendingOrderService pendingOrderService;
+	private final AccountService accountService;
+	private final CustomScheduler customScheduler;
+	private final Duration maxDelay;
+	private final ExecutorService executor;
+
+	public RebalanceRecoveryService(
+		OrderJournalService orderJournalService,
+		RebalanceService rebalanceService,
+		PendingOrderService pendingOrderService,
+		AccountService accountService,
+		CustomScheduler customScheduler,
+		@Value("${app.rebalance.recovery.max-delay-minutes:30}") long maxDelayMinutes) {
+		this.orderJournalService = orderJournalService;
+		this.rebalanceService = rebalanceService;
+		this.pendingOrderService = pendingOrderService;
+		this.accountService = accountService;
+		this.customScheduler = customScheduler;
+		this.maxDelay = Duration.ofMinutes(maxDelayMinutes);
+		this.executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("rebalance-recovery-"));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void recoverUnfinishedRuns() {
+		executor.execute(this::recoverOpenRuns);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void recoverOpenRuns() {
+		for (OrderJournal run : orderJournalService.findOpenRuns()) {
+			try {
+				recover(run);
+			} catch (RuntimeException e) {
+				log.error("리밸런싱 실행 복구 실패 [{}]", run.getRunId(), e);
+			}
+		}
+	}
+
+	private void recover(OrderJournal run) {
+		String runId = run.getRunId();
+		if (!LocalDate.now().equals(run.getTradingDate())) {
+			log.warn("⚠️ 이전 거래일({})의 리밸런싱 실행이 끝나지 않은 채 남아 있어 포기로 기록 [{}]", run.getTradingDate(), runId);
+			orderJournalService.abandonRun(runId, "이전 거래일 실행");
+			return;
+		}
+		if (!customScheduler.isEnabled()) {
+			log.warn("⚠️ 리밸런싱 스케줄러가 비활성화되어 중단된 실행을 재개하지 않고 포기로 기록 [{}]", runId);
+			orderJournalService.abandonRun(runId, "스케줄러 비활성화");
+			return;
+		}
+		// 시작한 지 오래된 실행은 그 사이 시세와 잔고가 달라졌으므로 재전송하지 않음
+		if (run.getRecordedAt().plus(maxDelay).isBefore(LocalDateTime.now())) {
+			log.warn("⚠️ 리밸런싱 실행 시작({}) 후 {}분이 지나 재개하지 않고 포기로 기록 [{}]",
+				run.getRecordedAt(), maxDelay.toMinutes(), runId);
+			orderJournalService.abandonRun(runId, "재개 가능 시간 초과");
+			return;
+		}
+
+		Map<Integer, OrderJournal> plannedOrders = new LinkedHashMap<>();
+		Map<Integer, Set<JournalEntryType>> recordedTypes = new LinkedHashMap<>();
+		List<OrderJournal> settled = new ArrayList<>();
+		for (OrderJournal entry : orderJournalService.getEntries(runId)) {
+			if (!entry.isOrderEntry()) {
+				continue;
+			}
+			if (entry.getEntryType() == JournalEntryType.PLANNED) {
+				plannedOrders.put(entry.getSequence(), entry);
+			} else if (SETTLED_TYPES.contains(entry.getEntryType())) {
+				settled.add(entry);
+			}
+			recordedTypes.computeIfAbsent(entry.getSequence(), sequence -> new HashSet<>()).add(entry.getEntryType());
+		}
+
+		List<OrderJournal> unsubmitted = new ArrayList<>();
+		List<OrderJournal> unacknowledged = new ArrayList<>();
+		plannedOrders.forEach((sequence, planned) -> {
+			Set<JournalEntryType> types = recordedTypes.get(sequence);
+			if (types.stream().anyMatch(FINISHED_TYPES::contains)) {
+				return;
+			}
+			if (types.contains(JournalEntryType.SUBMITTING)) {
+				unacknowledged.add(planned);
+			} else {
+				unsubmitted.add(planned);
+			}
+		});
+
+		if (unsubmitted.isEmpty() && unacknowledged.isEmpty()) {
+			orderJournalService.completeRun(runId, "재시작 후 대조: 남은 주문 없음");
+			return;
+		}
+
+		// 잔고와 미체결 주문은 서로 독립적이므로 동시에 조회
+		CompletableFuture<AccountBalanceDto> accountBalanceFuture = accountService.getAccountBalanceAsync();
+		Map<String, PendingOrder> pendingOrders = unacknowledged.isEmpty() ? Map.of() : pendingOrderService.getPendingOrders();
+		AccountBalanceDto accountBalance = FutureUtils.join(accountBalanceFuture);
+		List<OrderJournal> replay = new ArrayList<>(unsubmitted);
+		if (!unacknowledged.isEmpty()) {
+			Reconciliation reconciliation = reconcile(unacknowledged, settled, pendingOrders, currentHoldings(accountBalance));
+			for (ConfirmedOrder confirmed : reconciliation.confirmed()) {
+				orderJournalService.recordReconciled(runId, confirmed.planned().toIntent(), confirmed.orderNumber(),
+					confirmed.reason());
+				log.info("🔎 [{}] 전송 확인 ({})", confirmed.planned().getTicker(), confirmed.reason());
+			}
+			replay.addAll(reconciliation.unresolved());
+		}
+		if (replay.isEmpty()) {
+			orderJournalService.completeRun(runId, "재시작 후 대조: 전송 확인 완료");
+			return;
+		}
+
+		List<OrderIntent> sellIntents = new ArrayList<>();
+		List<OrderIntent> buyIntents = new ArrayList<>();
+		Map<String, Integer> holdingsBefore = new LinkedHashMap<>();
+		replay.stream()
+			.sorted((a, b) -> Integer.compare(a.getSequence(), b.getSequence()))
+			.forEach(planned -> {
+				OrderIntent intent = planned.toIntent();
+				(planned.getOrderType() == OrderType.SELL ? sellIntents : buyIntents).add(intent);
+				if (planned.getHoldingQuantityBefore() != null) {
+					holdingsBefore.put(planned.getTicker(), planned.getHoldingQuantityBefore());
+				}
+			});
+
+		double cashAmount = Double.parseDouble(accountBalance.cashBalanceRes().output().get(0).frcrDnclAmt1());
+		log.info("🔁 중단된 리밸런싱 재개 [{}] | 재전송 {}건", runId, replay.size());
+		rebalanceService.resume(runId, new RebalancePlan(false, sellIntents, buyIntents, holdingsBefore), cashAmount);
+	}
+
+	/**
+	 * 전송 여부를 모르는 주문(SUBMITTING만 있는 주문)을 미체결 주문, 그다음 보유 수량 변화와 대조
+	 * 같은 종목에 주문이 여러 건일 수 있으므로, 계획 시점 이후의 보유 수량 변화에서 같은 종목의 다른 주문
+	 * (접수/대조 확인된 주문과 이번에 미체결로 확인된 주문)이 체결된 수량을 먼저 빼고, 남은 변화가 있는 방향의 주문만 전송된 것으로 봅니다.
+	 * 접수 확인된 주문은 미체결 목록에 있으면 체결된 만큼만, 없으면 전량 체결된 것으로 셉니다.
+	 */
+	static Reconciliation reconcile(List<OrderJournal> unacknowledged, List<OrderJournal> settled,
+		Map<String, PendingOrder> pendingOrders, Map<String, Integer> currentHoldings) {
+		// 종목별로 다른 주문이 체결되어 생긴 보유 수량 변화 (매수 +, 매도 -)
+		Map<String, Integer> explainedChanges = new HashMap<>();
+		Set<String> claimedOrderNumbers = new HashSet<>();
+		for (OrderJournal order : settled) {
+			PendingOrder pendingOrder = order.getOrderNumber() == null ? null : pendingOrders.get(order.getOrderNumber());
+			int filledQuantity = pendingOrder == null ? order.getQuantity() : pendingOrder.filledQuantity();
+			explainedChanges.merge(order.getTicker(), signedQuantity(order.getOrderType(), filledQuantity), Integer::sum);
+			if (order.getOrderNumber() != null) {
+				claimedOrderNumbers.add(order.getOrderNumber());
+			}
+		}
+
+		List<ConfirmedOrder> confirmed = new ArrayList<>();
+		List<OrderJournal> unmatched = new ArrayList<>();
+		for (OrderJournal planned : unacknowledged) {
+			Optional<PendingOrder> matched = pendingOrders.values().stream()
+				.filter(order -> !claimedOrderNumbers.contains(order.orderNumber()))
+				.filter(order -> planned.getTicker().equals(order.ticker())
+					&& planned.getOrderType() == order.orderType()
+					&& planned.getQuantity() == order.orderedQuantity())
+				.findFirst();
+			if (matched.isPresent()) {
+				claimedOrderNumbers.add(matched.get().orderNumber());
+				explainedChanges.merge(planned.getTicker(),
+					signedQuantity(planned.getOrderType(), matched.get().filledQuantity()), Integer::sum);
+				confirmed.add(new ConfirmedOrder(planned, matched.get().orderNumber(), "미체결 주문에서 확인"));
+			} else {
+				unmatched.add(planned);
+			}
+		}
+
+		List<OrderJournal> unresolved = new ArrayList<>();
+		for (OrderJournal planned : unmatched) {
+			if (planned.getHoldingQuantityBefore() == null) {
+				unresolved.add(planned);
+				continue;
+			}
+			int unexplainedChange = currentHoldings.getOrDefault(planned.getTicker(), 0)
+				- planned.getHoldingQuantityBefore()
+				- explainedChanges.getOrDefault(planned.getTicker(), 0);
+			int orderChange = signedQuantity(planned.getOrderType(), planned.getQuantity());
+			if ((long)unexplainedChange * orderChange > 0) {
+				explainedChanges.merge(planned.getTicker(), orderChange, Integer::sum);
+				confirmed.add(new ConfirmedOrder(planned, null, "보유 수량 변화로 확인"));
+			} else {
+				unresolved.add(planned);
+			}
+		}
+		return new Reconciliation(confirmed, unresolved);
+	}
+
+	private static Map<String, Integer> currentHoldings(AccountBalanceDto accountBalance) {
+		Map<String, Integer> currentHoldings = new LinkedHashMap<>();
+		for (DetailedStockBalanceData1Res stock : accountBalance.stockBalanceRes().output1()) {
+			currentHoldings.merge(stock.ovrsPdno(), RebalancePlanner.holdingQuantityOf(stock), Integer::sum);
+		}
+		return currentHoldings;
+	}
+
+	private static int signedQuantity(OrderType orderType, int quantity) {
+		return orderType == OrderType.BUY ? quantity : -quantity;
+	}
+
+	// 전송이 확인된 주문 (미체결 주문으로 확인되면 주문번호가 있음)
+	record ConfirmedOrder(OrderJournal planned, String orderNumber, String reason) {
+	}
+
+	record Reconciliation(List<ConfirmedOrder> confirmed, List<OrderJournal> unresolved) {
+	}
+}
@@ -1,23 +1,23 @@
 package com.billionaire.domain.strategy.custom.service;
 
-import java.util.Comparator;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
-import com.billionaire.domain.account.dto.response.DetailedStockBalanceData1Res;
-import com.billionaire.domain.order.service.OrderService;
-import com.billionaire.domain.order.dto.internal.OrderDto;
+import com.billionaire.domain.order.dto.internal.ExecutedOrder;
+import com.billionaire.domain.order.dto.internal.PendingOrder;
+import com.billionaire.domain.order.dto.internal.OrderResult;
+import com.billionaire.domain.order.service.OrderDispatcher;
 import com.billionaire.domain.order.type.OrderType;
 import com.billionaire.domain.order.service.PendingOrderService;
-import com.billionaire.domain.stock.dto.response.StockRes;
-import com.billionaire.domain.stock.service.StockService;
-import com.billionaire.domain.strategy.custom.dto.internal.StockInfoDto;
-import com.billionaire.domain.strategy.custom.exception.HighestPriceNotFoundException;
-import com.billionaire.domain.strategy.custom.exception.HoldingStockNotFoundException;
-import com.billionaire.domain.strategy.custom.exception.LowestPriceNotFoundException;
-
+import com.billionaire.domain.strategy.custom.dto.internal.OrderIntent;
+import com.billionaire.domain.strategy.custom.dto.internal.RebalancePlan;
 import com.billionaire.global.constants.TradingConstants;
 
 import lombok.RequiredArgsConstructor;
@@ -28,330 +28,211 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class RebalanceService {
 	private static final String CURRENCY_FORMAT = "%,.0f";
-	private static final String PERCENTAGE_FORMAT = "%.1f%%";
 	
-	private final OrderService orderService;
-	private final OrderTriggerService orderTriggerService;
+	private final OrderDispatcher orderDispatcher;
 	private final PendingOrderService pendingOrderService;
-	private final StockService stockService;
-
-	// 주식 분석 결과를 담는 내부 클래스
-	private static class StockAnalysis {
-		final StockRes highest;
-		final StockRes lowestAfterHigh;
-		final double highestPrice;
-		final double lowestPriceAfterHighestPrice;
-		final double currentPrice;
-
-		StockAnalysis(StockRes highest, StockRes lowestAfterHigh, double currentPrice) {
-			this.highest = highest;
-			this.lowestAfterHigh = lowestAfterHigh;
-			this.highestPrice = highest.price();
-			this.lowestPriceAfterHighestPrice = lowestAfterHigh.price();
-			this.currentPrice = currentPrice;
-		}
-	}
-
-	// 처리 데이터를 담는 내부 클래스
-	private static class ProcessingData {
-		final StockInfoDto stockInfoDto;
-		final DetailedStockBalanceData1Res matched;
-		final double ownAmount;
-		final StockAnalysis analysis;
-
-		ProcessingData(StockInfoDto stockInfoDto, DetailedStockBalanceData1Res matched,
-			double ownAmount, StockAnalysis analysis) {
-			this.stockInfoDto = stockInfoDto;
-			this.matched = matched;
-			this.ownAmount = ownAmount;
-			this.analysis = analysis;
-		}
-	}
-
-	public void rebalance(List<DetailedStockBalanceData1Res> ownStocks, List<StockInfoDto> stockInfoDtoList) {
-		boolean isPanic = orderTriggerService.isPanic();
-
-		flushNonStrategyStocks(ownStocks, stockInfoDtoList);
-		executeRebalancing(isPanic, ownStocks, stockInfoDtoList);
-	}
-
-	private void executeRebalancing(boolean isPanic, List<DetailedStockBalanceData1Res> ownStocks, List<StockInfoDto> stockInfoDtoList) {
-		rebalanceForSelling(isPanic, ownStocks, stockInfoDtoList);
-
-		if (waitUntilSellOrdersFilled()) {
-			rebalanceForBuying(isPanic, ownStocks, stockInfoDtoList);
-		}
-	}
-
-	private void flushNonStrategyStocks(List<DetailedStockBalanceData1Res> stocks, List<StockInfoDto> targetStocks) {
-		Iterator<DetailedStockBalanceData1Res> iterator = stocks.iterator();
-		while (iterator.hasNext()) {
-			DetailedStockBalanceData1Res holdingStock = iterator.next();
-
-			boolean isTarget = targetStocks.stream()
-				.anyMatch(stockInfo -> stockInfo.ticker().equals(holdingStock.ovrsPdno()));
-
-			if (!isTarget && !holdingStock.ovrsPdno().isBlank()) {
-				orderService.stockOrder(OrderDto.builder()
-					.ticker(holdingStock.ovrsPdno())
-					.quantity(Integer.parseInt(holdingStock.ordPsblQty()))
-					.price(Double.parseDouble(holdingStock.nowPric2()))
-					.orderType(OrderType.SELL)
-					.build());
-
-				log.info("{} 전량매도", holdingStock.ovrsItemName());
-				iterator.remove();
-			}
-		}
-	}
-
-	private void rebalanceForSelling(boolean isPanic, List<DetailedStockBalanceData1Res> ownStocks, List<StockInfoDto> stockInfoDtoList) {
-		stockInfoDtoList.forEach(stockInfo -> {
-			ProcessingData data = createProcessingData(stockInfo, ownStocks);
-			processSellingStrategy(data, isPanic);
-		});
-	}
-
-	private boolean waitUntilSellOrdersFilled() {
-		final int maxRetry = 10;
-		final int delayMillis = 3000;
-		int retry = 0;
-
-		while (retry < maxRetry) {
-			if (pendingOrderService.verifyOrder()) {
-				log.info("✅ 모든 매도 주문 체결 완료");
-				return true;
+	private final OrderJournalService orderJournalService;
+
+	// 체결을 기다리는 매도 주문
+	private static class PendingSell {
+		final String orderNumber;
+		final String ticker;
+		final int quantity;
+		final double price;
+		int filledQuantity;
+
+		PendingSell(String orderNumber, String ticker, int quantity, double price) {
+			this.orderNumber = orderNumber;
+			this.ticker = ticker;
+			this.quantity = quantity;
+			this.price = price;
+		}
+	}
+
+	/**
+	 * 주문 전에 모든 종목의 분석과 주문 계획을 먼저 끝내고(RebalancePlanner), 여기서는 계획만 실행
+	 * 매수는 모든 매도 체결을 기다리지 않고, 예수금과 지금까지 체결된 매도 대금으로 살 수 있는 종목부터 바로 주문합니다.
+	 * 미체결 조회 간격은 체결이 없으면 늘리고, 체결이 확인되면 다시 줄입니다.
+	 */
+	public void execute(RebalancePlan plan, double availableCash) {
+		log.info("🧾 리밸런싱 계획 (공황: {}) | 매도 {}건 | 매수 {}건",
+			plan.panic(), plan.sellIntents().size(), plan.buyIntents().size());
+
+		String runId = orderJournalService.startRun(plan);
+		run(runId, plan, availableCash);
+	}
+
+	// 재시작 후 주문 일지에서 다시 보내야 하는 주문만 모은 계획을 같은 runId로 이어서 실행
+	public void resume(String runId, RebalancePlan plan, double availableCash) {
+		log.info("🔁 리밸런싱 재개 [{}] | 매도 {}건 | 매수 {}건",
+			runId, plan.sellIntents().size(), plan.buyIntents().size());
+		run(runId, plan, availableCash);
+	}
+
+	// 정상 종료/타임아웃/인터럽트는 실행 완료로 기록. 프로세스가 죽으면 완료 기록이 남지 않아 재시작 시 대조 대상이 됨
+	private void run(String runId, RebalancePlan plan, double availableCash) {
+		Map<String, PendingSell> pendingSells = placeSellOrders(runId, plan.sellIntents());
+		int rejectedSells = plan.sellIntents().size() - pendingSells.size();
+		Deque<OrderIntent> waitingBuys = new ArrayDeque<>(plan.buyIntents());
+		double cash = placeFundedBuys(runId, waitingBuys, availableCash);
+
+		long deadline = System.nanoTime() + TradingConstants.OrderFill.FILL_TIMEOUT_MILLIS * 1_000_000L;
+		long delayMillis = TradingConstants.OrderFill.INITIAL_POLL_MILLIS;
+		while (!waitingBuys.isEmpty() && !pendingSells.isEmpty()) {
+			if (System.nanoTime() > deadline) {
+				log.warn("⚠️ 매도 주문 체결 실패 또는 타임아웃. 매수 {}건 미실행", waitingBuys.size());
+				orderJournalService.completeRun(runId, "매도 체결 타임아웃, 매수 " + waitingBuys.size() + "건 미실행");
+				return;
 			}
-			log.info("⏳ 매도 주문 미체결 상태. {}초 후 재확인", delayMillis / 1000);
+			log.debug("⏳ 매도 주문 {}건 미체결. {}ms 후 재확인", pendingSells.size(), delayMillis);
 			try {
 				Thread.sleep(delayMillis);
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
-				log.warn("❗ 매도 주문 체결 대기 중 인터럽트 발생");
-				return false;
+				log.warn("❗ 매도 주문 체결 대기 중 인터럽트 발생. 매수 {}건 미실행", waitingBuys.size());
+				orderJournalService.completeRun(runId, "매도 체결 대기 중 인터럽트, 매수 " + waitingBuys.size() + "건 미실행");
+				return;
 			}
-			retry++;
-		}
-
-		log.warn("⚠️ 매도 주문 체결 실패 또는 타임아웃");
-		return false;
-	}
-
-	private void rebalanceForBuying(boolean isPanic, List<DetailedStockBalanceData1Res> ownStocks, List<StockInfoDto> stockInfoDtoList) {
-		stockInfoDtoList.forEach(stockInfo -> {
-			ProcessingData data = createProcessingData(stockInfo, ownStocks);
-			processBuyingStrategy(data, isPanic);
-		});
-	}
-
-	// 주식 분석 메서드
-	private StockAnalysis analyzeStock(String ticker) {
-		List<StockRes> data = stockService.getStockData(ticker);
-
-		StockRes highest = data.stream()
-			.max(Comparator.comparing(StockRes::price))
-			.orElseThrow(HighestPriceNotFoundException::new);
-
-		StockRes lowestAfterHigh = data.stream()
-			.filter(s -> s.date().isAfter(highest.date()))
-			.min(Comparator.comparing(StockRes::price))
-			.orElseThrow(LowestPriceNotFoundException::new);
-
-		double currentPrice = data.get(data.size() - 1).price();
-
-		return new StockAnalysis(highest, lowestAfterHigh, currentPrice);
-	}
 
-	private ProcessingData createProcessingData(StockInfoDto stockInfo, List<DetailedStockBalanceData1Res> ownStocks) {
-		StockAnalysis analysis = analyzeStock(stockInfo.ticker());
-		DetailedStockBalanceData1Res matched = findHoldingStock(ownStocks, stockInfo.ticker());
-		double ownAmount = Double.parseDouble(matched.ovrsStckEvluAmt());
-
-		return new ProcessingData(stockInfo, matched, ownAmount, analysis);
-	}
-
-	private DetailedStockBalanceData1Res findHoldingStock(List<DetailedStockBalanceData1Res> ownStocks, String ticker) {
-		return ownStocks.stream()
-			.filter(stock -> stock.ovrsPdno().equals(ticker))
-			.findFirst()
-			.orElseThrow(HoldingStockNotFoundException::new);
-	}
-
-	private void processNormalSelling(ProcessingData data) {
-		if (isRecoveryConditionMet(data.analysis)) {
-			executeRecoveryTrade(data, OrderType.SELL);
+			double proceeds = collectFilledProceeds(pendingSells);
+			if (proceeds > 0) {
+				cash = placeFundedBuys(runId, waitingBuys, cash + proceeds);
+				delayMillis = TradingConstants.OrderFill.INITIAL_POLL_MILLIS;
+			} else {
+				delayMillis = Math.min((long)(delayMillis * TradingConstants.OrderFill.POLL_BACKOFF_MULTIPLIER),
+					TradingConstants.OrderFill.MAX_POLL_MILLIS);
+			}
 		}
 
-		if (isPriceDropped(data.analysis)) {
-			processDropBasedSelling(data);
+		if (!waitingBuys.isEmpty()) {
+			// 더 기다릴 매도 대금이 없으므로 남은 매수는 예수금이 부족해 보여도 주문 (최종 판단은 증권사)
+			logSellOutcome(plan.sellIntents().size(), rejectedSells);
+			placeOrders(runId, List.copyOf(waitingBuys));
 		}
+		orderJournalService.completeRun(runId, "완료");
 	}
 
-	// 패닉 상황에서의 매도 처리
-	private void processPanicSelling(ProcessingData data) {
-		StockAnalysis analysis = data.analysis;
-
-		if (analysis.currentPrice < analysis.highestPrice) {
-			double totalDropPercentage = (analysis.highestPrice - analysis.currentPrice) / analysis.highestPrice;
-			int dropCount = (int)(totalDropPercentage / TradingConstants.Rebalancing.RISE_UNIT_2_5_PERCENT);
-
-			if (dropCount > 0) {
-				double amountToLiquidate = data.stockInfoDto.amount() * TradingConstants.Rebalancing.TRADE_RATIO_10_PERCENT * dropCount;
-				log.info("📊 [{}] 패닉 현금화 목표액: ₩{}", data.stockInfoDto.ticker(), formatCurrency(amountToLiquidate));
-
-				double result = -(data.ownAmount - data.stockInfoDto.amount()) + data.stockInfoDto.amount() - amountToLiquidate;
-				if (result < 0) {
-					logTradingAction(data.stockInfoDto.ticker(), "패닉 현금화", -result, analysis.currentPrice, OrderType.SELL);
-					orderService.stockOrder(OrderDto.builder()
-						.ticker(data.stockInfoDto.ticker())
-						.quantity((int)(result / analysis.currentPrice))
-						.price(analysis.currentPrice)
-						.orderType(OrderType.SELL)
-						.build());
-				}
-			}
-		}
+	// 접수된 매도 주문만 주문번호로 체결을 추적
+	private Map<String, PendingSell> placeSellOrders(String runId, List<OrderIntent> sellIntents) {
+		Map<String, PendingSell> pendingSells = new LinkedHashMap<>();
+		placeOrders(runId, sellIntents).stream()
+			.filter(OrderResult::accepted)
+			.forEach(result -> pendingSells.put(result.orderNumber(), new PendingSell(result.orderNumber(),
+				result.order().ticker(), result.order().quantity(), result.order().price())));
+		return pendingSells;
 	}
 
-	// 하락률 기반 매도 처리
-	private void processDropBasedSelling(ProcessingData data) {
-		StockAnalysis analysis = data.analysis;
-		double totalDropPercentage = (analysis.highestPrice - analysis.currentPrice) / analysis.highestPrice;
-
-		int dropCount = (int)(totalDropPercentage / TradingConstants.Rebalancing.DROP_UNIT_5_PERCENT);
-		if (dropCount > 0) {
-			double amountToPurchase = data.stockInfoDto.amount() * TradingConstants.Rebalancing.TRADE_RATIO_10_PERCENT * dropCount;
-			double result = amountToPurchase - data.ownAmount;
-
-			if (result < 0) {
-				String dropPercentage = formatPercentage(totalDropPercentage * 100);
-				logTradingAction(data.stockInfoDto.ticker(), "하락 매도(" + dropPercentage + ")", -result, analysis.currentPrice, OrderType.SELL);
-				orderService.stockOrder(OrderDto.builder()
-					.ticker(data.stockInfoDto.ticker())
-					.quantity((int)(result / analysis.currentPrice))
-					.price(analysis.currentPrice)
-					.orderType(OrderType.SELL)
-					.build());
+	// 현금으로 살 수 있는 매수를 계획 순서대로 골라 한 번에 주문하고 남은 현금을 반환
+	private double placeFundedBuys(String runId, Deque<OrderIntent> waitingBuys, double cash) {
+		double remainingCash = cash;
+		List<OrderIntent> fundedBuys = new ArrayList<>();
+		Iterator<OrderIntent> iterator = waitingBuys.iterator();
+		while (iterator.hasNext()) {
+			OrderIntent intent = iterator.next();
+			double cost = intent.order().quantity() * intent.order().price() * (1 + TradingConstants.Rebalancing.BUY_FEE_BUFFER_RATE);
+			if (cost <= remainingCash) {
+				fundedBuys.add(intent);
+				remainingCash -= cost;
+				iterator.remove();
 			}
 		}
+		placeOrders(runId, fundedBuys);
+		return remainingCash;
 	}
 
-	private void processNormalBuying(ProcessingData data) {
-		if (isRecoveryConditionMet(data.analysis)) {
-			executeRecoveryTrade(data, OrderType.BUY);
-		}
-
-		if (isPriceDropped(data.analysis)) {
-			processDropBasedBuying(data);
+	// 지난 조회 이후 새로 체결된 매도 대금. 체결이 끝났거나 거부/취소가 확인된 주문은 추적 대상에서 제외
+	// 미체결 목록에서 빠진 주문은 아직 접수 전이거나 전량 체결, 거부/취소된 것일 수 있으므로 체결 내역으로 체결 수량을 확인
+	private double collectFilledProceeds(Map<String, PendingSell> pendingSells) {
+		Map<String, PendingOrder> pendingOrders;
+		try {
+			pendingOrders = pendingOrderService.getPendingOrders();
+		} catch (RuntimeException e) {
+			log.warn("미체결 주문 조회 실패: {}", e.getMessage());
+			return 0.0;
 		}
-	}
-
-	// 패닉 상황에서의 매수 처리
-	private void processPanicBuying(ProcessingData data) {
-		StockAnalysis analysis = data.analysis;
 
-		if (analysis.currentPrice < analysis.highestPrice) {
-			double totalDropPercentage = (analysis.highestPrice - analysis.currentPrice) / analysis.highestPrice;
-			int dropCount = (int)(totalDropPercentage / TradingConstants.Rebalancing.RISE_UNIT_2_5_PERCENT);
-
-			if (dropCount > 0) {
-				double amountToLiquidate = data.stockInfoDto.amount() * TradingConstants.Rebalancing.TRADE_RATIO_10_PERCENT * dropCount;
-				log.info("📊 [{}] 패닉 투자 목표액: ₩{}", data.stockInfoDto.ticker(), formatCurrency(amountToLiquidate));
-
-				double result = -(data.ownAmount - data.stockInfoDto.amount()) + data.stockInfoDto.amount() - amountToLiquidate;
-				if (result > 0) {
-					logTradingAction(data.stockInfoDto.ticker(), "패닉 매수", result, analysis.currentPrice, OrderType.BUY);
-					orderService.stockOrder(OrderDto.builder()
-						.ticker(data.stockInfoDto.ticker())
-						.quantity((int)(result / analysis.currentPrice))
-						.price(analysis.currentPrice)
-						.orderType(OrderType.BUY)
-						.build());
+		Map<String, ExecutedOrder> executedOrders = null;
+		double proceeds = 0.0;
+		Iterator<PendingSell> iterator = pendingSells.values().iterator();
+		while (iterator.hasNext()) {
+			PendingSell sell = iterator.next();
+			PendingOrder pendingOrder = pendingOrders.get(sell.orderNumber);
+			int filledQuantity;
+			boolean finished;
+			if (pendingOrder != null) {
+				filledQuantity = Math.min(sell.quantity, sell.quantity - pendingOrder.unfilledQuantity());
+				finished = false;
+			} else {
+				if (executedOrders == null) {
+					executedOrders = loadExecutedOrders();
+				}
+				ExecutedOrder executedOrder = executedOrders.get(sell.orderNumber);
+				// 체결 내역에 아직 없거나 미체결로 남아 있으면 다음 조회에서 다시 확인
+				if (executedOrder == null || executedOrder.unfilledQuantity() > 0) {
+					continue;
+				}
+				filledQuantity = Math.min(sell.quantity, executedOrder.filledQuantity());
+				finished = true;
+				if (filledQuantity < sell.quantity) {
+					log.warn("⚠️ [{}] 매도 주문이 {}/{}주만 체결되고 종료됨 (거부/취소)", sell.ticker, filledQuantity, sell.quantity);
 				}
 			}
-		}
-	}
-
-	// 하락률 기반 매수 처리
-	private void processDropBasedBuying(ProcessingData data) {
-		StockAnalysis analysis = data.analysis;
-		double totalDropPercentage = (analysis.highestPrice - analysis.currentPrice) / analysis.highestPrice;
 
-		int dropCount = (int)(totalDropPercentage / TradingConstants.Rebalancing.DROP_UNIT_5_PERCENT);
-		if (dropCount > 0) {
-			double amountToPurchase = data.stockInfoDto.amount() * TradingConstants.Rebalancing.TRADE_RATIO_10_PERCENT * dropCount;
-			double result = amountToPurchase - data.ownAmount;
-
-			if (result > 0) {
-				String dropPercentage = formatPercentage(totalDropPercentage * 100);
-				logTradingAction(data.stockInfoDto.ticker(), "하락 매수(" + dropPercentage + ")", result, analysis.currentPrice, OrderType.BUY);
-				orderService.stockOrder(OrderDto.builder()
-					.ticker(data.stockInfoDto.ticker())
-					.quantity((int)(result / analysis.currentPrice))
-					.price(analysis.currentPrice)
-					.orderType(OrderType.BUY)
-					.build());
+			if (filledQuantity > sell.filledQuantity) {
+				proceeds += (filledQuantity - sell.filledQuantity) * sell.price;
+				sell.filledQuantity = filledQuantity;
+				log.info("💰 [{}] 매도 체결 {}/{}주", sell.ticker, filledQuantity, sell.quantity);
+			}
+			if (finished || filledQuantity >= sell.quantity) {
+				iterator.remove();
 			}
 		}
+		return proceeds;
 	}
 
-	private void processSellingStrategy(ProcessingData data, boolean isPanic) {
-		if (isPanic) {
-			processPanicSelling(data);
-		} else {
-			processNormalSelling(data);
+	// 조회에 실패하면 빈 결과로 두고 다음 조회에서 다시 확인
+	private Map<String, ExecutedOrder> loadExecutedOrders() {
+		try {
+			return pendingOrderService.getExecutedOrders();
+		} catch (RuntimeException e) {
+			log.warn("주문 체결 내역 조회 실패: {}", e.getMessage());
+			return Map.of();
 		}
 	}
 
-	private void processBuyingStrategy(ProcessingData data, boolean isPanic) {
-		if (isPanic) {
-			processPanicBuying(data);
+	private void logSellOutcome(int sellCount, int rejectedSells) {
+		if (sellCount == 0) {
+			log.info("✅ 매도 주문 없음");
+		} else if (rejectedSells == sellCount) {
+			log.warn("⚠️ 매도 주문 {}건이 모두 접수되지 않아 매도 대금 없이 진행", sellCount);
+		} else if (rejectedSells > 0) {
+			log.info("✅ 접수된 매도 주문 {}건 처리 완료 (미접수 {}건)", sellCount - rejectedSells, rejectedSells);
 		} else {
-			processNormalBuying(data);
+			log.info("✅ 모든 매도 주문 처리 완료");
 		}
 	}
 
-	private boolean isRecoveryConditionMet(StockAnalysis analysis) {
-		return analysis.lowestPriceAfterHighestPrice * 1.1 < analysis.currentPrice;
-	}
-
-	private boolean isPriceDropped(StockAnalysis analysis) {
-		return analysis.currentPrice < analysis.highestPrice;
-	}
-
-	private void executeRecoveryTrade(ProcessingData data, OrderType orderType) {
-		double result = data.stockInfoDto.amount() - data.ownAmount;
-		boolean shouldExecute = (orderType == OrderType.SELL && result < 0) || (orderType == OrderType.BUY && result > 0);
-		
-		if (shouldExecute) {
-			double tradeAmount = Math.abs(result);
-			String action = "회복 조건 " + (orderType == OrderType.SELL ? "매도" : "매수");
-			logTradingAction(data.stockInfoDto.ticker(), action, tradeAmount, data.analysis.currentPrice, orderType);
-			
-			orderService.stockOrder(OrderDto.builder()
-				.ticker(data.stockInfoDto.ticker())
-				.quantity((int)(result / data.analysis.currentPrice))
-				.price(data.analysis.currentPrice)
-				.orderType(orderType)
-				.build());
+	// 전송 전/후를 주문 일지에 남기고, 주문 큐에 한 번에 넣어(동시 전송 수 제한) 모두 접수될 때까지 대기
+	private List<OrderResult> placeOrders(String runId, List<OrderIntent> intents) {
+		if (intents.isEmpty()) {
+			return List.of();
 		}
+		intents.forEach(this::logTradingAction);
+		orderJournalService.recordSubmitting(runId, intents);
+		List<OrderResult> results = orderDispatcher.submitAllAndWait(intents.stream().map(OrderIntent::order).toList());
+		orderJournalService.recordResults(runId, intents, results);
+		return results;
 	}
 
 	private String formatCurrency(double amount) {
 		return String.format(CURRENCY_FORMAT, amount);
 	}
 
-	private String formatPercentage(double percentage) {
-		return String.format(PERCENTAGE_FORMAT, percentage);
-	}
-
-	private void logTradingAction(String ticker, String action, double amount, double price, OrderType orderType) {
-		String emoji = orderType == OrderType.BUY ? "📈" : "📉";
-		String formattedAmount = formatCurrency(amount);
-		String formattedPrice = formatCurrency(price);
-		int quantity = (int)(amount / price);
+	private void logTradingAction(OrderIntent intent) {
+		String emoji = intent.order().orderType() == OrderType.BUY ? "📈" : "📉";
 		
 		log.info("{} [{}] {} | 금액: ₩{} | 가격: ₩{} | 수량: {}주", 
-			emoji, ticker, action, formattedAmount, formattedPrice, quantity);
+			emoji, intent.order().ticker(), intent.action(), formatCurrency(intent.amount()),
+			formatCurrency(intent.order().price()), intent.order().quantity());
 	}
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -22,7 +23,9 @@ import lombok.extern.slf4j.Slf4j;
 public class StockVerificationService {
 	private final ApiUtils apiUtils;
 	private final TokenUtils tokenUtils;
-	private static final String URL = "https://openapi.koreainvestment.com:9443/uapi/overseas-price/v1/quotations/inquire-search";
+	private static final String PATH = "/uapi/overseas-price/v1/quotations/inquire-search";
+	@Value("${ks.base-url}")
+	private String baseUrl;
 
 	public VerifiedDataRes verifyData(Long minMarketCap, Long maxMarketCap) {
 		Map<String, String> params = Map.of(
@@ -35,7 +38,7 @@ public class StockVerificationService {
 
 		ResponseEntity<VerifiedDataRes> response = apiUtils.getRequest(
 			tokenUtils.createAuthorizationHeaders("HHDFS76410000"),
-			URL,
+			baseUrl + PATH,
 			params,
 			VerifiedDataRes.class
 		);
@@ -0,0 +1,12 @@
+package com.billionaire.domain.strategy.custom.type;
+
+public enum JournalEntryType {
+	RUN_STARTED,
+	PLANNED,
+	SUBMITTING,
+	ACKED,
+	REJECTED,
+	RECONCILED,
+	RUN_COMPLETED,
+	RUN_ABANDONED
+}
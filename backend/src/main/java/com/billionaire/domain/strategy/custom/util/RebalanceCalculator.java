@@ -0,0 +1,70 @@
+package com.billionaire.domain.strategy.custom.util;
+
+import com.billionaire.domain.strategy.custom.dto.internal.RebalanceParameters;
+import com.billionaire.global.constants.TradingConstants;
+
+/**
+ * 리밸런싱 매매 금액 계산
+ * 주문/계좌 조회 없이 가격과 금액만으로 계산하므로 실제 리밸런싱과 백테스트가 같은 규칙을 사용합니다.
+ * 반환하는 매매 금액은 양수면 매수, 음수면 매도, 0이면 매매 없음입니다.
+ */
+public final class RebalanceCalculator {
+	private RebalanceCalculator() {
+		throw new AssertionError("유틸리티 클래스 - 인스턴스화하지 마십시오");
+	}
+
+	// 고점 이후 저점 대비 10% 넘게 오르면 회복으로 판단
+	public static boolean isRecoveryConditionMet(double lowestPriceAfterHighest, double currentPrice) {
+		return lowestPriceAfterHighest * TradingConstants.Rebalancing.RECOVERY_RATIO < currentPrice;
+	}
+
+	public static boolean isPriceDropped(double highestPrice, double currentPrice) {
+		return currentPrice < highestPrice;
+	}
+
+	// 고점 대비 하락률 (0.1 = 10%)
+	public static double dropRate(double highestPrice, double currentPrice) {
+		return (highestPrice - currentPrice) / highestPrice;
+	}
+
+	// 회복 시 목표 금액으로 되돌리는 매매 금액
+	public static double recoveryTrade(double targetAmount, double ownAmount) {
+		return targetAmount - ownAmount;
+	}
+
+	// 고점 대비 dropUnit 단위 하락 횟수만큼 목표 금액의 tradeRatio씩 보유하도록 하는 매매 금액
+	public static double dropTrade(RebalanceParameters parameters, double targetAmount, double ownAmount,
+		double highestPrice, double currentPrice) {
+		if (!isPriceDropped(highestPrice, currentPrice)) {
+			return 0.0;
+		}
+		int dropCount = (int)(dropRate(highestPrice, currentPrice) / parameters.dropUnit());
+		if (dropCount <= 0) {
+			return 0.0;
+		}
+		double amountToPurchase = targetAmount * parameters.tradeRatio() * dropCount;
+		return amountToPurchase - ownAmount;
+	}
+
+	// 패닉 상황에서 고점 대비 riseUnit 단위 하락 횟수만큼 현금화할 목표액. 하락이 없으면 0
+	public static double panicLiquidationAmount(RebalanceParameters parameters, double targetAmount,
+		double highestPrice, double currentPrice) {
+		if (!isPriceDropped(highestPrice, currentPrice)) {
+			return 0.0;
+		}
+		int dropCount = (int)(dropRate(highestPrice, currentPrice) / parameters.riseUnit());
+		if (dropCount <= 0) {
+			return 0.0;
+		}
+		return targetAmount * parameters.tradeRatio() * dropCount;
+	}
+
+	public static double panicTrade(double targetAmount, double ownAmount, double amountToLiquidate) {
+		return -(ownAmount - targetAmount) + targetAmount - amountToLiquidate;
+	}
+
+	// 매매 금액을 주문 수량으로 변환 (매도 금액도 양의 수량으로)
+	public static int quantityOf(double tradeAmount, double price) {
+		return (int)(Math.abs(tradeAmount) / price);
+	}
+}
@@ -1,5 +1,6 @@
 package com.billionaire.domain.token.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -18,6 +19,10 @@ import com.billionaire.domain.token.repository.TokenRepository;
 import com.billionaire.global.util.ApiUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,35 +32,68 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TokenService {
 
-	private static final String URL = "https://openapi.koreainvestment.com:9443/oauth2/tokenP";
+	private static final String PATH = "/oauth2/tokenP";
+	@Value("${ks.base-url}")
+	private String baseUrl;
 	private final TokenMapper tokenMapper;
 	private final TokenRepository tokenRepository;
 	private final ApiUtils apiUtils;
+	private final MeterRegistry meterRegistry;
 	@Value("${ks.app-key}")
 	private String appKey;
 	@Value("${ks.app-secret}")
 	private String appSecret;
 
+	// 마지막으로 확인한 토큰 만료 시각 (broker.token.expires.in 지표용)
+	private volatile LocalDateTime knownExpiration;
+
+	// 토큰 재발급 소요 시간/결과(broker.token.refresh)와 현재 토큰의 남은 유효 시간
+	@PostConstruct
+	public void registerMetrics() {
+		Gauge.builder("broker.token.expires.in", this, TokenService::secondsUntilExpiration)
+			.description("증권사 접근 토큰의 남은 유효 시간")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
 	@Transactional
 	public void validateOrRefreshToken() {
 		try {
 			Token token = tokenRepository.getLatestToken();
+			knownExpiration = token.getExpiration();
 			if (token.getExpiration().isBefore(LocalDateTime.now())) {
 				log.info("토큰이 만료되었습니다. 새로운 토큰을 요청합니다.");
-				requestNewAccessToken();
+				requestNewAccessToken("expired");
 			}
 		} catch (TokenNotFoundException e) {
 			log.info("저장된 토큰이 없습니다. 새로운 토큰을 요청합니다.");
-			requestNewAccessToken();
+			requestNewAccessToken("missing");
 		}
 	}
 
-	private void requestNewAccessToken() {
+	private void requestNewAccessToken(String reason) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "failure";
 		try {
 			requestAccessTokenFromApi();
+			outcome = "success";
 		} catch (JsonProcessingException e) {
 			throw new TokenCreationFailedException();
+		} finally {
+			sample.stop(Timer.builder("broker.token.refresh")
+				.description("증권사 접근 토큰 재발급")
+				.tag("reason", reason)
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+		}
+	}
+
+	private double secondsUntilExpiration() {
+		LocalDateTime expiration = knownExpiration;
+		if (expiration == null) {
+			return Double.NaN;
 		}
+		return Duration.between(LocalDateTime.now(), expiration).toSeconds();
 	}
 
 	private void requestAccessTokenFromApi() throws JsonProcessingException {
@@ -70,7 +108,7 @@ public class TokenService {
 				);
 
 			ResponseEntity<TokenRes> response = apiUtils.postRequest(
-				URL,
+				baseUrl + PATH,
 				httpHeaders,
 				requestMap,
 				TokenRes.class
@@ -82,6 +120,7 @@ public class TokenService {
 
 			Token token = tokenMapper.toToken(response.getBody());
 			tokenRepository.save(token);
+			knownExpiration = token.getExpiration();
 
 			log.info("발급된 토큰: {}, 만료기간: {}", token.getAccessToken(), token.getExpiration());
 		} catch (Exception e) {
@@ -0,0 +1,23 @@
+package com.billionaire.global.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.billionaire.global.util.DaemonThreadFactory;
+
+/**
+ * 증권사 API 비동기 호출(ApiUtils.getRequestAsync)용 스레드 풀
+ * 초당 호출 수는 호출 제한기가 제한하므로, 풀 크기는 동시에 응답을 기다릴 수 있는 호출 수만 정합니다.
+ */
+@Configuration
+public class BrokerAsyncConfig {
+
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService brokerAsyncExecutor(@Value("${app.broker.async-concurrency:8}") int concurrency) {
+		return Executors.newFixedThreadPool(Math.max(1, concurrency), new DaemonThreadFactory("broker-async-"));
+	}
+}
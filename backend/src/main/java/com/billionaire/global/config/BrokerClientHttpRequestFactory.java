@@ -0,0 +1,31 @@
+package com.billionaire.global.config;
+
+import java.net.URI;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import com.billionaire.global.util.RequestCancellation;
+
+/**
+ * 만든 요청을 현재 스레드의 RequestCancellation에 등록하는 요청 팩토리
+ * 헤지 요청이 먼저 성공하면 응답을 기다리던 첫 요청의 연결을 끊을 수 있습니다. (반대도 같음)
+ */
+public class BrokerClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+	public BrokerClientHttpRequestFactory(HttpClient httpClient) {
+		super(httpClient);
+	}
+
+	@Override
+	protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+		ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+		if (request instanceof Cancellable cancellable) {
+			RequestCancellation.register(cancellable);
+		}
+		return request;
+	}
+}
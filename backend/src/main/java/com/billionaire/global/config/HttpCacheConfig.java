@@ -0,0 +1,23 @@
+package com.billionaire.global.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * 조건부 GET(ETag) 설정
+ * 시세 이력은 컨트롤러에서 이력 버전으로 직접 검증하고, 저장된 버전이 없는 계좌 조회는 응답 본문 해시로 ETag를 만듭니다.
+ */
+@Configuration
+public class HttpCacheConfig {
+
+	@Bean
+	public FilterRegistrationBean<ShallowEtagHeaderFilter> accountEtagFilter() {
+		FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+			new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+		registration.addUrlPatterns("/api/account");
+		registration.setName("accountEtagFilter");
+		return registration;
+	}
+}
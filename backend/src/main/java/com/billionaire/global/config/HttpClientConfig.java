@@ -0,0 +1,89 @@
+package com.billionaire.global.config;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * 증권사 API 호출용 HTTP 클라이언트 설정
+ * 호스트별 커넥션 풀로 TLS 연결을 재사용(keep-alive)하고, 연결/응답/풀 대기 시간에 제한을 둡니다.
+ * 유휴 커넥션은 주기적으로 정리하고, 오래 쉬었던 커넥션은 재사용 전에 유효성을 확인합니다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager brokerConnectionManager(
+		@Value("${app.broker.http.max-total:20}") int maxTotal,
+		@Value("${app.broker.http.max-per-route:10}") int maxPerRoute,
+		@Value("${app.broker.http.connect-timeout-millis:3000}") long connectTimeoutMillis,
+		@Value("${app.broker.http.read-timeout-millis:10000}") long readTimeoutMillis) {
+		return connectionManager(maxTotal, maxPerRoute, connectTimeoutMillis, readTimeoutMillis, null);
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient brokerHttpClient(
+		PoolingHttpClientConnectionManager brokerConnectionManager,
+		@Value("${app.broker.http.connection-request-timeout-millis:3000}") long connectionRequestTimeoutMillis,
+		@Value("${app.broker.http.idle-evict-seconds:30}") long idleEvictSeconds) {
+		return httpClient(brokerConnectionManager, connectionRequestTimeoutMillis, idleEvictSeconds);
+	}
+
+	// 커넥션 풀 사용량 (httpcomponents.httpclient.pool.* 지표, pool=broker)
+	@Bean
+	public MeterBinder brokerConnectionPoolMetrics(PoolingHttpClientConnectionManager brokerConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(brokerConnectionManager, "broker");
+	}
+
+	// 헤지 경쟁에서 진 요청을 중단할 수 있도록 요청을 RequestCancellation에 등록
+	@Bean
+	public RestTemplate brokerRestTemplate(CloseableHttpClient brokerHttpClient) {
+		return new RestTemplate(new BrokerClientHttpRequestFactory(brokerHttpClient));
+	}
+
+	// sslContext가 null이면 JDK 기본 신뢰 저장소를 사용 (벤치마크는 자체 서명 인증서를 신뢰하는 컨텍스트를 넘김)
+	public static PoolingHttpClientConnectionManager connectionManager(int maxTotal, int maxPerRoute,
+		long connectTimeoutMillis, long readTimeoutMillis, SSLContext sslContext) {
+		PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxTotal)
+			.setMaxConnPerRoute(maxPerRoute)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+				.setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+				.setValidateAfterInactivity(TimeValue.ofSeconds(2))
+				.build());
+		if (sslContext != null) {
+			builder.setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create()
+				.setSslContext(sslContext)
+				.build());
+		}
+		return builder.build();
+	}
+
+	public static CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+		long connectionRequestTimeoutMillis, long idleEvictSeconds) {
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+				.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+			.build();
+	}
+}
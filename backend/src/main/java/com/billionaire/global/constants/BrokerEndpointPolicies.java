@@ -0,0 +1,42 @@
+package com.billionaire.global.constants;
+
+import java.util.Map;
+
+import com.billionaire.global.dto.internal.EndpointPolicy;
+
+/**
+ * 증권사 API tr_id별 재시도/헤지 정책
+ * 조회(GET)는 같은 요청을 다시 보내도 결과가 같으므로 재시도하고, 주문은 중복 주문이 될 수 있어 재시도하지 않습니다.
+ * 일봉 조회는 백필에서 수천 번 호출되므로 느린 응답에 헤지 요청을 보냅니다.
+ */
+public final class BrokerEndpointPolicies {
+	private BrokerEndpointPolicies() {
+		throw new AssertionError("BrokerEndpointPolicies를 인스턴스화 할 수 없습니다");
+	}
+
+	// 목록에 없는 조회의 기본 정책
+	public static final EndpointPolicy DEFAULT_QUERY = new EndpointPolicy(3, 200, 2_000, 0);
+
+	private static final Map<String, EndpointPolicy> POLICIES = Map.of(
+		// 해외주식 매수/매도 주문
+		"TTTT1002U", EndpointPolicy.NO_RETRY,
+		"TTTT1006U", EndpointPolicy.NO_RETRY,
+		// 미체결 조회 (체결 대기 중 반복 호출하므로 짧게)
+		"TTTS3018R", new EndpointPolicy(2, 100, 500, 0),
+		// 잔고/증거금 조회
+		"TTTS3012R", new EndpointPolicy(3, 200, 2_000, 0),
+		"TTTC2101R", new EndpointPolicy(3, 200, 2_000, 0),
+		// 조건검색
+		"HHDFS76410000", new EndpointPolicy(3, 300, 3_000, 0),
+		// 종목/지수 일봉 조회
+		"FHKST03030100", new EndpointPolicy(4, 200, 3_000, 1_500)
+	);
+
+	// tr_id가 없는 호출(토큰 발급 등)은 조회가 아니므로 재시도하지 않음
+	public static EndpointPolicy of(String trId, boolean idempotent) {
+		if (trId == null) {
+			return idempotent ? DEFAULT_QUERY : EndpointPolicy.NO_RETRY;
+		}
+		return POLICIES.getOrDefault(trId, idempotent ? DEFAULT_QUERY : EndpointPolicy.NO_RETRY);
+	}
+}
@@ -1,5 +1,7 @@
 package com.billionaire.global.constants;
 
+import java.time.LocalDate;
+
 public final class TradingConstants {
 
 	private TradingConstants() {
@@ -26,21 +28,64 @@ public final class TradingConstants {
 
 		// 시가총액 비교 기준 (90%)
 		public static final double MARKET_CAP_THRESHOLD = 0.9;
+
+		// 회복 조건 기준 (고점 이후 저점 대비 10% 초과 상승)
+		public static final double RECOVERY_RATIO = 1.1;
+
+		// 매수 주문에 필요한 현금을 계산할 때 더하는 수수료 여유분 (0.25%)
+		public static final double BUY_FEE_BUFFER_RATE = 0.0025;
 	}
 
 	/**
-	 * API 호출 관련 상수
+	 * 공황 판단 관련 상수
 	 */
-	public static final class ApiCall {
-		private ApiCall() {
-			throw new AssertionError("Apicall을 인스턴스화 할 수 없습니다");
+	public static final class Panic {
+		private Panic() {
+			throw new AssertionError("Panic을 인스턴스화 할 수 없습니다");
 		}
 
-		// API 호출 간격 (100ms)
-		public static final long CALL_INTERVAL_MS = 100L;
+		// 공황 하락 기준 변동률 (-3%, 소수점 둘째 자리 반올림 후 비교)
+		public static final double DROP_RATE_THRESHOLD = -3.0;
+
+		// 공황 판단 대상 하락 확인 기간 (2개월)
+		public static final int DROP_WINDOW_MONTHS = 2;
+
+		// 연속 하락으로 보는 하락 횟수
+		public static final int MULTIPLE_DROP_COUNT = 4;
+
+		// 공황 해제 기준 연속 상승 봉 수 (8거래일)
+		public static final int RECOVERY_RISING_DAYS = 8;
+	}
+
+	/**
+	 * 주문 체결 추적 관련 상수
+	 */
+	public static final class OrderFill {
+		private OrderFill() {
+			throw new AssertionError("OrderFill을 인스턴스화 할 수 없습니다");
+		}
+
+		// 미체결 조회 첫 간격 (체결이 확인되면 이 간격으로 되돌림)
+		public static final long INITIAL_POLL_MILLIS = 250;
+
+		// 체결 변화가 없을 때 간격을 늘리는 배수와 최대 간격
+		public static final double POLL_BACKOFF_MULTIPLIER = 2.0;
+		public static final long MAX_POLL_MILLIS = 4_000;
+
+		// 매도 체결 대기 최대 시간
+		public static final long FILL_TIMEOUT_MILLIS = 30_000;
+	}
+
+	/**
+	 * 시세 이력 관련 상수
+	 */
+	public static final class History {
+		private History() {
+			throw new AssertionError("History를 인스턴스화 할 수 없습니다");
+		}
 
-		// 기본 대기 시간 (0.1초)
-		public static final double DEFAULT_WAIT_SECONDS = 0.1;
+		// 시세 이력 수집 시작일
+		public static final LocalDate START_DATE = LocalDate.of(2008, 1, 2);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.billionaire.global.dto.internal;
+
+/**
+ * 증권사 API 엔드포인트(tr_id) 하나의 재시도/헤지 정책
+ * maxAttempts가 1이면 재시도하지 않고, hedgeAfterMillis가 0이면 헤지 요청을 보내지 않습니다.
+ */
+public record EndpointPolicy(
+	int maxAttempts,
+	long baseBackoffMillis,
+	long maxBackoffMillis,
+	long hedgeAfterMillis
+) {
+	// 주문처럼 두 번 보내면 안 되는 호출
+	public static final EndpointPolicy NO_RETRY = new EndpointPolicy(1, 0, 0, 0);
+
+	public boolean isHedged() {
+		return hedgeAfterMillis > 0;
+	}
+}
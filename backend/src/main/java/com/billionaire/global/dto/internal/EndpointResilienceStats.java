@@ -0,0 +1,24 @@
+package com.billionaire.global.dto.internal;
+
+import com.billionaire.global.type.CircuitState;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record EndpointResilienceStats(
+	String endpoint,
+	CircuitState state,
+	int consecutiveFailures,
+	long callCount,
+	long successCount,
+	long failureCount,
+	long retryCount,
+	long hedgeCount,
+	long hedgeWinCount,
+	long hedgeSkipCount,
+	long shortCircuitCount
+) {
+}
@@ -0,0 +1,20 @@
+package com.billionaire.global.dto.internal;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+/**
+ * 호스트(경로)별 커넥션 풀 상태. route가 "total"이면 전체 합계입니다.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record HttpPoolRouteStats(
+	String route,
+	int leased,
+	int available,
+	int pending,
+	int max
+) {
+}
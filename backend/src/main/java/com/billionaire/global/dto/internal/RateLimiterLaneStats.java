@@ -0,0 +1,18 @@
+package com.billionaire.global.dto.internal;
+
+import com.billionaire.global.type.ApiPriority;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Builder;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public record RateLimiterLaneStats(
+	ApiPriority priority,
+	long acquiredCount,
+	int waitingCount,
+	double averageWaitMillis,
+	double maxWaitMillis
+) {
+}
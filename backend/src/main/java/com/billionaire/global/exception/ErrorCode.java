@@ -38,6 +38,15 @@ public enum ErrorCode {
 	HIGHEST_PRICE_NOT_FOUND(HttpStatus.NOT_FOUND, "ST004", "최고가 데이터를 찾을 수 없습니다."),
 	LOWEST_PRICE_NOT_FOUND(HttpStatus.NOT_FOUND, "ST005", "최저가 데이터를 찾을 수 없습니다."),
 	HOLDING_STOCK_NOT_FOUND(HttpStatus.NOT_FOUND, "ST006", "보유 주식 정보를 찾을 수 없습니다."),
+	INVALID_BACKTEST_PARAMETER(HttpStatus.BAD_REQUEST, "ST007", "유효하지 않은 백테스트 파라미터입니다."),
+	BACKTEST_HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "ST008", "백테스트 기간의 시세 이력이 없습니다."),
+	REBALANCE_PREVIEW_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "ST009", "리밸런싱 미리보기에 실패했습니다."),
+
+	// History
+	BACKFILL_TICKERS_EMPTY(HttpStatus.BAD_REQUEST, "H001", "백필할 종목이 없습니다."),
+	BACKFILL_UNIVERSE_LOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "H002", "백필 대상 종목을 불러오지 못했습니다."),
+	INVALID_HISTORY_RESOLUTION(HttpStatus.BAD_REQUEST, "H003", "유효하지 않은 시세 단위입니다."),
+	INVALID_HISTORY_RANGE(HttpStatus.BAD_REQUEST, "H004", "조회 시작일이 종료일보다 늦습니다."),
 
 	// Listing
 	LISTING_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "L001", "상장 종목 데이터 파일을 찾을 수 없습니다."),
@@ -51,6 +60,7 @@ public enum ErrorCode {
 	API_REQUEST_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "E004", "API 요청이 실패했습니다."),
 	INVALID_API_URL(HttpStatus.BAD_REQUEST, "E005", "유효하지 않은 API URL입니다."),
 	INVALID_API_RESPONSE_TYPE(HttpStatus.BAD_REQUEST, "E006", "유효하지 않은 API 응답 타입입니다."),
+	API_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "E007", "증권사 API 장애로 호출을 잠시 차단했습니다."),
 
 	// Token Utils
 	TOKEN_INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "T003", "유효하지 않은 액세스 토큰입니다."),
@@ -0,0 +1,27 @@
+package com.billionaire.global.type;
+
+/**
+ * 증권사 API 호출 결과 분류 (지표 태그)
+ */
+public enum ApiCallOutcome {
+	// 2xx 응답
+	SUCCESS,
+	// 429 응답
+	RATE_LIMITED,
+	// 429를 제외한 4xx 응답
+	CLIENT_ERROR,
+	// 5xx 응답
+	SERVER_ERROR,
+	// 연결 실패, 타임아웃, 응답 읽기 오류
+	IO_ERROR,
+	// 회로 차단기로 호출하지 않음
+	CIRCUIT_OPEN,
+	// 헤지 경쟁에서 다른 요청이 먼저 성공해 중단함
+	CANCELLED,
+	// 그 외 오류
+	ERROR;
+
+	public String tag() {
+		return name().toLowerCase();
+	}
+}
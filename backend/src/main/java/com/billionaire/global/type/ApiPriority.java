@@ -0,0 +1,13 @@
+package com.billionaire.global.type;
+
+/**
+ * 증권사 API 호출 우선순위 (값이 작을수록 먼저 처리)
+ */
+public enum ApiPriority {
+	// 주문, 미체결 조회
+	ORDER,
+	// 잔고, 종목 검증 등 일반 조회
+	NORMAL,
+	// 일봉 이력 수집
+	BACKFILL
+}
@@ -0,0 +1,13 @@
+package com.billionaire.global.type;
+
+/**
+ * 증권사 API 엔드포인트별 회로 차단기 상태
+ */
+public enum CircuitState {
+	// 정상 호출
+	CLOSED,
+	// 연속 실패로 호출 차단 (즉시 실패)
+	OPEN,
+	// 차단 시간이 지나 시험 호출 한 건만 허용
+	HALF_OPEN
+}
@@ -2,28 +2,49 @@ package com.billionaire.global.util;
 
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.billionaire.global.constants.BrokerEndpointPolicies;
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.type.ApiCallOutcome;
+import com.billionaire.global.type.ApiPriority;
 import com.billionaire.global.util.exception.ApiRequestFailedException;
 import com.billionaire.global.util.exception.ExternalApiErrorException;
 import com.billionaire.global.util.exception.InvalidApiUrlException;
 import com.billionaire.global.util.exception.InvalidApiResponseTypeException;
 
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ApiUtils {
 
-	private final RestTemplate restTemplate = new RestTemplate();
+	private static final String TR_ID_HEADER = "tr_id";
+
+	// 커넥션 풀을 쓰는 클라이언트 (HttpClientConfig)
+	private final RestTemplate brokerRestTemplate;
+	private final BrokerResilience brokerResilience;
+	private final ExecutorService brokerAsyncExecutor;
+	private final BrokerMetrics brokerMetrics;
 
 	public <T> ResponseEntity<T> getRequest(HttpHeaders headers, String url, Map<String, String> queryParams, Class<T> responseType) {
+		return getRequest(ApiPriority.NORMAL, headers, url, queryParams, responseType);
+	}
+
+	public <T> ResponseEntity<T> getRequest(ApiPriority priority, HttpHeaders headers, String url, Map<String, String> queryParams, Class<T> responseType) {
 		validateInputs(url, responseType);
-		
+
 		try {
 			UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromHttpUrl(url);
 			if (queryParams != null) {
@@ -32,8 +53,40 @@ public class ApiUtils {
 			String finalUrl = uriComponentsBuilder.toUriString();
 			HttpEntity<String> requestEntity = new HttpEntity<>(headers);
 
-			return restTemplate.exchange(finalUrl, HttpMethod.GET, requestEntity, responseType);
-			
+			return send(priority, HttpMethod.GET, trIdOf(headers), url, true,
+				() -> brokerRestTemplate.exchange(finalUrl, HttpMethod.GET, requestEntity, responseType));
+
+		} catch (BusinessException e) {
+			throw e;
+		} catch (RestClientException e) {
+			throw new ApiRequestFailedException();
+		} catch (Exception e) {
+			throw new ExternalApiErrorException();
+		}
+	}
+
+	// 응답 본문을 객체로 바인딩하지 않고 extractor가 스트림에서 직접 읽음 (예: ChartResponseParser)
+	public <T> T getRequestStreaming(ApiPriority priority, HttpHeaders headers, String url, Map<String, String> queryParams, ResponseExtractor<T> extractor) {
+		if (url == null || url.trim().isEmpty()) {
+			throw new InvalidApiUrlException();
+		}
+		if (extractor == null) {
+			throw new InvalidApiResponseTypeException();
+		}
+
+		try {
+			UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromHttpUrl(url);
+			if (queryParams != null) {
+				queryParams.forEach(uriComponentsBuilder::queryParam);
+			}
+			String finalUrl = uriComponentsBuilder.toUriString();
+
+			return send(priority, HttpMethod.GET, trIdOf(headers), url, true,
+				() -> brokerRestTemplate.execute(finalUrl, HttpMethod.GET,
+					request -> request.getHeaders().putAll(headers), extractor));
+
+		} catch (BusinessException e) {
+			throw e;
 		} catch (RestClientException e) {
 			throw new ApiRequestFailedException();
 		} catch (Exception e) {
@@ -41,14 +94,27 @@ public class ApiUtils {
 		}
 	}
 
+	// 응답을 기다리는 동안 호출 스레드를 막지 않음. 서로 독립적인 조회를 동시에 보낼 때 사용
+	public <T> CompletableFuture<ResponseEntity<T>> getRequestAsync(HttpHeaders headers, String url, Map<String, String> queryParams, Class<T> responseType) {
+		return getRequestAsync(ApiPriority.NORMAL, headers, url, queryParams, responseType);
+	}
+
+	public <T> CompletableFuture<ResponseEntity<T>> getRequestAsync(ApiPriority priority, HttpHeaders headers, String url, Map<String, String> queryParams, Class<T> responseType) {
+		return CompletableFuture.supplyAsync(
+			() -> getRequest(priority, headers, url, queryParams, responseType), brokerAsyncExecutor);
+	}
+
 	public <T> ResponseEntity<T> postRequest(String url, HttpHeaders headers, Map<String, String> requestBody, Class<T> responseType) {
 		validateInputs(url, responseType);
-		
+
 		try {
 			HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
-			
-			return restTemplate.exchange(url, HttpMethod.POST, requestEntity, responseType);
-			
+
+			return send(ApiPriority.NORMAL, HttpMethod.POST, trIdOf(headers), url, false,
+				() -> brokerRestTemplate.exchange(url, HttpMethod.POST, requestEntity, responseType));
+
+		} catch (BusinessException e) {
+			throw e;
 		} catch (RestClientException e) {
 			throw new ApiRequestFailedException();
 		} catch (Exception e) {
@@ -56,6 +122,33 @@ public class ApiUtils {
 		}
 	}
 
+	// 재시도/헤지 요청도 각각 호출 제한기 토큰을 받음. 호출 전체와 HTTP 요청 1회의 소요 시간을 각각 기록
+	private <T> T send(ApiPriority priority, HttpMethod method, String trId, String url, boolean idempotent, Supplier<T> request) {
+		String endpoint = endpointOf(trId, url);
+		Timer.Sample sample = brokerMetrics.start();
+		try {
+			T result = brokerResilience.execute(endpoint, BrokerEndpointPolicies.of(trId, idempotent), priority,
+				() -> brokerMetrics.timeRequest(endpoint, method, request));
+			brokerMetrics.recordCall(sample, endpoint, method, ApiCallOutcome.SUCCESS);
+			return result;
+		} catch (RuntimeException e) {
+			brokerMetrics.recordCall(sample, endpoint, method, BrokerMetrics.outcomeOf(e));
+			throw e;
+		}
+	}
+
+	private String trIdOf(HttpHeaders headers) {
+		return headers == null ? null : headers.getFirst(TR_ID_HEADER);
+	}
+
+	// 회로 차단기/지표는 tr_id 단위. tr_id가 없는 호출(토큰 발급 등)은 URL 경로로 구분
+	private String endpointOf(String trId, String url) {
+		if (trId != null && !trId.isBlank()) {
+			return trId;
+		}
+		return UriComponentsBuilder.fromHttpUrl(url).build().getPath();
+	}
+
 	private void validateInputs(String url, Class<?> responseType) {
 		if (url == null || url.trim().isEmpty()) {
 			throw new InvalidApiUrlException();
@@ -0,0 +1,87 @@
+package com.billionaire.global.util;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.billionaire.global.type.ApiCallOutcome;
+import com.billionaire.global.util.exception.ApiCircuitOpenException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 증권사 API 호출 지표 (tr_id, HTTP 메서드, 결과별 Timer)
+ * - broker.api.calls: ApiUtils 호출 하나 전체 (호출 제한 대기, 재시도 간격, 헤지 포함)
+ * - broker.api.requests: 실제로 보낸 HTTP 요청 1회 (재시도/헤지 요청은 각각 기록)
+ * 두 지표 모두 히스토그램 버킷을 내보내므로 Prometheus에서 histogram_quantile로 지연 분포를 볼 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BrokerMetrics {
+	public static final String CALLS = "broker.api.calls";
+	public static final String REQUESTS = "broker.api.requests";
+	private static final Duration MIN_EXPECTED_LATENCY = Duration.ofMillis(5);
+	private static final Duration MAX_EXPECTED_LATENCY = Duration.ofSeconds(30);
+
+	private final MeterRegistry meterRegistry;
+
+	public Timer.Sample start() {
+		return Timer.start(meterRegistry);
+	}
+
+	public void recordCall(Timer.Sample sample, String trId, HttpMethod method, ApiCallOutcome outcome) {
+		sample.stop(timer(CALLS, "증권사 API 호출 (호출 제한 대기, 재시도, 헤지 포함)", trId, method, outcome));
+	}
+
+	public <T> T timeRequest(String trId, HttpMethod method, Supplier<T> request) {
+		Timer.Sample sample = start();
+		ApiCallOutcome outcome = ApiCallOutcome.SUCCESS;
+		try {
+			return request.get();
+		} catch (RuntimeException e) {
+			outcome = RequestCancellation.isCurrentCancelled() ? ApiCallOutcome.CANCELLED : outcomeOf(e);
+			throw e;
+		} finally {
+			sample.stop(timer(REQUESTS, "증권사 API HTTP 요청 1회", trId, method, outcome));
+		}
+	}
+
+	public static ApiCallOutcome outcomeOf(Throwable e) {
+		if (e instanceof HttpClientErrorException.TooManyRequests) {
+			return ApiCallOutcome.RATE_LIMITED;
+		}
+		if (e instanceof HttpClientErrorException) {
+			return ApiCallOutcome.CLIENT_ERROR;
+		}
+		if (e instanceof HttpServerErrorException) {
+			return ApiCallOutcome.SERVER_ERROR;
+		}
+		if (e instanceof ResourceAccessException) {
+			return ApiCallOutcome.IO_ERROR;
+		}
+		if (e instanceof ApiCircuitOpenException) {
+			return ApiCallOutcome.CIRCUIT_OPEN;
+		}
+		return ApiCallOutcome.ERROR;
+	}
+
+	// 같은 이름/태그의 Timer는 레지스트리가 재사용함
+	private Timer timer(String name, String description, String trId, HttpMethod method, ApiCallOutcome outcome) {
+		return Timer.builder(name)
+			.description(description)
+			.tag("tr_id", trId)
+			.tag("method", method.name())
+			.tag("outcome", outcome.tag())
+			.publishPercentileHistogram()
+			.minimumExpectedValue(MIN_EXPECTED_LATENCY)
+			.maximumExpectedValue(MAX_EXPECTED_LATENCY)
+			.register(meterRegistry);
+	}
+}
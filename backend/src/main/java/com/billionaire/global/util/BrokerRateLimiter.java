@@ -0,0 +1,216 @@
+package com.billionaire.global.util;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.billionaire.global.dto.internal.RateLimiterLaneStats;
+import com.billionaire.global.type.ApiPriority;
+import com.billionaire.global.util.exception.ApiRateLimitExceededException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모든 증권사 API 호출이 공유하는 토큰 버킷 기반 호출 제한기
+ * 초당 permitsPerSecond개의 토큰이 채워지고 최대 burst개까지 쌓입니다.
+ * 대기 중인 호출은 우선순위(ApiPriority) → 도착 순서로 토큰을 받습니다.
+ */
+@Slf4j
+@Component
+public class BrokerRateLimiter {
+	private static final Comparator<Ticket> TICKET_ORDER =
+		Comparator.comparing(Ticket::priority).thenComparingLong(Ticket::sequence);
+
+	private final double permitsPerSecond;
+	private final double burst;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final PriorityQueue<Ticket> waiting = new PriorityQueue<>(TICKET_ORDER);
+	private final Map<ApiPriority, LaneStats> laneStats = new EnumMap<>(ApiPriority.class);
+	private final Map<ApiPriority, Timer> waitTimers = new EnumMap<>(ApiPriority.class);
+
+	private double tokens;
+	private long lastRefillNanos;
+	private long sequence;
+
+	private record Ticket(ApiPriority priority, long sequence) {
+	}
+
+	private static class LaneStats {
+		long acquiredCount;
+		long totalWaitNanos;
+		long maxWaitNanos;
+		int waitingCount;
+	}
+
+	public BrokerRateLimiter(
+		@Value("${app.broker.rate-limit.permits-per-second:15}") double permitsPerSecond,
+		@Value("${app.broker.rate-limit.burst:5}") double burst,
+		MeterRegistry meterRegistry) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = Math.max(1.0, burst);
+		this.tokens = this.burst;
+		this.lastRefillNanos = System.nanoTime();
+		for (ApiPriority priority : ApiPriority.values()) {
+			laneStats.put(priority, new LaneStats());
+		}
+		registerMetrics(meterRegistry);
+	}
+
+	public void acquire(ApiPriority priority) {
+		long startNanos = System.nanoTime();
+		long waitNanos;
+		lock.lock();
+		try {
+			Ticket ticket = new Ticket(priority, sequence++);
+			waiting.add(ticket);
+			laneStats.get(priority).waitingCount++;
+			// 새 티켓이 더 높은 우선순위일 수 있으므로 기존 대기자들이 다시 판단하도록 깨움
+			changed.signalAll();
+
+			try {
+				awaitTurn(ticket);
+			} finally {
+				waiting.remove(ticket);
+				laneStats.get(priority).waitingCount--;
+				changed.signalAll();
+			}
+
+			waitNanos = System.nanoTime() - startNanos;
+			recordWait(priority, waitNanos);
+		} finally {
+			lock.unlock();
+		}
+		waitTimers.get(priority).record(waitNanos, TimeUnit.NANOSECONDS);
+	}
+
+	// 기다리는 호출이 없고 토큰이 바로 있을 때만 가져감 (헤지 요청처럼 기다려서 보낼 가치가 없는 호출용)
+	public boolean tryAcquire(ApiPriority priority) {
+		lock.lock();
+		try {
+			refill();
+			if (!waiting.isEmpty() || tokens < 1.0) {
+				return false;
+			}
+			tokens -= 1.0;
+			recordWait(priority, 0L);
+		} finally {
+			lock.unlock();
+		}
+		waitTimers.get(priority).record(0L, TimeUnit.NANOSECONDS);
+		return true;
+	}
+
+	public List<RateLimiterLaneStats> getStats() {
+		lock.lock();
+		try {
+			return laneStats.entrySet().stream()
+				.map(entry -> RateLimiterLaneStats.builder()
+					.priority(entry.getKey())
+					.acquiredCount(entry.getValue().acquiredCount)
+					.waitingCount(entry.getValue().waitingCount)
+					.averageWaitMillis(entry.getValue().acquiredCount == 0 ? 0.0
+						: toMillis(entry.getValue().totalWaitNanos) / entry.getValue().acquiredCount)
+					.maxWaitMillis(toMillis(entry.getValue().maxWaitNanos))
+					.build())
+				.toList();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 우선순위별 토큰 대기 시간(broker.rate.limiter.wait)과 대기 중인 호출 수, 남은 토큰 수
+	private void registerMetrics(MeterRegistry meterRegistry) {
+		for (ApiPriority priority : ApiPriority.values()) {
+			waitTimers.put(priority, Timer.builder("broker.rate.limiter.wait")
+				.description("증권사 API 호출 제한기 토큰 대기 시간")
+				.tag("priority", priority.name())
+				.publishPercentileHistogram()
+				.maximumExpectedValue(Duration.ofSeconds(60))
+				.register(meterRegistry));
+			Gauge.builder("broker.rate.limiter.waiting", this, limiter -> limiter.waitingCount(priority))
+				.description("호출 제한기 토큰을 기다리는 호출 수")
+				.tag("priority", priority.name())
+				.register(meterRegistry);
+		}
+		Gauge.builder("broker.rate.limiter.tokens", this, BrokerRateLimiter::availableTokens)
+			.description("호출 제한기에 남은 토큰 수")
+			.register(meterRegistry);
+	}
+
+	private int waitingCount(ApiPriority priority) {
+		lock.lock();
+		try {
+			return laneStats.get(priority).waitingCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private double availableTokens() {
+		lock.lock();
+		try {
+			refill();
+			return tokens;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void awaitTurn(Ticket ticket) {
+		try {
+			while (true) {
+				refill();
+				boolean isHead = waiting.peek() == ticket;
+				if (isHead && tokens >= 1.0) {
+					tokens -= 1.0;
+					return;
+				}
+				if (isHead) {
+					changed.awaitNanos(nanosUntilNextToken());
+				} else {
+					changed.await();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("API 호출 제한 대기 중 인터럽트 발생 - priority: {}", ticket.priority());
+			throw new ApiRateLimitExceededException();
+		}
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		double elapsedSeconds = (now - lastRefillNanos) / (double)TimeUnit.SECONDS.toNanos(1);
+		tokens = Math.min(burst, tokens + elapsedSeconds * permitsPerSecond);
+		lastRefillNanos = now;
+	}
+
+	private long nanosUntilNextToken() {
+		double missing = 1.0 - tokens;
+		return Math.max(1L, (long)Math.ceil(missing / permitsPerSecond * TimeUnit.SECONDS.toNanos(1)));
+	}
+
+	private void recordWait(ApiPriority priority, long waitNanos) {
+		LaneStats stats = laneStats.get(priority);
+		stats.acquiredCount++;
+		stats.totalWaitNanos += waitNanos;
+		stats.maxWaitNanos = Math.max(stats.maxWaitNanos, waitNanos);
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
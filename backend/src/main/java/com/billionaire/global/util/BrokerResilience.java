@@ -0,0 +1,424 @@
+package com.billionaire.global.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.billionaire.global.dto.internal.EndpointPolicy;
+import com.billionaire.global.dto.internal.EndpointResilienceStats;
+import com.billionaire.global.type.ApiPriority;
+import com.billionaire.global.type.CircuitState;
+import com.billionaire.global.util.exception.ApiCircuitOpenException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 증권사 API 엔드포인트(tr_id)별 재시도, 회로 차단기, 헤지 요청
+ * 일시적 오류(5xx, 429, 연결/타임아웃)만 재시도하며, 재시도 간격은 지수적으로 늘린 상한 안에서 무작위로 고릅니다(full jitter).
+ * 일시적 오류가 연속 failure-threshold번 나면 open-millis 동안 호출하지 않고 바로 실패하고, 그 후 한 건을 시험 호출합니다.
+ * 헤지 정책이 있는 조회는 첫 요청을 보낸 뒤 hedgeAfterMillis 안에 끝나지 않으면 같은 요청을 한 번 더 보내 먼저 성공한 응답을 쓰고, 나머지 요청은 중단합니다.
+ * 첫 요청은 호출 스레드가 자신의 우선순위로 호출 제한기 토큰을 받아 직접 보냅니다.
+ * 헤지 요청은 토큰을 기다리지 않고 바로 얻을 수 있고 헤지 스레드(hedge-concurrency)가 남아 있을 때만 보내므로, 몰린 호출이 두 배로 늘지 않습니다.
+ */
+@Slf4j
+@Component
+public class BrokerResilience {
+	private final int failureThreshold;
+	private final long openMillis;
+	private final BrokerRateLimiter brokerRateLimiter;
+	private final ExecutorService hedgeExecutor;
+	private final ScheduledExecutorService hedgeTimer;
+	private final Semaphore hedgeBudget;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, EndpointState> states = new ConcurrentHashMap<>();
+
+	public BrokerResilience(
+		@Value("${app.broker.resilience.failure-threshold:5}") int failureThreshold,
+		@Value("${app.broker.resilience.open-millis:30000}") long openMillis,
+		@Value("${app.broker.resilience.hedge-concurrency:4}") int hedgeConcurrency,
+		BrokerRateLimiter brokerRateLimiter,
+		MeterRegistry meterRegistry) {
+		this.brokerRateLimiter = brokerRateLimiter;
+		this.meterRegistry = meterRegistry;
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.openMillis = openMillis;
+		this.hedgeExecutor = Executors.newFixedThreadPool(Math.max(1, hedgeConcurrency), new DaemonThreadFactory("broker-hedge-"));
+		this.hedgeTimer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("broker-hedge-timer-"));
+		this.hedgeBudget = new Semaphore(Math.max(1, hedgeConcurrency));
+	}
+
+	// 엔드포인트별 호출 상태와 누적 지표
+	private static class EndpointState {
+		CircuitState circuitState = CircuitState.CLOSED;
+		int consecutiveFailures;
+		long openedAtNanos;
+		boolean trialInFlight;
+		long callCount;
+		long successCount;
+		long failureCount;
+		long retryCount;
+		long hedgeCount;
+		long hedgeWinCount;
+		long hedgeSkipCount;
+		long shortCircuitCount;
+	}
+
+	// 헤지 요청 하나의 진행 상태. 첫 요청과 헤지 요청 중 먼저 성공한 쪽이 firstSuccess를 채움
+	private static class HedgedCall<T> {
+		final RequestCancellation primaryCancellation;
+		final CompletableFuture<T> firstSuccess = new CompletableFuture<>();
+		final CompletableFuture<T> hedgeOutcome = new CompletableFuture<>();
+		RequestCancellation hedgeCancellation;
+		boolean primaryDone;
+		boolean hedgeStarted;
+		boolean hedgeCancelled;
+
+		HedgedCall(RequestCancellation primaryCancellation) {
+			this.primaryCancellation = primaryCancellation;
+		}
+
+		// 첫 요청이 끝났음을 기록하고, 헤지 요청이 이미 시작되었는지 반환
+		synchronized boolean finishPrimary() {
+			primaryDone = true;
+			return hedgeStarted;
+		}
+
+		// 헤지 스레드에서 요청을 보내기 전에 호출. 이미 중단 요청을 받았으면 false
+		synchronized boolean attachHedge(RequestCancellation cancellation) {
+			hedgeCancellation = cancellation;
+			return !hedgeCancelled;
+		}
+
+		synchronized void cancelHedge() {
+			hedgeCancelled = true;
+			if (hedgeCancellation != null) {
+				hedgeCancellation.cancel();
+			}
+		}
+	}
+
+	/**
+	 * 시도마다 호출 스레드에서 priority로 호출 제한기 토큰을 받은 뒤 회로 차단기를 확인하고 call(HTTP 요청 1회)을 실행
+	 * 토큰을 먼저 받으므로, 낮은 우선순위 호출이 대기열에서 HALF_OPEN 시험 호출 자리를 잡고 다른 호출을 막지 않습니다.
+	 * 토큰 대기 중 인터럽트(ApiRateLimitExceededException)는 요청을 보내지 않은 것이므로 실패/회로 판단에 넣지 않습니다.
+	 * 회로가 열려 있으면 토큰을 기다리지 않고 바로 차단합니다.
+	 */
+	public <T> T execute(String endpoint, EndpointPolicy policy, ApiPriority priority, Supplier<T> call) {
+		EndpointState state = states.computeIfAbsent(endpoint, this::newState);
+		RuntimeException lastFailure = null;
+
+		for (int attempt = 1; attempt <= policy.maxAttempts(); attempt++) {
+			if (attempt > 1) {
+				countRetry(state);
+				if (!sleepBackoff(policy, attempt)) {
+					throw lastFailure;
+				}
+			}
+			rejectIfOpen(endpoint, state);
+			brokerRateLimiter.acquire(priority);
+			acquirePermission(endpoint, state);
+
+			try {
+				T result = policy.isHedged() ? callHedged(state, policy, priority, call) : call.get();
+				recordSuccess(state);
+				return result;
+			} catch (RuntimeException e) {
+				boolean transientFailure = isTransient(e);
+				recordFailure(endpoint, state, transientFailure);
+				if (!transientFailure) {
+					throw e;
+				}
+				lastFailure = e;
+				log.debug("증권사 API 일시적 오류 ({}) {}/{}: {}", endpoint, attempt, policy.maxAttempts(), e.getMessage());
+			}
+		}
+		throw lastFailure;
+	}
+
+	public List<EndpointResilienceStats> getStats() {
+		return states.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey())
+			.map(entry -> {
+				EndpointState state = entry.getValue();
+				synchronized (state) {
+					return EndpointResilienceStats.builder()
+						.endpoint(entry.getKey())
+						.state(currentState(state))
+						.consecutiveFailures(state.consecutiveFailures)
+						.callCount(state.callCount)
+						.successCount(state.successCount)
+						.failureCount(state.failureCount)
+						.retryCount(state.retryCount)
+						.hedgeCount(state.hedgeCount)
+						.hedgeWinCount(state.hedgeWinCount)
+						.hedgeSkipCount(state.hedgeSkipCount)
+						.shortCircuitCount(state.shortCircuitCount)
+						.build();
+				}
+			})
+			.toList();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		hedgeTimer.shutdownNow();
+		hedgeExecutor.shutdownNow();
+	}
+
+	// 5xx, 429, 연결 실패/타임아웃만 다시 시도할 가치가 있음
+	public static boolean isTransient(Throwable e) {
+		return e instanceof HttpServerErrorException
+			|| e instanceof HttpClientErrorException.TooManyRequests
+			|| e instanceof ResourceAccessException;
+	}
+
+	// 엔드포인트가 처음 호출될 때 회로 상태(0: CLOSED, 1: OPEN, 2: HALF_OPEN)와 재시도/헤지/차단 횟수 지표를 등록
+	private EndpointState newState(String endpoint) {
+		EndpointState state = new EndpointState();
+		Tags tags = Tags.of("tr_id", endpoint);
+		Gauge.builder("broker.api.circuit.state", state, s -> read(s, current -> currentState(current).ordinal()))
+			.description("증권사 API 회로 차단기 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+			.tags(tags)
+			.register(meterRegistry);
+		FunctionCounter.builder("broker.api.retries", state, s -> read(s, current -> current.retryCount))
+			.description("일시적 오류 후 재시도 횟수")
+			.tags(tags)
+			.register(meterRegistry);
+		FunctionCounter.builder("broker.api.hedges", state, s -> read(s, current -> current.hedgeCount))
+			.description("헤지 요청 횟수")
+			.tags(tags)
+			.register(meterRegistry);
+		FunctionCounter.builder("broker.api.hedge.wins", state, s -> read(s, current -> current.hedgeWinCount))
+			.description("헤지 요청이 먼저 성공한 횟수")
+			.tags(tags)
+			.register(meterRegistry);
+		FunctionCounter.builder("broker.api.hedges.skipped", state, s -> read(s, current -> current.hedgeSkipCount))
+			.description("호출 제한기 토큰이나 헤지 스레드가 없어 보내지 않은 헤지 요청 횟수")
+			.tags(tags)
+			.register(meterRegistry);
+		FunctionCounter.builder("broker.api.short.circuits", state, s -> read(s, current -> current.shortCircuitCount))
+			.description("회로 차단으로 호출하지 않은 횟수")
+			.tags(tags)
+			.register(meterRegistry);
+		return state;
+	}
+
+	private static double read(EndpointState state, ToDoubleFunction<EndpointState> field) {
+		synchronized (state) {
+			return field.applyAsDouble(state);
+		}
+	}
+
+	// 차단 시간이 남은 OPEN 상태면 호출 제한기 토큰을 받기 전에 차단
+	private void rejectIfOpen(String endpoint, EndpointState state) {
+		synchronized (state) {
+			if (currentState(state) != CircuitState.OPEN) {
+				return;
+			}
+			state.callCount++;
+			state.shortCircuitCount++;
+		}
+		log.warn("증권사 API 호출 차단 중 ({})", endpoint);
+		throw new ApiCircuitOpenException();
+	}
+
+	private void acquirePermission(String endpoint, EndpointState state) {
+		synchronized (state) {
+			state.callCount++;
+			CircuitState current = currentState(state);
+			if (current == CircuitState.CLOSED) {
+				return;
+			}
+			if (current == CircuitState.HALF_OPEN && !state.trialInFlight) {
+				state.circuitState = CircuitState.HALF_OPEN;
+				state.trialInFlight = true;
+				return;
+			}
+			state.shortCircuitCount++;
+		}
+		log.warn("증권사 API 호출 차단 중 ({})", endpoint);
+		throw new ApiCircuitOpenException();
+	}
+
+	// OPEN 상태에서 차단 시간이 지나면 HALF_OPEN으로 봄
+	private CircuitState currentState(EndpointState state) {
+		if (state.circuitState == CircuitState.OPEN
+			&& System.nanoTime() - state.openedAtNanos >= TimeUnit.MILLISECONDS.toNanos(openMillis)) {
+			return CircuitState.HALF_OPEN;
+		}
+		return state.circuitState;
+	}
+
+	private void recordSuccess(EndpointState state) {
+		synchronized (state) {
+			state.successCount++;
+			state.consecutiveFailures = 0;
+			state.trialInFlight = false;
+			state.circuitState = CircuitState.CLOSED;
+		}
+	}
+
+	// 4xx 같은 요청 자체의 오류는 회로 차단 판단에 넣지 않음
+	private void recordFailure(String endpoint, EndpointState state, boolean transientFailure) {
+		synchronized (state) {
+			state.failureCount++;
+			boolean wasTrial = state.trialInFlight;
+			state.trialInFlight = false;
+			if (!transientFailure) {
+				if (wasTrial) {
+					state.circuitState = CircuitState.CLOSED;
+				}
+				return;
+			}
+			state.consecutiveFailures++;
+			if (wasTrial || (state.circuitState == CircuitState.CLOSED && state.consecutiveFailures >= failureThreshold)) {
+				state.circuitState = CircuitState.OPEN;
+				state.openedAtNanos = System.nanoTime();
+				log.warn("⚠️ 증권사 API 회로 차단 ({}): 연속 실패 {}회, {}ms 동안 호출 차단",
+					endpoint, state.consecutiveFailures, openMillis);
+			}
+		}
+	}
+
+	private void countRetry(EndpointState state) {
+		synchronized (state) {
+			state.retryCount++;
+		}
+	}
+
+	// full jitter: [0, min(max, base * 2^(attempt-2))] 구간에서 무작위 대기. 인터럽트되면 false
+	private boolean sleepBackoff(EndpointPolicy policy, int attempt) {
+		long ceiling = Math.min(policy.maxBackoffMillis(), policy.baseBackoffMillis() << Math.min(attempt - 2, 20));
+		long delayMillis = ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+		try {
+			Thread.sleep(delayMillis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	// 첫 요청은 호출 스레드에서 보내고, 보낸 뒤 hedgeAfterMillis 안에 끝나지 않으면 헤지 스레드에서 두 번째 요청을 보냄
+	// 먼저 성공한 응답을 쓰고 다른 요청은 연결을 끊어 중단. 둘 다 실패하면 첫 요청의 오류
+	private <T> T callHedged(EndpointState state, EndpointPolicy policy, ApiPriority priority, Supplier<T> call) {
+		HedgedCall<T> hedged = new HedgedCall<>(RequestCancellation.bind());
+		ScheduledFuture<?> timer = hedgeTimer.schedule(() -> startHedge(state, hedged, priority, call),
+			policy.hedgeAfterMillis(), TimeUnit.MILLISECONDS);
+		T primaryResult = null;
+		RuntimeException primaryFailure = null;
+		try {
+			primaryResult = call.get();
+		} catch (RuntimeException e) {
+			primaryFailure = e;
+		} finally {
+			RequestCancellation.unbind();
+			timer.cancel(false);
+		}
+
+		boolean hedgeStarted = hedged.finishPrimary();
+		if (primaryFailure == null) {
+			if (hedged.firstSuccess.complete(primaryResult)) {
+				hedged.cancelHedge();
+			}
+			return FutureUtils.join(hedged.firstSuccess);
+		}
+		// 헤지 요청이 먼저 성공해 첫 요청을 중단한 경우
+		if (hedged.firstSuccess.isDone()) {
+			return FutureUtils.join(hedged.firstSuccess);
+		}
+		if (!hedgeStarted) {
+			throw primaryFailure;
+		}
+
+		try {
+			return hedged.hedgeOutcome.get();
+		} catch (ExecutionException e) {
+			throw primaryFailure;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			hedged.cancelHedge();
+			throw new IllegalStateException("헤지 요청 대기 중 인터럽트 발생", e);
+		}
+	}
+
+	// 타이머 스레드에서 실행. 헤지 스레드와 호출 제한기 토큰을 기다리지 않고 바로 얻을 수 있을 때만 헤지 요청을 시작
+	private <T> void startHedge(EndpointState state, HedgedCall<T> hedged, ApiPriority priority, Supplier<T> call) {
+		synchronized (hedged) {
+			if (hedged.primaryDone) {
+				return;
+			}
+			if (!hedgeBudget.tryAcquire()) {
+				countHedgeSkip(state);
+				return;
+			}
+			if (!brokerRateLimiter.tryAcquire(priority)) {
+				hedgeBudget.release();
+				countHedgeSkip(state);
+				return;
+			}
+			hedged.hedgeStarted = true;
+		}
+		synchronized (state) {
+			state.hedgeCount++;
+		}
+		try {
+			hedgeExecutor.execute(() -> runHedge(state, hedged, call));
+		} catch (RejectedExecutionException e) {
+			hedgeBudget.release();
+			hedged.hedgeOutcome.completeExceptionally(e);
+		}
+	}
+
+	private <T> void runHedge(EndpointState state, HedgedCall<T> hedged, Supplier<T> call) {
+		RequestCancellation cancellation = RequestCancellation.bind();
+		try {
+			if (!hedged.attachHedge(cancellation)) {
+				hedged.hedgeOutcome.cancel(false);
+				return;
+			}
+			T result = call.get();
+			if (hedged.firstSuccess.complete(result)) {
+				synchronized (state) {
+					state.hedgeWinCount++;
+				}
+				hedged.primaryCancellation.cancel();
+			}
+			hedged.hedgeOutcome.complete(result);
+		} catch (RuntimeException e) {
+			hedged.hedgeOutcome.completeExceptionally(e);
+		} finally {
+			RequestCancellation.unbind();
+			hedgeBudget.release();
+		}
+	}
+
+	private void countHedgeSkip(EndpointState state) {
+		synchronized (state) {
+			state.hedgeSkipCount++;
+		}
+	}
+}
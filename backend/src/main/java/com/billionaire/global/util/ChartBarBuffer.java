@@ -0,0 +1,116 @@
+package com.billionaire.global.util;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 증권사 일봉 응답 한 페이지를 epoch-day(int[])와 가격(double[]) 병렬 배열로 담는 버퍼
+ * 용량이 부족할 때만 배열을 늘리고, clear() 후에는 같은 배열을 다시 씁니다.
+ */
+public final class ChartBarBuffer {
+	private static final int DEFAULT_CAPACITY = 128;
+
+	private int[] epochDays;
+	private double[] prices;
+	private int size;
+
+	public ChartBarBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ChartBarBuffer(int capacity) {
+		this.epochDays = new int[Math.max(1, capacity)];
+		this.prices = new double[Math.max(1, capacity)];
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public void add(int epochDay, double price) {
+		if (size == epochDays.length) {
+			int capacity = epochDays.length * 2;
+			epochDays = Arrays.copyOf(epochDays, capacity);
+			prices = Arrays.copyOf(prices, capacity);
+		}
+		epochDays[size] = epochDay;
+		prices[size] = price;
+		size++;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int epochDayAt(int index) {
+		return epochDays[index];
+	}
+
+	public LocalDate dateAt(int index) {
+		return LocalDate.ofEpochDay(epochDays[index]);
+	}
+
+	public double priceAt(int index) {
+		return prices[index];
+	}
+
+	public LocalDate lastDate() {
+		return dateAt(size - 1);
+	}
+
+	// 날짜 오름차순 정렬. 응답은 보통 내림차순이므로 그 경우는 뒤집기만 함 (한 페이지는 100봉 이내라 그 외에는 삽입 정렬)
+	public void sortByDate() {
+		if (isAscending()) {
+			return;
+		}
+		if (isDescending()) {
+			for (int left = 0, right = size - 1; left < right; left++, right--) {
+				swap(left, right);
+			}
+			return;
+		}
+		for (int i = 1; i < size; i++) {
+			int epochDay = epochDays[i];
+			double price = prices[i];
+			int j = i - 1;
+			while (j >= 0 && epochDays[j] > epochDay) {
+				epochDays[j + 1] = epochDays[j];
+				prices[j + 1] = prices[j];
+				j--;
+			}
+			epochDays[j + 1] = epochDay;
+			prices[j + 1] = price;
+		}
+	}
+
+	private boolean isAscending() {
+		for (int i = 1; i < size; i++) {
+			if (epochDays[i - 1] > epochDays[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isDescending() {
+		for (int i = 1; i < size; i++) {
+			if (epochDays[i - 1] < epochDays[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void swap(int left, int right) {
+		int epochDay = epochDays[left];
+		epochDays[left] = epochDays[right];
+		epochDays[right] = epochDay;
+		double price = prices[left];
+		prices[left] = prices[right];
+		prices[right] = price;
+	}
+}
@@ -0,0 +1,166 @@
+package com.billionaire.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 증권사 일봉 응답(FHKST03030100)의 output2를 한 번의 토큰 순회로 ChartBarBuffer에 채우는 스트리밍 파서
+ * 행마다 DTO/문자열을 만들지 않고 stck_bsop_date와 ovrs_nmix_prpr의 문자 배열을 바로 숫자로 바꾸며, 다른 필드는 건너뜁니다.
+ * 영업일이나 가격이 비어 있는 행은 기존 처리와 같이 제외하고, 결과는 날짜 오름차순으로 정렬합니다.
+ */
+public final class ChartResponseParser {
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final String ROWS_FIELD = "output2";
+	private static final String DATE_FIELD = "stck_bsop_date";
+	private static final String PRICE_FIELD = "ovrs_nmix_prpr";
+	// 이보다 긴 가수(mantissa)나 소수 자릿수는 double로 정확히 나눌 수 없으므로 Double.parseDouble 사용
+	private static final int MAX_FAST_DIGITS = 15;
+	private static final double[] POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+	};
+
+	private ChartResponseParser() {
+		throw new AssertionError("유틸리티 클래스 - 인스턴스화하지 마십시오");
+	}
+
+	public static ChartBarBuffer parse(InputStream body) throws IOException {
+		ChartBarBuffer buffer = new ChartBarBuffer();
+		parse(body, buffer);
+		return buffer;
+	}
+
+	// buffer를 비우고 채움
+	public static void parse(InputStream body, ChartBarBuffer buffer) throws IOException {
+		buffer.clear();
+		try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("일봉 응답이 JSON 객체가 아닙니다");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (ROWS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+					readRows(parser, buffer);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		buffer.sortByDate();
+	}
+
+	private static void readRows(JsonParser parser, ChartBarBuffer buffer) throws IOException {
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			int epochDay = Integer.MIN_VALUE;
+			double price = Double.NaN;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (DATE_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+					epochDay = parseEpochDay(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+				} else if (PRICE_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+					price = parseDecimal(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+				} else if (PRICE_FIELD.equals(field) && value.isNumeric()) {
+					price = parser.getDoubleValue();
+				} else {
+					parser.skipChildren();
+				}
+			}
+			if (epochDay != Integer.MIN_VALUE && !Double.isNaN(price)) {
+				buffer.add(epochDay, price);
+			}
+		}
+	}
+
+	// yyyyMMdd → epoch-day. 비어 있으면 Integer.MIN_VALUE
+	static int parseEpochDay(char[] chars, int offset, int length) throws IOException {
+		int start = offset;
+		int end = offset + length;
+		while (start < end && chars[start] == ' ') {
+			start++;
+		}
+		while (end > start && chars[end - 1] == ' ') {
+			end--;
+		}
+		if (start == end) {
+			return Integer.MIN_VALUE;
+		}
+		if (end - start != 8) {
+			throw new IOException("영업일 형식 오류: " + new String(chars, offset, length));
+		}
+
+		int yyyyMMdd = 0;
+		for (int i = start; i < end; i++) {
+			int digit = chars[i] - '0';
+			if (digit < 0 || digit > 9) {
+				throw new IOException("영업일 형식 오류: " + new String(chars, offset, length));
+			}
+			yyyyMMdd = yyyyMMdd * 10 + digit;
+		}
+		try {
+			return (int)LocalDate.of(yyyyMMdd / 10_000, (yyyyMMdd / 100) % 100, yyyyMMdd % 100).toEpochDay();
+		} catch (RuntimeException e) {
+			throw new IOException("영업일 형식 오류: " + new String(chars, offset, length), e);
+		}
+	}
+
+	// 부호/정수부/소수부로만 된 가격을 문자열 없이 변환. 비어 있으면 NaN, 그 밖의 형식은 Double.parseDouble
+	static double parseDecimal(char[] chars, int offset, int length) throws IOException {
+		int index = offset;
+		int end = offset + length;
+		while (index < end && chars[index] == ' ') {
+			index++;
+		}
+		while (end > index && chars[end - 1] == ' ') {
+			end--;
+		}
+		if (index == end) {
+			return Double.NaN;
+		}
+
+		boolean negative = chars[index] == '-';
+		if (negative || chars[index] == '+') {
+			index++;
+		}
+		long mantissa = 0;
+		boolean sawDigit = false;
+		int digits = 0;
+		int fractionDigits = -1;
+		boolean simple = index < end;
+		for (int i = index; i < end && simple; i++) {
+			char c = chars[i];
+			if (c >= '0' && c <= '9') {
+				sawDigit = true;
+				if (mantissa != 0 || c != '0') {
+					digits++;
+				}
+				mantissa = mantissa * 10 + (c - '0');
+				if (fractionDigits >= 0) {
+					fractionDigits++;
+				}
+			} else if (c == '.' && fractionDigits < 0) {
+				fractionDigits = 0;
+			} else {
+				simple = false;
+			}
+			if (digits > MAX_FAST_DIGITS || fractionDigits > MAX_FAST_DIGITS) {
+				simple = false;
+			}
+		}
+
+		if (!simple || !sawDigit) {
+			try {
+				return Double.parseDouble(new String(chars, offset, length).trim());
+			} catch (NumberFormatException e) {
+				throw new IOException("가격 형식 오류: " + new String(chars, offset, length), e);
+			}
+		}
+		double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+		return negative ? -value : value;
+	}
+}
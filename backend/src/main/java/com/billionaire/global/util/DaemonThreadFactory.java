@@ -0,0 +1,14 @@
+package com.billionaire.global.util;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * "{prefix}{번호}" 이름의 데몬 스레드를 만드는 팩토리 (작업 풀이 애플리케이션 종료를 막지 않도록)
+ */
+public class DaemonThreadFactory extends CustomizableThreadFactory {
+
+	public DaemonThreadFactory(String threadNamePrefix) {
+		super(threadNamePrefix);
+		setDaemon(true);
+	}
+}
@@ -0,0 +1,28 @@
+package com.billionaire.global.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * CompletableFuture 결과 대기 유틸리티
+ */
+public final class FutureUtils {
+	private FutureUtils() {
+		throw new AssertionError("유틸리티 클래스 - 인스턴스화하지 마십시오");
+	}
+
+	// 비동기 작업의 예외(RuntimeException, Error)를 CompletionException으로 감싸지 않고 그대로 전달
+	public static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.billionaire.global.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.stereotype.Component;
+
+import com.billionaire.global.dto.internal.HttpPoolRouteStats;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 증권사 API 커넥션 풀의 호스트별 사용 현황 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpPoolMonitor {
+	private static final String TOTAL_ROUTE = "total";
+
+	private final PoolingHttpClientConnectionManager brokerConnectionManager;
+
+	public List<HttpPoolRouteStats> getStats() {
+		List<HttpPoolRouteStats> stats = new ArrayList<>();
+		stats.add(toStats(TOTAL_ROUTE, brokerConnectionManager.getTotalStats()));
+		brokerConnectionManager.getRoutes().stream()
+			.sorted(Comparator.comparing(HttpRoute::toString))
+			.forEach(route -> stats.add(toStats(route.getTargetHost().toHostString(), brokerConnectionManager.getStats(route))));
+		return stats;
+	}
+
+	private HttpPoolRouteStats toStats(String route, PoolStats poolStats) {
+		return HttpPoolRouteStats.builder()
+			.route(route)
+			.leased(poolStats.getLeased())
+			.available(poolStats.getAvailable())
+			.pending(poolStats.getPending())
+			.max(poolStats.getMax())
+			.build();
+	}
+}
@@ -0,0 +1,61 @@
+package com.billionaire.global.util;
+
+import org.apache.hc.core5.concurrent.Cancellable;
+
+/**
+ * 진행 중인 증권사 HTTP 요청을 다른 스레드에서 중단하기 위한 핸들
+ * bind한 스레드에서 만들어지는 요청(BrokerClientHttpRequestFactory)을 기억하고,
+ * cancel하면 그 요청의 연결을 끊어 응답을 기다리던 호출이 바로 실패하게 합니다. (헤지 경쟁에서 진 요청 정리용)
+ */
+public final class RequestCancellation {
+	private static final ThreadLocal<RequestCancellation> CURRENT = new ThreadLocal<>();
+
+	private Cancellable request;
+	private boolean cancelled;
+
+	private RequestCancellation() {
+	}
+
+	// 현재 스레드에 새 핸들을 연결. 요청이 끝나면 같은 스레드에서 unbind해야 함
+	public static RequestCancellation bind() {
+		RequestCancellation cancellation = new RequestCancellation();
+		CURRENT.set(cancellation);
+		return cancellation;
+	}
+
+	public static void unbind() {
+		CURRENT.remove();
+	}
+
+	// 현재 스레드에 연결된 핸들이 있으면 요청을 등록 (이미 취소되었으면 바로 중단)
+	public static void register(Cancellable request) {
+		RequestCancellation cancellation = CURRENT.get();
+		if (cancellation != null) {
+			cancellation.attach(request);
+		}
+	}
+
+	// 현재 스레드의 요청이 취소되어 실패한 것인지 (지표 분류용)
+	public static boolean isCurrentCancelled() {
+		RequestCancellation cancellation = CURRENT.get();
+		return cancellation != null && cancellation.isCancelled();
+	}
+
+	public synchronized void cancel() {
+		cancelled = true;
+		if (request != null) {
+			request.cancel();
+		}
+	}
+
+	public synchronized boolean isCancelled() {
+		return cancelled;
+	}
+
+	private synchronized void attach(Cancellable request) {
+		this.request = request;
+		if (cancelled) {
+			request.cancel();
+		}
+	}
+}
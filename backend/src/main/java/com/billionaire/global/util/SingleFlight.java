@@ -0,0 +1,32 @@
+package com.billionaire.global.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나의 실행으로 합치는 유틸리티
+ * 먼저 들어온 호출만 작업을 수행하고, 실행 중에 들어온 호출은 그 결과(또는 예외)를 함께 받습니다.
+ */
+public class SingleFlight<K, V> {
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	public V execute(K key, Supplier<V> supplier) {
+		CompletableFuture<V> created = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			return FutureUtils.join(existing);
+		}
+
+		try {
+			V result = supplier.get();
+			created.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, created);
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.billionaire.global.util.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class ApiCircuitOpenException extends BusinessException {
+
+	public ApiCircuitOpenException() {
+		super(ErrorCode.API_CIRCUIT_OPEN);
+	}
+}
@@ -0,0 +1,11 @@
+package com.billionaire.global.util.exception;
+
+import com.billionaire.global.exception.BusinessException;
+import com.billionaire.global.exception.ErrorCode;
+
+public class ApiRateLimitExceededException extends BusinessException {
+
+	public ApiRateLimitExceededException() {
+		super(ErrorCode.API_RATE_LIMIT_EXCEEDED);
+	}
+}
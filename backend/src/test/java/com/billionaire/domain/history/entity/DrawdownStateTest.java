@@ -0,0 +1,125 @@
+package com.billionaire.domain.history.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.billionaire.domain.history.dto.internal.DrawdownSnapshot;
+
+/**
+ * DrawdownState 증분 집계가 기존 전체 이력 스캔(RebalanceService.analyzeStock)과 같은 결과를 내는지 비교합니다.
+ * 가격을 0.5 단위로 맞춰 같은 최고가가 여러 번 나오는 경우(가장 먼저 도달한 고점 규칙)를 자주 만듭니다.
+ */
+class DrawdownStateTest {
+	private static final LocalDate START = LocalDate.of(2008, 1, 2);
+
+	@Test
+	void matchesFullScanOnGeneratedSeries() {
+		Random random = new Random(42);
+		for (int run = 0; run < 500; run++) {
+			double[] prices = randomWalk(random, 1 + random.nextInt(300));
+			DrawdownState state = DrawdownState.empty("TEST");
+
+			for (int i = 0; i < prices.length; i++) {
+				state.apply(START.plusDays(i), prices[i]);
+				assertMatchesScan(state.snapshot(), Arrays.copyOf(prices, i + 1));
+			}
+		}
+	}
+
+	@Test
+	void snapshotWithMatchesFullScanIncludingIntradayBar() {
+		Random random = new Random(7);
+		for (int run = 0; run < 500; run++) {
+			double[] prices = randomWalk(random, 1 + random.nextInt(300));
+			DrawdownState state = DrawdownState.empty("TEST");
+			for (int i = 0; i < prices.length - 1; i++) {
+				state.apply(START.plusDays(i), prices[i]);
+			}
+
+			DrawdownSnapshot before = state.snapshot();
+			DrawdownSnapshot withToday = state.snapshotWith(START.plusDays(prices.length - 1), prices[prices.length - 1]);
+
+			assertMatchesScan(withToday, prices);
+			assertThat(state.snapshot()).isEqualTo(before);
+		}
+	}
+
+	@Test
+	void keepsFirstMaximumWhenHighIsRepeated() {
+		DrawdownState state = DrawdownState.empty("TEST");
+		double[] prices = {10.0, 12.0, 9.0, 12.0, 11.0};
+		for (int i = 0; i < prices.length; i++) {
+			state.apply(START.plusDays(i), prices[i]);
+		}
+
+		DrawdownSnapshot snapshot = state.snapshot();
+		assertThat(snapshot.highestDate()).isEqualTo(START.plusDays(1));
+		assertThat(snapshot.lowestPriceAfterHighest()).isEqualTo(9.0);
+		assertMatchesScan(snapshot, prices);
+	}
+
+	@Test
+	void ignoresBarsAtOrBeforeLastAppliedDate() {
+		DrawdownState state = DrawdownState.empty("TEST");
+		state.apply(START, 10.0);
+		state.apply(START.plusDays(1), 8.0);
+		DrawdownSnapshot applied = state.snapshot();
+
+		state.apply(START.plusDays(1), 20.0);
+		state.apply(START, 1.0);
+
+		assertThat(state.snapshot()).isEqualTo(applied);
+		assertThat(state.snapshotWith(START.plusDays(1), 20.0)).isEqualTo(applied);
+	}
+
+	@Test
+	void singleBarHasNoLowAfterHigh() {
+		DrawdownState state = DrawdownState.empty("TEST");
+		assertThat(state.isEmpty()).isTrue();
+		assertThat(state.snapshot().highestPrice()).isNull();
+
+		state.apply(START, 10.0);
+
+		assertThat(state.snapshot().highestPrice()).isEqualTo(10.0);
+		assertThat(state.snapshot().lowestPriceAfterHighest()).isNull();
+	}
+
+	private static void assertMatchesScan(DrawdownSnapshot snapshot, double[] prices) {
+		int highestIndex = 0;
+		for (int i = 1; i < prices.length; i++) {
+			if (prices[i] > prices[highestIndex]) {
+				highestIndex = i;
+			}
+		}
+
+		assertThat(snapshot.highestPrice()).isEqualTo(prices[highestIndex]);
+		assertThat(snapshot.highestDate()).isEqualTo(START.plusDays(highestIndex));
+		assertThat(snapshot.currentPrice()).isEqualTo(prices[prices.length - 1]);
+
+		if (highestIndex == prices.length - 1) {
+			assertThat(snapshot.lowestPriceAfterHighest()).isNull();
+			return;
+		}
+
+		double lowestAfterHigh = prices[highestIndex + 1];
+		for (int i = highestIndex + 2; i < prices.length; i++) {
+			lowestAfterHigh = Math.min(lowestAfterHigh, prices[i]);
+		}
+		assertThat(snapshot.lowestPriceAfterHighest()).isEqualTo(lowestAfterHigh);
+	}
+
+	private static double[] randomWalk(Random random, int length) {
+		double[] prices = new double[length];
+		double price = 100.0;
+		for (int i = 0; i < length; i++) {
+			price = Math.max(0.5, price + (random.nextInt(9) - 4) * 0.5);
+			prices[i] = price;
+		}
+		return prices;
+	}
+}
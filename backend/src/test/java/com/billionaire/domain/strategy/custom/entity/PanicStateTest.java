@@ -0,0 +1,222 @@
+package com.billionaire.domain.strategy.custom.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.billionaire.domain.strategy.custom.dto.internal.PanicEvaluation;
+
+/**
+ * PanicState 증분 판단이 기존 OrderTriggerService의 전체 스캔(최근 3개월 일봉을 날짜 내림차순으로 훑는 방식)과 같은 결과를 내는지 비교합니다.
+ * 각 날짜를 "오늘"로 두고, 그날의 봉은 저장되지 않은 당일 시세(previewWith)로, 또는 저장된 봉(apply)으로 반영해 두 경로를 모두 확인합니다.
+ */
+class PanicStateTest {
+	private static final LocalDate START = LocalDate.of(2020, 1, 2);
+
+	@Test
+	void matchesFullScanOnGeneratedSeries() {
+		Random random = new Random(11);
+		for (int run = 0; run < 200; run++) {
+			List<Bar> bars = generate(random, 250);
+			assertMatchesScanAtEveryDate(bars);
+		}
+	}
+
+	@Test
+	void recoversOnlyAfterEightRisingBarsIncludingDropBar() {
+		List<Bar> bars = new ArrayList<>();
+		LocalDate date = START;
+		double price = 100.0;
+		for (int i = 0; i < 10; i++) {
+			bars.add(bar(bars, date, price));
+			date = date.plusDays(1);
+		}
+		// 하락일이 상승 구간의 첫 봉이 되고, 이후 7번 상승해야 8거래일 연속 상승
+		price = 95.0;
+		bars.add(bar(bars, date, price));
+		for (int i = 0; i < 7; i++) {
+			date = date.plusDays(1);
+			price += 0.5;
+			bars.add(bar(bars, date, price));
+		}
+
+		assertThat(previewAt(bars, bars.size() - 2).panic()).isTrue();
+		assertThat(previewAt(bars, bars.size() - 1).panic()).isFalse();
+		assertMatchesScanAtEveryDate(bars);
+	}
+
+	@Test
+	void matchesFullScanAtDropWindowEdges() {
+		// 하락 후 횡보만 이어지는 매일 봉 이력: 한 달/두 달 경계 전후의 모든 날짜에서 판단을 비교
+		for (int dropCount = 1; dropCount <= 5; dropCount++) {
+			List<Bar> bars = new ArrayList<>();
+			LocalDate date = START;
+			double price = 100.0;
+			for (int i = 0; i < 5; i++) {
+				bars.add(bar(bars, date, price));
+				date = date.plusDays(1);
+			}
+			for (int i = 0; i < dropCount; i++) {
+				price = price * 0.96;
+				bars.add(bar(bars, date, price));
+				date = date.plusDays(1 + i * 3);
+			}
+			for (int i = 0; i < 100; i++) {
+				bars.add(bar(bars, date, price));
+				date = date.plusDays(1);
+			}
+			assertMatchesScanAtEveryDate(bars);
+		}
+	}
+
+	@Test
+	void previewDoesNotChangeStoredState() {
+		PanicState state = PanicState.empty("COMP");
+		state.apply(START, 100.0, 0.0);
+		state.updateEvaluation(state.evaluate(START), START);
+
+		PanicState preview = state.previewWith(START.plusDays(1), 90.0, -10.0);
+		preview.updateEvaluation(preview.evaluate(START.plusDays(1)), START.plusDays(1));
+
+		assertThat(preview.isPanic()).isTrue();
+		assertThat(state.isPanic()).isFalse();
+		assertThat(state.getLastDate()).isEqualTo(START);
+		assertThat(state.getDropDates()).isEmpty();
+	}
+
+	private static void assertMatchesScanAtEveryDate(List<Bar> bars) {
+		PanicState stored = PanicState.empty("COMP");
+		for (int today = 0; today < bars.size(); today++) {
+			Bar bar = bars.get(today);
+			PanicEvaluation expected = scan(bars.subList(0, today + 1), bar.date());
+
+			PanicEvaluation preview = stored.previewWith(bar.date(), bar.price(), bar.rate()).evaluate(bar.date());
+			assertThat(preview).as("당일 시세 반영 %s", bar.date()).isEqualTo(expected);
+
+			stored.apply(bar.date(), bar.price(), bar.rate());
+			assertThat(stored.evaluate(bar.date())).as("저장된 봉 반영 %s", bar.date()).isEqualTo(expected);
+		}
+	}
+
+	private static PanicEvaluation previewAt(List<Bar> bars, int today) {
+		PanicState state = PanicState.empty("COMP");
+		for (int i = 0; i < today; i++) {
+			state.apply(bars.get(i).date(), bars.get(i).price(), bars.get(i).rate());
+		}
+		Bar bar = bars.get(today);
+		return state.previewWith(bar.date(), bar.price(), bar.rate()).evaluate(bar.date());
+	}
+
+	// 기존 OrderTriggerService.isPanic의 판단 (LocalDate.now()를 today로 바꿔 옮김)
+	private static PanicEvaluation scan(List<Bar> history, LocalDate today) {
+		List<Bar> data = history.stream()
+			.filter(bar -> !bar.date().isBefore(today.minusMonths(3)))
+			.sorted(Comparator.comparing(Bar::date).reversed())
+			.toList();
+
+		LocalDate fromDate = today.minusMonths(2).minusDays(1);
+		List<Bar> drops = new ArrayList<>();
+		for (Bar bar : data) {
+			if (!bar.date().isBefore(fromDate) && bar.rate() <= -3.0) {
+				drops.add(bar);
+			}
+		}
+
+		if (drops.isEmpty()) {
+			return new PanicEvaluation(false, "최근 2달간 -3% 하락 없음 → 공황 아님");
+		}
+
+		if (drops.size() >= 4) {
+			LocalDate first = drops.get(0).date();
+			LocalDate fourth = drops.get(3).date();
+			if (!first.isAfter(fourth.plusMonths(1).plusDays(1))) {
+				if (hasEightConsecutiveUps(data, drops.get(drops.size() - 1).date())) {
+					return new PanicEvaluation(false, "공황 해제 (8거래일 연속 상승)");
+				}
+				return new PanicEvaluation(true, "공황 상태 (4회 이상 발생)");
+			}
+			if (today.isAfter(first.plusMonths(1).plusDays(1))) {
+				return new PanicEvaluation(false, "공황 아님 (최근 하락 발생일로부터 한 달 이상 지남)");
+			}
+			return new PanicEvaluation(true, "공황 상태 (4회 이상이지만 1개월 내 조건 미충족)");
+		}
+
+		LocalDate dropDate = drops.get(0).date();
+		if (!dropDate.isBefore(today.minusMonths(1).minusDays(1))) {
+			if (hasEightConsecutiveUps(data, dropDate)) {
+				return new PanicEvaluation(false, "공황 아님 (8거래일 연속 상승)");
+			}
+			return new PanicEvaluation(true, "공황 상태 (한 달 내 -3% 발생, 해제조건 불충족)");
+		}
+		return new PanicEvaluation(false, "공황 아님 (최근 하락 오래됨)");
+	}
+
+	private static boolean hasEightConsecutiveUps(List<Bar> data, LocalDate fromDate) {
+		List<Bar> filtered = data.stream()
+			.filter(bar -> !bar.date().isBefore(fromDate))
+			.sorted(Comparator.comparing(Bar::date))
+			.toList();
+
+		for (int i = 0; i <= filtered.size() - 8; i++) {
+			boolean allUp = true;
+			for (int j = 1; j < 8; j++) {
+				if (filtered.get(i + j).price() <= filtered.get(i + j - 1).price()) {
+					allUp = false;
+					break;
+				}
+			}
+			if (allUp) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 급락 구간(-3% 이하가 며칠에 걸쳐 몰림), 연속 상승 구간, 잔잔한 구간을 섞고 거래일 간격도 1~4일로 흔듦
+	private static List<Bar> generate(Random random, int length) {
+		List<Bar> bars = new ArrayList<>(length);
+		LocalDate date = START;
+		double price = 100.0;
+		int risingLeft = 0;
+		for (int i = 0; i < length; i++) {
+			double change;
+			if (risingLeft > 0) {
+				change = 0.001 + random.nextDouble() * 0.01;
+				risingLeft--;
+			} else {
+				int regime = random.nextInt(20);
+				if (regime < 2) {
+					change = -(0.025 + random.nextDouble() * 0.03);
+				} else if (regime < 4) {
+					risingLeft = 5 + random.nextInt(6);
+					change = 0.002;
+				} else {
+					change = (random.nextInt(5) - 2) * 0.004;
+				}
+			}
+			price = Math.round(price * (1 + change) * 100.0) / 100.0;
+			bars.add(bar(bars, date, price));
+			date = date.plusDays(1 + (random.nextInt(10) == 0 ? random.nextInt(4) : 0));
+		}
+		return bars;
+	}
+
+	// 변동률은 응답처럼 전일 대비 소수점 둘째 자리까지
+	private static Bar bar(List<Bar> previous, LocalDate date, double price) {
+		if (previous.isEmpty()) {
+			return new Bar(date, price, 0.0);
+		}
+		double previousPrice = previous.get(previous.size() - 1).price();
+		double rate = Math.round((price - previousPrice) / previousPrice * 10000.0) / 100.0;
+		return new Bar(date, price, rate);
+	}
+
+	private record Bar(LocalDate date, double price, double rate) {
+	}
+}
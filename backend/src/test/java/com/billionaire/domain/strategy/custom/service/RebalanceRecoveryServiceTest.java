@@ -0,0 +1,153 @@
+package com.billionaire.domain.strategy.custom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.billionaire.domain.order.dto.internal.PendingOrder;
+import com.billionaire.domain.order.type.OrderType;
+import com.billionaire.domain.strategy.custom.entity.OrderJournal;
+import com.billionaire.domain.strategy.custom.type.JournalEntryType;
+
+/**
+ * 재시작 후 대조(RebalanceRecoveryService.reconcile)가 같은 종목의 다른 주문 체결분을 전송 확인으로 오인하지 않는지 확인합니다.
+ * 계획기는 한 종목에 회복 조건 주문과 하락 주문을 함께 낼 수 있으므로, 결과가 없는 주문과 접수된 주문이 같은 종목에 섞입니다.
+ */
+class RebalanceRecoveryServiceTest {
+	private static final String TICKER = "AAPL";
+
+	@Test
+	void replaysUnsentBuyWhenOnlyAckedBuyOfSameTickerFilled() {
+		OrderJournal acked = settled(1, OrderType.BUY, 5, "A1");
+		OrderJournal unsent = planned(2, OrderType.BUY, 3, 10);
+
+		RebalanceRecoveryService.Reconciliation reconciliation = RebalanceRecoveryService.reconcile(
+			List.of(unsent), List.of(acked), Map.of(), Map.of(TICKER, 15));
+
+		assertThat(reconciliation.confirmed()).isEmpty();
+		assertThat(reconciliation.unresolved()).containsExactly(unsent);
+	}
+
+	@Test
+	void confirmsBuyWhenHoldingMovedBeyondAckedBuys() {
+		OrderJournal acked = settled(1, OrderType.BUY, 5, "A1");
+		OrderJournal sent = planned(2, OrderType.BUY, 3, 10);
+
+		RebalanceRecoveryService.Reconciliation reconciliation = RebalanceRecoveryService.reconcile(
+			List.of(sent), List.of(acked), Map.of(), Map.of(TICKER, 18));
+
+		assertThat(reconciliation.unresolved()).isEmpty();
+		assertThat(reconciliation.confirmed()).hasSize(1);
+		assertThat(reconciliation.confirmed().get(0).planned()).isEqualTo(sent);
+		assertThat(reconciliation.confirmed().get(0).orderNumber()).isNull();
+	}
+
+	@Test
+	void countsOnlyFilledPartOfAckedOrderStillPending() {
+		OrderJournal acked = settled(1, OrderType.BUY, 5, "A1");
+		OrderJournal sent = planned(2, OrderType.BUY, 3, 10);
+		Map<String, PendingOrder> pendingOrders = Map.of("A1", new PendingOrder("A1", TICKER, OrderType.BUY, 5, 0, 5));
+
+		RebalanceRecoveryService.Reconciliation reconciliation = RebalanceRecoveryService.reconcile(
+			List.of(sent), List.of(acked), pendingOrders, Map.of(TICKER, 13));
+
+		assertThat(reconciliation.unresolved()).isEmpty();
+		assertThat(reconciliation.confirmed()).hasSize(1);
+	}
+
+	@Test
+	void doesNotClaimPendingOrderOfAckedOrder() {
+		OrderJournal acked = settled(1, OrderType.BUY, 5, "A1");
+		OrderJournal unsent = planned(2, OrderType.BUY, 5, 10);
+		Map<String, PendingOrder> pendingOrders = Map.of("A1", new PendingOrder("A1", TICKER, OrderType.BUY, 5, 0, 5));
+
+		RebalanceRecoveryService.Reconciliation reconciliation = RebalanceRecoveryService.reconcile(
+			List.of(unsent), List.of(acked), pendingOrders, Map.of(TICKER, 10));
+
+		assertThat(reconciliation.confirmed()).isEmpty();
+		assertThat(reconciliation.unresolved()).containsExactly(unsent);
+	}
+
+	@Test
+	void confirmsUnsentOrderFoundPendingAndCountsItsFill() {
+		OrderJournal firstSent = planned(1, OrderType.SELL, 4, 20);
+		OrderJournal secondUnsent = planned(2, OrderType.SELL, 6, 20);
+		Map<String, PendingOrder> pendingOrders = Map.of("B1", new PendingOrder("B1", TICKER, OrderType.SELL, 4, 2, 2));
+
+		RebalanceRecoveryService.Reconciliation reconciliation = RebalanceRecoveryService.reconcile(
+			List.of(firstSent, secondUnsent), List.of(), pendingOrders, Map.of(TICKER, 18));
+
+		assertThat(reconciliation.confirmed()).hasSize(1);
+		assertThat(reconciliation.confirmed().get(0).planned()).isEqualTo(firstSent);
+		assertThat(reconciliation.confirmed().get(0).orderNumber()).isEqualTo("B1");
+		assertThat(reconciliation.unresolved()).containsExactly(secondUnsent);
+	}
+
+	@Test
+	void attributesSellMovementOnlyBeyondAckedSells() {
+		OrderJournal acked = settled(1, OrderType.SELL, 5, "S1");
+		OrderJournal unsent = planned(2, OrderType.SELL, 5, 20);
+
+		assertThat(RebalanceRecoveryService.reconcile(List.of(unsent), List.of(acked), Map.of(), Map.of(TICKER, 15))
+			.unresolved()).containsExactly(unsent);
+		assertThat(RebalanceRecoveryService.reconcile(List.of(unsent), List.of(acked), Map.of(), Map.of(TICKER, 10))
+			.confirmed()).hasSize(1);
+	}
+
+	@Test
+	void attributesMovementToOneUnsentOrderAtATime() {
+		OrderJournal first = planned(1, OrderType.BUY, 5, 0);
+		OrderJournal second = planned(2, OrderType.BUY, 3, 0);
+
+		RebalanceRecoveryService.Reconciliation reconciliation = RebalanceRecoveryService.reconcile(
+			List.of(first, second), List.of(), Map.of(), Map.of(TICKER, 5));
+
+		assertThat(reconciliation.confirmed()).hasSize(1);
+		assertThat(reconciliation.confirmed().get(0).planned()).isEqualTo(first);
+		assertThat(reconciliation.unresolved()).containsExactly(second);
+	}
+
+	@Test
+	void replaysWhenHoldingBeforeIsUnknown() {
+		OrderJournal unsent = OrderJournal.builder()
+			.runId("run")
+			.entryType(JournalEntryType.PLANNED)
+			.sequence(1)
+			.ticker(TICKER)
+			.orderType(OrderType.BUY)
+			.quantity(5)
+			.build();
+
+		assertThat(RebalanceRecoveryService.reconcile(List.of(unsent), List.of(), Map.of(), Map.of(TICKER, 50))
+			.unresolved()).containsExactly(unsent);
+	}
+
+	private static OrderJournal planned(int sequence, OrderType orderType, int quantity, int holdingQuantityBefore) {
+		return OrderJournal.builder()
+			.runId("run")
+			.entryType(JournalEntryType.PLANNED)
+			.sequence(sequence)
+			.ticker(TICKER)
+			.orderType(orderType)
+			.quantity(quantity)
+			.price(100.0)
+			.holdingQuantityBefore(holdingQuantityBefore)
+			.build();
+	}
+
+	private static OrderJournal settled(int sequence, OrderType orderType, int quantity, String orderNumber) {
+		return OrderJournal.builder()
+			.runId("run")
+			.entryType(JournalEntryType.ACKED)
+			.sequence(sequence)
+			.ticker(TICKER)
+			.orderType(orderType)
+			.quantity(quantity)
+			.price(100.0)
+			.orderNumber(orderNumber)
+			.build();
+	}
+}
@@ -0,0 +1,102 @@
+package com.billionaire.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ChartBarBuffer.sortByDate가 응답 순서(보통 내림차순)와 관계없이 날짜 오름차순으로 정렬하고, 가격이 같은 날짜를 따라가는지 확인합니다.
+ */
+class ChartBarBufferTest {
+
+	@Test
+	void reversesDescendingPage() {
+		ChartBarBuffer buffer = new ChartBarBuffer(2);
+		for (int day = 100; day > 0; day--) {
+			buffer.add(day, day * 1.5);
+		}
+
+		buffer.sortByDate();
+
+		assertSorted(buffer, 100);
+		assertThat(buffer.epochDayAt(0)).isEqualTo(1);
+		assertThat(buffer.epochDayAt(99)).isEqualTo(100);
+	}
+
+	@Test
+	void keepsAscendingPage() {
+		ChartBarBuffer buffer = new ChartBarBuffer();
+		for (int day = 1; day <= 10; day++) {
+			buffer.add(day, day * 1.5);
+		}
+
+		buffer.sortByDate();
+
+		assertSorted(buffer, 10);
+	}
+
+	@Test
+	void sortsMixedPage() {
+		Random random = new Random(5);
+		for (int run = 0; run < 1000; run++) {
+			int size = random.nextInt(101);
+			int[] days = random.ints(size, 0, 200).distinct().toArray();
+			ChartBarBuffer buffer = new ChartBarBuffer();
+			for (int day : days) {
+				buffer.add(day, day * 1.5);
+			}
+
+			buffer.sortByDate();
+
+			int[] expected = Arrays.copyOf(days, days.length);
+			Arrays.sort(expected);
+			assertSorted(buffer, days.length);
+			for (int i = 0; i < expected.length; i++) {
+				assertThat(buffer.epochDayAt(i)).isEqualTo(expected[i]);
+			}
+		}
+	}
+
+	@Test
+	void sortsDescendingPageWithOneOutOfOrderBar() {
+		ChartBarBuffer buffer = new ChartBarBuffer();
+		int[] days = {10, 9, 8, 11, 7, 6};
+		for (int day : days) {
+			buffer.add(day, day * 1.5);
+		}
+
+		buffer.sortByDate();
+
+		assertSorted(buffer, days.length);
+		assertThat(buffer.epochDayAt(0)).isEqualTo(6);
+		assertThat(buffer.epochDayAt(days.length - 1)).isEqualTo(11);
+	}
+
+	@Test
+	void clearReusesBuffer() {
+		ChartBarBuffer buffer = new ChartBarBuffer(1);
+		buffer.add(3, 4.5);
+		buffer.add(2, 3.0);
+		buffer.clear();
+
+		assertThat(buffer.isEmpty()).isTrue();
+		buffer.sortByDate();
+		buffer.add(1, 1.5);
+		assertThat(buffer.size()).isEqualTo(1);
+		assertThat(buffer.priceAt(0)).isEqualTo(1.5);
+	}
+
+	// 날짜 오름차순이고 각 가격이 자기 날짜의 값(day * 1.5)인지
+	private static void assertSorted(ChartBarBuffer buffer, int size) {
+		assertThat(buffer.size()).isEqualTo(size);
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				assertThat(buffer.epochDayAt(i)).isGreaterThan(buffer.epochDayAt(i - 1));
+			}
+			assertThat(buffer.priceAt(i)).isEqualTo(buffer.epochDayAt(i) * 1.5);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.billionaire.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스트리밍 파서의 숫자/날짜 변환이 기존 처리(Double.parseDouble, LocalDate.parse)와 같은 값을 내는지 확인합니다.
+ * Jackson이 넘기는 문자 배열은 더 큰 버퍼의 일부이므로, 값 앞뒤에 다른 문자를 붙인 배열에서 offset/length로 읽습니다.
+ */
+class ChartResponseParserTest {
+
+	@Test
+	void parseDecimalMatchesParseDoubleOnGeneratedPrices() throws IOException {
+		Random random = new Random(23);
+		for (int run = 0; run < 100_000; run++) {
+			String text = randomDecimal(random);
+			assertThat(decimal(text)).as(text).isEqualTo(Double.parseDouble(text));
+		}
+	}
+
+	@Test
+	void parseDecimalFallsBackBeyondFifteenDigits() throws IOException {
+		String[] texts = {
+			"123456789012345",
+			"1234567890123456",
+			"12345678901234567890",
+			"0.123456789012345",
+			"0.1234567890123456789",
+			"9007199254740993",
+			"12345.678901234567",
+			"000000000000000000012.5"
+		};
+		for (String text : texts) {
+			assertThat(decimal(text)).as(text).isEqualTo(Double.parseDouble(text));
+		}
+	}
+
+	@Test
+	void parseDecimalHandlesSignsAndOtherFormats() throws IOException {
+		assertThat(decimal("-12.5")).isEqualTo(-12.5);
+		assertThat(decimal("+12.5")).isEqualTo(12.5);
+		assertThat(decimal("-0")).isEqualTo(-0.0);
+		assertThat(decimal("12.")).isEqualTo(12.0);
+		assertThat(decimal(".5")).isEqualTo(0.5);
+		assertThat(decimal("1.5e3")).isEqualTo(1500.0);
+		assertThat(decimal("  17000.25 ")).isEqualTo(17000.25);
+	}
+
+	@Test
+	void parseDecimalReturnsNaNForBlank() throws IOException {
+		assertThat(decimal("")).isNaN();
+		assertThat(decimal("   ")).isNaN();
+	}
+
+	@Test
+	void parseDecimalRejectsMalformedPrice() {
+		for (String text : new String[] {"abc", "-", ".", "1.2.3", "12,000"}) {
+			assertThatThrownBy(() -> decimal(text)).as(text).isInstanceOf(IOException.class);
+		}
+	}
+
+	@Test
+	void parseEpochDayMatchesLocalDate() throws IOException {
+		LocalDate date = LocalDate.of(2007, 12, 25);
+		for (int i = 0; i < 7000; i++) {
+			String text = String.format("%04d%02d%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+			assertThat(epochDay(text)).as(text).isEqualTo((int)date.toEpochDay());
+			date = date.plusDays(1);
+		}
+		assertThat(epochDay(" 20240229 ")).isEqualTo((int)LocalDate.of(2024, 2, 29).toEpochDay());
+	}
+
+	@Test
+	void parseEpochDayReturnsMinValueForBlank() throws IOException {
+		assertThat(epochDay("")).isEqualTo(Integer.MIN_VALUE);
+		assertThat(epochDay("        ")).isEqualTo(Integer.MIN_VALUE);
+	}
+
+	@Test
+	void parseEpochDayRejectsMalformedDate() {
+		for (String text : new String[] {"2024010", "202401051", "2024-1-05", "2024a105", "20241301", "20230229"}) {
+			assertThatThrownBy(() -> epochDay(text)).as(text).isInstanceOf(IOException.class);
+		}
+	}
+
+	@Test
+	void parseSkipsBlankRowsAndSortsAscending() throws IOException {
+		String json = """
+			{
+			  "rt_cd": "0",
+			  "output1": {"ovrs_nmix_prpr": "1.0"},
+			  "output2": [
+			    {"stck_bsop_date": "20240105", "ovrs_nmix_prpr": "16800.25", "mod_yn": "N"},
+			    {"stck_bsop_date": "20240104", "ovrs_nmix_prpr": ""},
+			    {"stck_bsop_date": "", "ovrs_nmix_prpr": "16700.5"},
+			    {"stck_bsop_date": "20240103", "ovrs_nmix_prpr": 16650.75},
+			    {"stck_bsop_date": "20240102", "ovrs_nmix_prpr": "16600", "extra": {"nested": [1, 2]}}
+			  ]
+			}
+			""";
+
+		ChartBarBuffer buffer = ChartResponseParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(buffer.size()).isEqualTo(3);
+		assertThat(buffer.dateAt(0)).isEqualTo(LocalDate.of(2024, 1, 2));
+		assertThat(buffer.priceAt(0)).isEqualTo(16600.0);
+		assertThat(buffer.dateAt(1)).isEqualTo(LocalDate.of(2024, 1, 3));
+		assertThat(buffer.priceAt(1)).isEqualTo(16650.75);
+		assertThat(buffer.lastDate()).isEqualTo(LocalDate.of(2024, 1, 5));
+		assertThat(buffer.priceAt(2)).isEqualTo(16800.25);
+	}
+
+	private static double decimal(String text) throws IOException {
+		char[] chars = embed(text);
+		return ChartResponseParser.parseDecimal(chars, 3, text.length());
+	}
+
+	private static int epochDay(String text) throws IOException {
+		char[] chars = embed(text);
+		return ChartResponseParser.parseEpochDay(chars, 3, text.length());
+	}
+
+	// 앞뒤에 숫자를 붙여 offset/length 밖을 읽으면 값이 달라지게 함
+	private static char[] embed(String text) {
+		return ("987" + text + "654").toCharArray();
+	}
+
+	// 응답 형식의 가격: 정수부 1~7자리, 소수부 0~4자리, 가끔 부호와 앞자리 0
+	private static String randomDecimal(Random random) {
+		StringBuilder text = new StringBuilder();
+		if (random.nextInt(10) == 0) {
+			text.append(random.nextBoolean() ? '-' : '+');
+		}
+		if (random.nextInt(20) == 0) {
+			text.append('0');
+		}
+		text.append(random.nextInt(10_000_000));
+		int fractionDigits = random.nextInt(5);
+		if (fractionDigits > 0) {
+			text.append('.');
+			for (int i = 0; i < fractionDigits; i++) {
+				text.append(random.nextInt(10));
+			}
+		}
+		return text.toString();
+	}
+}